@@ -0,0 +1,59 @@
+package fhict.boards.security.auth;
+
+import fhict.boards.domain.enums.AccessRole;
+import fhict.boards.security.token.AccessToken;
+import fhict.boards.security.token.AccessTokenSerializerImpl;
+import fhict.boards.security.token.RevokedSessions;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Clock;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of authenticating a request with a reused access token, with and without the verified-token cache.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthenticationRequestFilterBenchmark {
+    private static final String SECRET = Base64.getEncoder().encodeToString(new byte[64]);
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    @Param({"0", "10000"})
+    private long cacheSize;
+
+    private AuthenticationRequestFilter filter;
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        AccessTokenSerializerImpl serializer = new AccessTokenSerializerImpl(SECRET, cacheSize, Clock.systemUTC());
+        String accessToken = serializer.encode(AccessToken.builder()
+                .subject("user@boards.dev")
+                .userId(1L)
+                .role(AccessRole.USER)
+                .build());
+
+        filter = new AuthenticationRequestFilter(serializer, new RevokedSessions());
+        request = new MockHttpServletRequest("GET", "/projects");
+        request.addHeader("Authorization", "Bearer " + accessToken);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse authenticateRequest() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        request.removeAttribute(AuthenticationRequestFilter.class.getName() + ".FILTERED");
+        filter.doFilter(request, response, NO_OP_CHAIN);
+        SecurityContextHolder.clearContext();
+        return response;
+    }
+}
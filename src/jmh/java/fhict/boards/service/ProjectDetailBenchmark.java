@@ -0,0 +1,152 @@
+package fhict.boards.service;
+
+import fhict.boards.BoardsApplication;
+import fhict.boards.domain.dto.ProjectResponse;
+import fhict.boards.domain.enums.*;
+import fhict.boards.repository.IssueRepository;
+import fhict.boards.repository.MemberRepository;
+import fhict.boards.repository.ProjectRepository;
+import fhict.boards.repository.UserRepository;
+import fhict.boards.repository.entity.Issue;
+import fhict.boards.repository.entity.Member;
+import fhict.boards.repository.entity.Project;
+import fhict.boards.repository.entity.User;
+import fhict.boards.security.token.AccessToken;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures loading the details of one project for a user that is a member of a growing number of projects,
+ * each holding a growing number of issues. The time should stay flat across both parameters.
+ * Runs against an in-memory H2 database inside a read-only transaction, like a request with open session in view.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjectDetailBenchmark {
+    @Param({"1", "50", "200"})
+    private int projectCount;
+
+    @Param({"0", "50"})
+    private int issuesPerProject;
+
+    private ConfigurableApplicationContext context;
+    private ProjectService projectService;
+    private TransactionTemplate readOnlyTransaction;
+    private AccessToken accessToken;
+    private Long projectId;
+
+    @Setup
+    public void setUp() throws Exception {
+        context = SpringApplication.run(BoardsApplication.class,
+                "--spring.datasource.url=jdbc:h2:mem:project-detail;MODE=MSSQLServer;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                "--jwt.secret=" + Base64.getEncoder().encodeToString(new byte[64]),
+                "--search.index.path=" + Files.createTempDirectory("project-detail-index"),
+                "--server.port=0");
+
+        projectService = context.getBean(ProjectService.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        User user = context.getBean(UserRepository.class).save(User.builder()
+                .name("Benchmark")
+                .email("benchmark@boards.dev")
+                .password("password")
+                .accessRole(AccessRole.USER)
+                .build());
+
+        ProjectRepository projectRepository = context.getBean(ProjectRepository.class);
+        MemberRepository memberRepository = context.getBean(MemberRepository.class);
+        IssueRepository issueRepository = context.getBean(IssueRepository.class);
+
+        for (int i = 0; i < projectCount; i++) {
+            Project project = projectRepository.save(Project.builder()
+                    .name("Project " + i)
+                    .key("P" + i)
+                    .build());
+            Member member = memberRepository.save(Member.builder()
+                    .user(user)
+                    .project(project)
+                    .joinedOn(LocalDate.now())
+                    .role(MemberRole.OWNER)
+                    .build());
+
+            List<Issue> issues = new ArrayList<>();
+            for (int j = 1; j <= issuesPerProject; j++) {
+                issues.add(Issue.builder()
+                        .project(project)
+                        .key(project.getKey() + "-" + j)
+                        .keyNumber((long) j)
+                        .title("Issue " + j)
+                        .type(IssueType.TASK)
+                        .status(IssueStatus.TO_DO)
+                        .priority(IssuePriority.MEDIUM)
+                        .createdOn(LocalDateTime.now())
+                        .createdBy(member)
+                        .build());
+            }
+            issueRepository.saveAll(issues);
+
+            // The last project is the one whose details are loaded
+            projectId = project.getId();
+        }
+
+        accessToken = AccessToken.builder()
+                .subject(user.getEmail())
+                .userId(user.getId())
+                .role(AccessRole.USER)
+                .build();
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                accessToken.getSubject(), null, List.of());
+        authentication.setDetails(accessToken);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDownRequest() {
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ProjectResponse getProjectById() {
+        return readOnlyTransaction.execute(status -> projectService.getProjectById(projectId));
+    }
+}
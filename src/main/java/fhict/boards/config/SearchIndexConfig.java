@@ -0,0 +1,21 @@
+package fhict.boards.config;
+
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Provides the directory the issue search index is stored in.
+ */
+@Configuration
+public class SearchIndexConfig {
+    @Bean(destroyMethod = "close")
+    public Directory searchIndexDirectory(@Value("${search.index.path}") String path) throws IOException {
+        return FSDirectory.open(Path.of(path));
+    }
+}
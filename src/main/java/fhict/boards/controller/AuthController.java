@@ -2,12 +2,15 @@ package fhict.boards.controller;
 
 import fhict.boards.domain.dto.LoginRequest;
 import fhict.boards.domain.dto.AccessTokenResponse;
+import fhict.boards.domain.dto.RefreshTokenRequest;
 import fhict.boards.domain.dto.SignupRequest;
+import fhict.boards.security.auth.AuthRateLimiter;
 import fhict.boards.service.AuthService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -22,15 +25,19 @@ import org.springframework.web.bind.annotation.RestController;
 @AllArgsConstructor
 public class AuthController {
     private final AuthService authService;
+    private final AuthRateLimiter authRateLimiter;
 
     @Operation(summary = "Sign up a new user")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "User created successfully"),
-            @ApiResponse(responseCode = "400", description = "Invalid request")
+            @ApiResponse(responseCode = "400", description = "Invalid request"),
+            @ApiResponse(responseCode = "429", description = "Too many signup attempts from this client or for this email")
     })
     @PostMapping("/signup")
     public ResponseEntity<AccessTokenResponse> signup(@Parameter(description = "Signup request")
-                                                      @RequestBody @Valid SignupRequest request) {
+                                                      @RequestBody @Valid SignupRequest request,
+                                                      HttpServletRequest httpRequest) {
+        authRateLimiter.acquire("signup", httpRequest.getRemoteAddr(), request.getEmail());
         AccessTokenResponse accessToken = authService.createUser(request);
 
         return ResponseEntity.status(HttpStatus.CREATED).body(accessToken);
@@ -39,13 +46,43 @@ public class AuthController {
     @Operation(summary = "Login a user")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "User logged in successfully"),
-            @ApiResponse(responseCode = "400", description = "Invalid request")
+            @ApiResponse(responseCode = "400", description = "Invalid request"),
+            @ApiResponse(responseCode = "429", description = "Too many login attempts from this client or for this email")
     })
     @PostMapping("/login")
     public ResponseEntity<AccessTokenResponse> login(@Parameter(description = "Login request")
-                                                     @RequestBody @Valid LoginRequest request) {
+                                                     @RequestBody @Valid LoginRequest request,
+                                                     HttpServletRequest httpRequest) {
+        authRateLimiter.acquire("login", httpRequest.getRemoteAddr(), request.getEmail());
         AccessTokenResponse accessToken = authService.loginUser(request);
 
         return ResponseEntity.ok(accessToken);
     }
+
+    @Operation(summary = "Get a new access token with a refresh token")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Access token refreshed successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid request"),
+            @ApiResponse(responseCode = "401", description = "Refresh token is invalid, expired or was already used")
+    })
+    @PostMapping("/refresh")
+    public ResponseEntity<AccessTokenResponse> refresh(@Parameter(description = "Refresh token request")
+                                                       @RequestBody @Valid RefreshTokenRequest request) {
+        AccessTokenResponse accessToken = authService.refreshAccessToken(request);
+
+        return ResponseEntity.ok(accessToken);
+    }
+
+    @Operation(summary = "Logout a user by ending the session of a refresh token")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "User logged out successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid request")
+    })
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@Parameter(description = "Refresh token request")
+                                       @RequestBody @Valid RefreshTokenRequest request) {
+        authService.logoutUser(request);
+
+        return ResponseEntity.noContent().build();
+    }
 }
@@ -2,7 +2,9 @@ package fhict.boards.controller;
 
 import fhict.boards.domain.dto.CommentRequest;
 import fhict.boards.domain.dto.CommentResponse;
+import fhict.boards.security.auth.RequiresProjectRole;
 import fhict.boards.service.CommentService;
+import fhict.boards.service.ProjectAccess;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -15,6 +17,8 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 
+import static fhict.boards.domain.enums.MemberRole.*;
+
 @RestController
 @RequestMapping("/projects/{projectId}/issues/{issueId}/comments")
 @AllArgsConstructor
@@ -27,11 +31,13 @@ public class CommentController {
             @ApiResponse(responseCode = "400", description = "Invalid request")
     })
     @PostMapping
+    @RequiresProjectRole({OWNER, ADMIN, DEVELOPER, VIEWER})
     public ResponseEntity<CommentResponse> createComment(
             @Parameter(description = "Project ID") @PathVariable Long projectId,
+            @Parameter(hidden = true) ProjectAccess projectAccess,
             @Parameter(description = "Issue ID") @PathVariable Long issueId,
             @Parameter(description = "Comment request") @RequestBody @Valid CommentRequest request) {
-        CommentResponse comment = commentService.createComment(projectId, issueId, request);
+        CommentResponse comment = commentService.createComment(projectAccess, issueId, request);
 
         return ResponseEntity.status(HttpStatus.CREATED).body(comment);
     }
@@ -42,10 +48,12 @@ public class CommentController {
             @ApiResponse(responseCode = "400", description = "Invalid request")
     })
     @GetMapping
+    @RequiresProjectRole({OWNER, ADMIN, DEVELOPER, VIEWER})
     public ResponseEntity<List<CommentResponse>> getComments(
             @Parameter(description = "Project ID") @PathVariable Long projectId,
+            @Parameter(hidden = true) ProjectAccess projectAccess,
             @Parameter(description = "Issue ID") @PathVariable Long issueId) {
-        List<CommentResponse> comments = commentService.getComments(projectId, issueId);
+        List<CommentResponse> comments = commentService.getComments(projectAccess, issueId);
 
         return ResponseEntity.ok(comments);
     }
@@ -56,12 +64,14 @@ public class CommentController {
             @ApiResponse(responseCode = "400", description = "Invalid request")
     })
     @PatchMapping("{commentId}")
+    @RequiresProjectRole({OWNER, ADMIN, DEVELOPER, VIEWER})
     public ResponseEntity<CommentResponse> editComment(
             @Parameter(description = "Project ID") @PathVariable Long projectId,
+            @Parameter(hidden = true) ProjectAccess projectAccess,
             @Parameter(description = "Issue ID") @PathVariable Long issueId,
             @Parameter(description = "Comment ID") @PathVariable Long commentId,
             @Parameter(description = "Comment request") @RequestBody @Valid CommentRequest request) {
-        CommentResponse comment = commentService.editComment(projectId, issueId, commentId, request);
+        CommentResponse comment = commentService.editComment(projectAccess, issueId, commentId, request);
 
         return ResponseEntity.ok(comment);
     }
@@ -72,11 +82,13 @@ public class CommentController {
             @ApiResponse(responseCode = "400", description = "Invalid request")
     })
     @DeleteMapping("{commentId}")
+    @RequiresProjectRole({OWNER, ADMIN, DEVELOPER, VIEWER})
     public ResponseEntity<Void> deleteComment(
             @Parameter(description = "Project ID") @PathVariable Long projectId,
+            @Parameter(hidden = true) ProjectAccess projectAccess,
             @Parameter(description = "Issue ID") @PathVariable Long issueId,
             @Parameter(description = "Comment ID") @PathVariable Long commentId) {
-        commentService.deleteComment(projectId, issueId, commentId);
+        commentService.deleteComment(projectAccess, issueId, commentId);
 
         return ResponseEntity.noContent().build();
     }
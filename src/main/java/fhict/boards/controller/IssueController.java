@@ -1,27 +1,42 @@
 package fhict.boards.controller;
 
+import fhict.boards.domain.dto.IssueBulkUpdateRequest;
+import fhict.boards.domain.dto.IssueChangesResponse;
 import fhict.boards.domain.dto.IssueCreateRequest;
+import fhict.boards.domain.dto.IssueFilter;
+import fhict.boards.domain.dto.IssuePageResponse;
+import fhict.boards.domain.dto.IssueRankRequest;
+import fhict.boards.domain.dto.IssueSearchResponse;
 import fhict.boards.domain.dto.IssueResponse;
 import fhict.boards.domain.dto.IssueStatusUpdateRequest;
 import fhict.boards.domain.dto.IssueUpdateRequest;
+import fhict.boards.security.auth.RequiresProjectRole;
 import fhict.boards.service.IssueService;
+import fhict.boards.service.ProjectAccess;
+import fhict.boards.service.SearchService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 
+import static fhict.boards.domain.enums.MemberRole.*;
+
 @RestController
 @RequestMapping("/projects/{projectId}/issues")
 @AllArgsConstructor
 public class IssueController {
     private final IssueService issueService;
+    private final SearchService searchService;
 
     @Operation(summary = "Create a new issue")
     @ApiResponses(value = {
@@ -29,69 +44,174 @@ public class IssueController {
             @ApiResponse(responseCode = "400", description = "Invalid request")
     })
     @PostMapping
+    @RequiresProjectRole({OWNER, ADMIN, DEVELOPER})
     public ResponseEntity<IssueResponse> createIssue(
             @Parameter(description = "Project ID") @PathVariable Long projectId,
+            @Parameter(hidden = true) ProjectAccess projectAccess,
             @Parameter(description = "Issue create request") @RequestBody @Valid IssueCreateRequest request) {
-        IssueResponse issue = issueService.createIssue(projectId, request);
+        IssueResponse issue = issueService.createIssue(projectAccess, request);
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(issue);
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(IssueETag.of(issue.getVersion())).body(issue);
     }
 
-    @Operation(summary = "Get all issues by project ID")
+    @Operation(summary = "Get a filtered and sorted page of issues by project ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successful operation"),
             @ApiResponse(responseCode = "400", description = "Invalid request")
     })
     @GetMapping
-    public ResponseEntity<List<IssueResponse>> getIssuesByProjectId(
-            @Parameter(description = "Project ID") @PathVariable Long projectId) {
-        List<IssueResponse> issues = issueService.getIssuesByProjectId(projectId);
+    public ResponseEntity<IssuePageResponse> getIssuesByProjectId(
+            @Parameter(description = "Project ID") @PathVariable Long projectId,
+            @ParameterObject IssueFilter filter,
+            @Parameter(description = "Sort order, e.g. priority,asc&sort=dueOn,desc. " +
+                    "Supported properties: id, createdOn, dueOn, status, type, priority") Sort sort,
+            @Parameter(description = "Cursor of the page to get") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum number of issues to return") @RequestParam(defaultValue = "50") int limit) {
+        IssuePageResponse issues = issueService.getIssuesByProjectId(projectId, filter, sort, cursor, limit);
 
         return ResponseEntity.ok(issues);
     }
 
+    @Operation(summary = "Search issues by their title, description and comments")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successful operation"),
+            @ApiResponse(responseCode = "400", description = "Invalid request")
+    })
+    @GetMapping("search")
+    public ResponseEntity<IssueSearchResponse> searchIssues(
+            @Parameter(description = "Project ID") @PathVariable Long projectId,
+            @Parameter(description = "Search query, supports \"phrases\", -exclusion and prefix*") @RequestParam String q,
+            @Parameter(description = "Cursor of the page to get") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum number of issues to return") @RequestParam(defaultValue = "20") int limit) {
+        IssueSearchResponse results = searchService.searchIssues(projectId, q, cursor, limit);
+
+        return ResponseEntity.ok(results);
+    }
+
+    @Operation(summary = "Get the issues created, changed or deleted since a sync token")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successful operation"),
+            @ApiResponse(responseCode = "400", description = "Invalid sync token")
+    })
+    @GetMapping("changes")
+    public ResponseEntity<IssueChangesResponse> getIssueChanges(
+            @Parameter(description = "Project ID") @PathVariable Long projectId,
+            @Parameter(description = "Sync token of the previous sync, omit to get all issues") @RequestParam(required = false) String since,
+            @Parameter(description = "Maximum number of changes to return") @RequestParam(defaultValue = "100") int limit) {
+        IssueChangesResponse changes = issueService.getIssueChanges(projectId, since, limit);
+
+        return ResponseEntity.ok(changes);
+    }
+
     @Operation(summary = "Get an issue by ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successful operation"),
+            @ApiResponse(responseCode = "304", description = "Issue has not changed since the version in If-None-Match"),
             @ApiResponse(responseCode = "400", description = "Invalid request")
     })
     @GetMapping("{issueId}")
     public ResponseEntity<IssueResponse> getIssueById(
             @Parameter(description = "Project ID") @PathVariable Long projectId,
-            @Parameter(description = "Issue ID") @PathVariable Long issueId) {
+            @Parameter(description = "Issue ID") @PathVariable Long issueId,
+            @Parameter(description = "ETag of the issue the client has") @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            long version = issueService.getIssueVersion(issueId, projectId);
+            if (IssueETag.matchesIfNoneMatch(ifNoneMatch, version)) {
+                return notModified(version);
+            }
+        }
         IssueResponse issue = issueService.getIssueById(issueId, projectId);
 
-        return ResponseEntity.ok(issue);
+        return ResponseEntity.ok().eTag(IssueETag.of(issue.getVersion())).body(issue);
+    }
+
+    @Operation(summary = "Get an issue by key")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successful operation"),
+            @ApiResponse(responseCode = "304", description = "Issue has not changed since the version in If-None-Match"),
+            @ApiResponse(responseCode = "404", description = "Issue not found")
+    })
+    @GetMapping("by-key/{key}")
+    public ResponseEntity<IssueResponse> getIssueByKey(
+            @Parameter(description = "Project ID") @PathVariable Long projectId,
+            @Parameter(description = "Issue key", example = "PROJ-12") @PathVariable String key,
+            @Parameter(description = "ETag of the issue the client has") @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            long version = issueService.getIssueVersionByKey(key, projectId);
+            if (IssueETag.matchesIfNoneMatch(ifNoneMatch, version)) {
+                return notModified(version);
+            }
+        }
+        IssueResponse issue = issueService.getIssueByKey(key, projectId);
+
+        return ResponseEntity.ok().eTag(IssueETag.of(issue.getVersion())).body(issue);
     }
 
     @Operation(summary = "Update an issue")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Issue updated successfully"),
-            @ApiResponse(responseCode = "400", description = "Invalid request")
+            @ApiResponse(responseCode = "400", description = "Invalid request"),
+            @ApiResponse(responseCode = "409", description = "Issue was changed by a concurrent request"),
+            @ApiResponse(responseCode = "412", description = "Issue was changed since the version in If-Match")
     })
     @PutMapping("{issueId}")
     public ResponseEntity<IssueResponse> updateIssue(
             @Parameter(description = "Project ID") @PathVariable Long projectId,
             @Parameter(description = "Issue ID") @PathVariable Long issueId,
+            @Parameter(description = "ETag of the issue the update is based on") @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Parameter(description = "Issue update request") @RequestBody @Valid IssueUpdateRequest request) {
-        IssueResponse issue = issueService.updateIssue(issueId, projectId, request);
+        IssueResponse issue = issueService.updateIssue(issueId, projectId, request, IssueETag.parseIfMatch(ifMatch));
 
-        return ResponseEntity.ok(issue);
+        return ResponseEntity.ok().eTag(IssueETag.of(issue.getVersion())).body(issue);
     }
 
     @Operation(summary = "Update issue status")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Issue status updated successfully"),
-            @ApiResponse(responseCode = "400", description = "Invalid request")
+            @ApiResponse(responseCode = "400", description = "Invalid request"),
+            @ApiResponse(responseCode = "409", description = "Issue was changed by a concurrent request"),
+            @ApiResponse(responseCode = "412", description = "Issue was changed since the version in If-Match")
     })
     @PatchMapping("{issueId}/status")
     public ResponseEntity<IssueResponse> updateStatus(
             @Parameter(description = "Project ID") @PathVariable Long projectId,
             @Parameter(description = "Issue ID") @PathVariable Long issueId,
+            @Parameter(description = "ETag of the issue the update is based on") @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Parameter(description = "Issue status update request") @RequestBody @Valid IssueStatusUpdateRequest request) {
-        IssueResponse issue = issueService.updateStatus(issueId, projectId, request.getStatus());
+        IssueResponse issue = issueService.updateStatus(issueId, projectId, request.getStatus(), IssueETag.parseIfMatch(ifMatch));
+
+        return ResponseEntity.ok().eTag(IssueETag.of(issue.getVersion())).body(issue);
+    }
+
+    @Operation(summary = "Move an issue to another position on the board")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Issue moved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid request"),
+            @ApiResponse(responseCode = "404", description = "Issue not found")
+    })
+    @PatchMapping("{issueId}/rank")
+    public ResponseEntity<IssueResponse> rankIssue(
+            @Parameter(description = "Project ID") @PathVariable Long projectId,
+            @Parameter(description = "Issue ID") @PathVariable Long issueId,
+            @Parameter(description = "Issue rank request") @RequestBody IssueRankRequest request) {
+        IssueResponse issue = issueService.rankIssue(issueId, projectId, request);
 
-        return ResponseEntity.ok(issue);
+        return ResponseEntity.ok().eTag(IssueETag.of(issue.getVersion())).body(issue);
+    }
+
+    @Operation(summary = "Change the status, priority or assignee of many issues at once")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Issues updated successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid request"),
+            @ApiResponse(responseCode = "404", description = "Issue or member not found")
+    })
+    @PatchMapping("bulk")
+    public ResponseEntity<List<IssueResponse>> updateIssues(
+            @Parameter(description = "Project ID") @PathVariable Long projectId,
+            @Parameter(description = "Issue bulk update request") @RequestBody @Valid IssueBulkUpdateRequest request) {
+        List<IssueResponse> issues = issueService.updateIssues(projectId, request);
+
+        return ResponseEntity.ok(issues);
     }
 
     @Operation(summary = "Delete an issue")
@@ -107,4 +227,11 @@ public class IssueController {
 
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * Answers a matching If-None-Match from the version alone, so the issue itself is only loaded when it changed.
+     */
+    private static ResponseEntity<IssueResponse> notModified(long version) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(IssueETag.of(version)).build();
+    }
 }
@@ -0,0 +1,56 @@
+package fhict.boards.controller;
+
+/**
+ * Converts between issue versions and the entity tags used for conditional issue requests.
+ */
+final class IssueETag {
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+
+    private IssueETag() {
+    }
+
+    static String of(long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Returns the version an If-Match header requires, or null if the header allows any version.
+     * A header that can't match any version, such as a weak or malformed tag, requires version -1.
+     */
+    static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals(ANY)) {
+            return null;
+        }
+
+        String tag = ifMatch.trim();
+        if (tag.length() < 2 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            return -1L;
+        }
+        try {
+            return Long.valueOf(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+
+    /**
+     * Returns whether an If-None-Match header matches the version, comparing weakly as the header requires.
+     */
+    static boolean matchesIfNoneMatch(String ifNoneMatch, long version) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+
+        for (String tag : ifNoneMatch.split(",")) {
+            tag = tag.trim();
+            if (tag.startsWith(WEAK_PREFIX)) {
+                tag = tag.substring(WEAK_PREFIX.length());
+            }
+            if (tag.equals(ANY) || tag.equals(of(version))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,6 +1,7 @@
 package fhict.boards.controller;
 
-import fhict.boards.domain.dto.NotificationResponse;
+import fhict.boards.domain.dto.NotificationPageResponse;
+import fhict.boards.domain.dto.UnreadNotificationCountResponse;
 import fhict.boards.service.NotificationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -10,27 +11,40 @@ import lombok.AllArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/users/{userId}/notifications")
 @AllArgsConstructor
 public class NotificationController {
     private final NotificationService notificationService;
 
-    @Operation(summary = "Get notifications by user ID")
+    @Operation(summary = "Get a page of notifications by user ID, newest first")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successful operation"),
             @ApiResponse(responseCode = "400", description = "Invalid request")
     })
     @GetMapping
-    public ResponseEntity<List<NotificationResponse>> getNotificationsByUserId(
-            @Parameter(description = "User ID") @PathVariable Long userId) {
-        List<NotificationResponse> notifications = notificationService.getNotificationsByUserId(userId);
+    public ResponseEntity<NotificationPageResponse> getNotificationsByUserId(
+            @Parameter(description = "User ID") @PathVariable Long userId,
+            @Parameter(description = "Cursor of the page to get") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum number of notifications to return") @RequestParam(defaultValue = "50") int limit) {
+        NotificationPageResponse notifications = notificationService.getNotificationsByUserId(userId, cursor, limit);
 
         return ResponseEntity.ok(notifications);
     }
 
+    @Operation(summary = "Get the number of unread notifications by user ID")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successful operation"),
+            @ApiResponse(responseCode = "400", description = "Invalid request")
+    })
+    @GetMapping("unread-count")
+    public ResponseEntity<UnreadNotificationCountResponse> getUnreadNotificationCount(
+            @Parameter(description = "User ID") @PathVariable Long userId) {
+        UnreadNotificationCountResponse count = notificationService.getUnreadNotificationCount(userId);
+
+        return ResponseEntity.ok(count);
+    }
+
     @Operation(summary = "Delete a notification")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "Notification deleted successfully"),
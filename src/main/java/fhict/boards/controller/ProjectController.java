@@ -1,6 +1,9 @@
 package fhict.boards.controller;
 
 import fhict.boards.domain.dto.*;
+import fhict.boards.security.auth.RequiresProjectRole;
+import fhict.boards.service.BoardService;
+import fhict.boards.service.ProjectAccess;
 import fhict.boards.service.ProjectService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -17,11 +20,15 @@ import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
 import java.util.List;
 
+import static fhict.boards.domain.enums.MemberRole.ADMIN;
+import static fhict.boards.domain.enums.MemberRole.OWNER;
+
 @RestController
 @RequestMapping("/projects")
 @AllArgsConstructor
 public class ProjectController {
     private final ProjectService projectService;
+    private final BoardService boardService;
 
     @Operation(summary = "Create a new project")
     @ApiResponses(value = {
@@ -50,16 +57,31 @@ public class ProjectController {
         return ResponseEntity.ok(projects);
     }
 
+    @Operation(summary = "Get the board of a project, with its issues grouped by status")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successful operation"),
+            @ApiResponse(responseCode = "404", description = "Project not found or user is not a member")
+    })
+    @GetMapping("{id}/board")
+    public ResponseEntity<BoardResponse> getBoard(
+            @Parameter(description = "Project ID") @PathVariable Long id) {
+        BoardResponse board = boardService.getBoard(id);
+
+        return ResponseEntity.ok(board);
+    }
+
     @Operation(summary = "Update project details")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Project details updated successfully"),
             @ApiResponse(responseCode = "400", description = "Invalid request")
     })
     @PatchMapping("{id}")
+    @RequiresProjectRole(value = {OWNER, ADMIN}, pathVariable = "id")
     public ResponseEntity<ProjectResponse> updateProjectDetails(
             @Parameter(description = "Project ID") @PathVariable Long id,
+            @Parameter(hidden = true) ProjectAccess projectAccess,
             @Parameter(description = "Project update request") @RequestBody @Valid ProjectUpdateRequest request) {
-        ProjectResponse project = projectService.updateProjectDetails(id, request);
+        ProjectResponse project = projectService.updateProjectDetails(projectAccess, request);
 
         return ResponseEntity.ok(project);
     }
@@ -70,10 +92,12 @@ public class ProjectController {
             @ApiResponse(responseCode = "400", description = "Invalid request")
     })
     @PatchMapping("{id}/icon")
+    @RequiresProjectRole(value = {OWNER, ADMIN}, pathVariable = "id")
     public ResponseEntity<byte[]> updateProjectIcon(
             @Parameter(description = "Project ID") @PathVariable Long id,
+            @Parameter(hidden = true) ProjectAccess projectAccess,
             @Parameter(description = "Image file") @RequestParam("image") MultipartFile file) throws IOException {
-        byte[] icon = projectService.updateProjectIcon(id, file);
+        byte[] icon = projectService.updateProjectIcon(projectAccess, file);
 
         return ResponseEntity.ok()
                 .contentType(MediaType.valueOf("image/png"))
@@ -86,9 +110,11 @@ public class ProjectController {
             @ApiResponse(responseCode = "400", description = "Invalid request")
     })
     @DeleteMapping("{id}/icon")
+    @RequiresProjectRole(value = {OWNER, ADMIN}, pathVariable = "id")
     public ResponseEntity<Void> deleteProjectIcon(
-            @Parameter(description = "Project ID") @PathVariable Long id) {
-        projectService.deleteProjectIcon(id);
+            @Parameter(description = "Project ID") @PathVariable Long id,
+            @Parameter(hidden = true) ProjectAccess projectAccess) {
+        projectService.deleteProjectIcon(projectAccess);
 
         return ResponseEntity.noContent().build();
     }
@@ -99,9 +125,11 @@ public class ProjectController {
             @ApiResponse(responseCode = "400", description = "Invalid request")
     })
     @DeleteMapping("{id}")
+    @RequiresProjectRole(value = OWNER, pathVariable = "id")
     public ResponseEntity<Void> deleteProject(
-            @Parameter(description = "Project ID") @PathVariable Long id) {
-        projectService.deleteProject(id);
+            @Parameter(description = "Project ID") @PathVariable Long id,
+            @Parameter(hidden = true) ProjectAccess projectAccess) {
+        projectService.deleteProject(projectAccess);
 
         return ResponseEntity.noContent().build();
     }
@@ -112,10 +140,12 @@ public class ProjectController {
             @ApiResponse(responseCode = "400", description = "Invalid request")
     })
     @PatchMapping("{id}/members")
+    @RequiresProjectRole(value = {OWNER, ADMIN}, pathVariable = "id")
     public ResponseEntity<List<MemberResponse>> inviteMembers(
             @Parameter(description = "Project ID") @PathVariable Long id,
+            @Parameter(hidden = true) ProjectAccess projectAccess,
             @Parameter(description = "Invite users request") @RequestBody @Valid InviteUsersRequest request) {
-        List<MemberResponse> members = projectService.inviteUsers(id, request);
+        List<MemberResponse> members = projectService.inviteUsers(projectAccess, request);
 
         return ResponseEntity.ok(members);
     }
@@ -0,0 +1,32 @@
+package fhict.boards.controller;
+
+import fhict.boards.service.SearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.annotation.security.RolesAllowed;
+import lombok.AllArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/search")
+@AllArgsConstructor
+public class SearchController {
+    private final SearchService searchService;
+
+    @RolesAllowed("ADMIN")
+    @Operation(summary = "Rebuild the issue search index from the database")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Search index rebuilt successfully"),
+            @ApiResponse(responseCode = "403", description = "Unauthorized access")
+    })
+    @PostMapping("/rebuild")
+    public ResponseEntity<Void> rebuildIndex() {
+        searchService.rebuildIndex();
+
+        return ResponseEntity.noContent().build();
+    }
+}
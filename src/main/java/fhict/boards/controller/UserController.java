@@ -100,7 +100,7 @@ public class UserController {
             @Parameter(description = "Email update request") @RequestBody @Valid EmailUpdateRequest request) {
         String accessToken = userService.updateUserEmail(id, request);
 
-        return ResponseEntity.ok(new AccessTokenResponse(accessToken));
+        return ResponseEntity.ok(new AccessTokenResponse(accessToken, null));
     }
 
     @Operation(summary = "Update user password")
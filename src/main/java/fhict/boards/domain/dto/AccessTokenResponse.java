@@ -11,4 +11,7 @@ import lombok.NoArgsConstructor;
 public class AccessTokenResponse {
     @Schema(description = "Access token for the user", example = "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9...")
     private String accessToken;
+
+    @Schema(description = "Refresh token to get a new access token with, valid until it is used once", example = "q0Jz3vN6S8a1...")
+    private String refreshToken;
 }
@@ -0,0 +1,25 @@
+package fhict.boards.domain.dto;
+
+import fhict.boards.domain.enums.IssueStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardColumnResponse {
+    @Schema(description = "Status of the issues in the column")
+    private IssueStatus status;
+
+    @Schema(description = "Number of issues in the column", example = "3")
+    private int count;
+
+    @Schema(description = "Issues in the column, in rank order")
+    private List<BoardIssueResponse> issues;
+}
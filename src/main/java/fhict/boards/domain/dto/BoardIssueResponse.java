@@ -0,0 +1,41 @@
+package fhict.boards.domain.dto;
+
+import fhict.boards.domain.enums.IssuePriority;
+import fhict.boards.domain.enums.IssueType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardIssueResponse {
+    @Schema(description = "ID of the issue", example = "1")
+    private Long id;
+
+    @Schema(description = "Key of the issue", example = "PA-1")
+    private String key;
+
+    @Schema(description = "Title of the issue", example = "Issue Title")
+    private String title;
+
+    @Schema(description = "Type of the issue")
+    private IssueType type;
+
+    @Schema(description = "Priority of the issue")
+    private IssuePriority priority;
+
+    @Schema(description = "Due date for the issue", example = "2022-01-01")
+    private LocalDate dueOn;
+
+    @Schema(description = "Position of the issue on the board, issues are ordered by comparing ranks as strings", example = "i")
+    private String rank;
+
+    @Schema(description = "ID of the member assigned to the issue, see the members of the board", example = "1")
+    private Long assigneeId;
+}
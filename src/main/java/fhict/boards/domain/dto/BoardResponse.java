@@ -0,0 +1,25 @@
+package fhict.boards.domain.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardResponse {
+    @Schema(description = "Project of the board")
+    private ProjectResponse project;
+
+    @Schema(description = "One column per issue status, in workflow order")
+    private List<BoardColumnResponse> columns;
+
+    @Schema(description = "Members of the project by member ID")
+    private Map<Long, MemberResponse> members;
+}
@@ -2,6 +2,7 @@ package fhict.boards.domain.dto;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -14,5 +15,6 @@ import java.util.List;
 public class InviteUsersRequest {
     @Schema(description = "List of members to invite")
     @NotEmpty(message = "List of members must not be empty.")
+    @Size(max = 1000, message = "At most 1000 members can be invited at once.")
     private List<MemberRequest> members;
 }
@@ -0,0 +1,30 @@
+package fhict.boards.domain.dto;
+
+import fhict.boards.domain.enums.IssuePriority;
+import fhict.boards.domain.enums.IssueStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IssueBulkChangeRequest {
+    @Schema(description = "ID of the issue to change", example = "1")
+    @NotNull(message = "Issue ID is required.")
+    private Long issueId;
+
+    @Schema(description = "New status of the issue, unchanged if omitted")
+    private IssueStatus status;
+
+    @Schema(description = "New priority of the issue, unchanged if omitted")
+    private IssuePriority priority;
+
+    @Schema(description = "ID of the member to assign the issue to, unchanged if omitted", example = "1")
+    private Long assigneeMemberId;
+
+    @Schema(description = "Whether to remove the assignee of the issue", example = "false")
+    private boolean unassign;
+}
@@ -0,0 +1,21 @@
+package fhict.boards.domain.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IssueBulkUpdateRequest {
+    @Schema(description = "Changes to apply, all in one transaction")
+    @NotEmpty(message = "List of changes must not be empty.")
+    @Size(max = 500, message = "At most 500 issues can be changed at once.")
+    private List<@Valid IssueBulkChangeRequest> changes;
+}
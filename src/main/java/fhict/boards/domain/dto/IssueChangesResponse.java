@@ -0,0 +1,27 @@
+package fhict.boards.domain.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IssueChangesResponse {
+    @Schema(description = "Issues created or changed since the sync token, in the order they changed")
+    private List<IssueResponse> changed;
+
+    @Schema(description = "Issues deleted since the sync token")
+    private List<IssueTombstoneResponse> deleted;
+
+    @Schema(description = "Token to pass as since to get the changes after these")
+    private String syncToken;
+
+    @Schema(description = "Whether more changes are available with the returned sync token", example = "false")
+    private boolean hasMore;
+}
@@ -0,0 +1,40 @@
+package fhict.boards.domain.dto;
+
+import fhict.boards.domain.enums.IssuePriority;
+import fhict.boards.domain.enums.IssueStatus;
+import fhict.boards.domain.enums.IssueType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IssueFilter {
+    @Schema(description = "Only include issues with one of these statuses")
+    private List<IssueStatus> status;
+
+    @Schema(description = "Only include issues with one of these types")
+    private List<IssueType> type;
+
+    @Schema(description = "Only include issues with one of these priorities")
+    private List<IssuePriority> priority;
+
+    @Schema(description = "Only include issues assigned to the member with this ID", example = "1")
+    private Long assigneeMemberId;
+
+    @Schema(description = "Only include issues due on or after this date", example = "2022-01-01")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dueFrom;
+
+    @Schema(description = "Only include issues due on or before this date", example = "2022-12-31")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dueTo;
+}
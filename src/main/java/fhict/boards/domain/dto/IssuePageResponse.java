@@ -0,0 +1,21 @@
+package fhict.boards.domain.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IssuePageResponse {
+    @Schema(description = "Issues in this page")
+    private List<IssueResponse> issues;
+
+    @Schema(description = "Cursor to request the next page with, null if this is the last page", example = "MTAx")
+    private String nextCursor;
+}
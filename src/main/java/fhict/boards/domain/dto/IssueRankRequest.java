@@ -0,0 +1,21 @@
+package fhict.boards.domain.dto;
+
+import fhict.boards.domain.enums.IssueStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IssueRankRequest {
+    @Schema(description = "ID of the issue to place this issue right after", example = "1")
+    private Long afterIssueId;
+
+    @Schema(description = "ID of the issue to place this issue right before, used when there is no issue to place it after", example = "2")
+    private Long beforeIssueId;
+
+    @Schema(description = "New status of the issue, unchanged if omitted")
+    private IssueStatus status;
+}
@@ -52,4 +52,10 @@ public class IssueResponse {
 
     @Schema(description = "Date and time when the issue was last updated", example = "2022-01-01T00:00:00")
     private LocalDateTime updatedOn;
+
+    @Schema(description = "Version of the issue, incremented on every change and returned as the ETag", example = "3")
+    private long version;
+
+    @Schema(description = "Position of the issue on the board, issues are ordered by comparing ranks as strings", example = "i")
+    private String rank;
 }
@@ -0,0 +1,25 @@
+package fhict.boards.domain.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IssueSearchHitResponse {
+    @Schema(description = "ID of the issue", example = "1")
+    private Long id;
+
+    @Schema(description = "Key of the issue", example = "PROJ-12")
+    private String key;
+
+    @Schema(description = "Title of the issue", example = "Issue Title")
+    private String title;
+
+    @Schema(description = "Relevance of the issue to the query", example = "1.5")
+    private float score;
+}
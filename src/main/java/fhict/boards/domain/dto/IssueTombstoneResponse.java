@@ -0,0 +1,21 @@
+package fhict.boards.domain.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IssueTombstoneResponse {
+    @Schema(description = "ID of the deleted issue", example = "1")
+    private Long issueId;
+
+    @Schema(description = "Date and time when the issue was deleted", example = "2022-01-01T00:00:00")
+    private LocalDateTime deletedOn;
+}
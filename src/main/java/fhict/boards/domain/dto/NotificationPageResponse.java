@@ -0,0 +1,21 @@
+package fhict.boards.domain.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationPageResponse {
+    @Schema(description = "Notifications in this page, newest first")
+    private List<NotificationSummaryResponse> notifications;
+
+    @Schema(description = "Cursor to request the next page with, null if this is the last page")
+    private String nextCursor;
+}
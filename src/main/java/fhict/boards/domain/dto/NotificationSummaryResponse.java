@@ -0,0 +1,52 @@
+package fhict.boards.domain.dto;
+
+import fhict.boards.domain.enums.NotificationType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationSummaryResponse {
+    @Schema(description = "ID of the notification", example = "1")
+    private Long id;
+
+    @Schema(description = "Type of the notification")
+    private NotificationType type;
+
+    @Schema(description = "Timestamp of the notification", example = "2022-01-01T00:00:00")
+    private LocalDateTime timestamp;
+
+    @Schema(description = "Read status of the notification", example = "false")
+    private boolean read;
+
+    @Schema(description = "ID of the member who sent the notification", example = "1")
+    private Long senderMemberId;
+
+    @Schema(description = "ID of the user who sent the notification", example = "1")
+    private Long senderUserId;
+
+    @Schema(description = "Name of the user who sent the notification", example = "John Doe")
+    private String senderName;
+
+    @Schema(description = "ID of the project related to the notification", example = "1")
+    private Long projectId;
+
+    @Schema(description = "Name of the project related to the notification", example = "Project Alpha")
+    private String projectName;
+
+    @Schema(description = "ID of the issue related to the notification", example = "1")
+    private Long issueId;
+
+    @Schema(description = "Key of the issue related to the notification", example = "PA-1")
+    private String issueKey;
+
+    @Schema(description = "Title of the issue related to the notification", example = "Issue Title")
+    private String issueTitle;
+}
@@ -23,5 +23,6 @@ public class ProjectCreateRequest {
 
     @Schema(description = "List of members")
     @NotEmpty(message = "List of members must not be empty.")
+    @Size(max = 1000, message = "A project can be created with at most 1000 members.")
     private List<MemberRequest> members;
 }
\ No newline at end of file
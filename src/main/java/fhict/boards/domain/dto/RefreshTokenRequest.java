@@ -0,0 +1,16 @@
+package fhict.boards.domain.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshTokenRequest {
+    @Schema(description = "Refresh token received with the last access token", example = "q0Jz3vN6S8a1...")
+    @NotBlank(message = "Refresh token is required.")
+    private String refreshToken;
+}
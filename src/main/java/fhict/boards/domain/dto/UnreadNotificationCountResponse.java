@@ -0,0 +1,14 @@
+package fhict.boards.domain.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UnreadNotificationCountResponse {
+    @Schema(description = "Number of unread notifications", example = "3")
+    private long count;
+}
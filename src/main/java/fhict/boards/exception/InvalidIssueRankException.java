@@ -0,0 +1,10 @@
+package fhict.boards.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+public class InvalidIssueRankException extends ResponseStatusException {
+    public InvalidIssueRankException(String errorCause) {
+        super(HttpStatus.BAD_REQUEST, errorCause);
+    }
+}
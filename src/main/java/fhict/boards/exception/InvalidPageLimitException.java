@@ -0,0 +1,10 @@
+package fhict.boards.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+public class InvalidPageLimitException extends ResponseStatusException {
+    public InvalidPageLimitException(int limit) {
+        super(HttpStatus.BAD_REQUEST, "Page limit must be at least 1, got: " + limit);
+    }
+}
@@ -0,0 +1,14 @@
+package fhict.boards.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+public class InvalidRefreshTokenException extends ResponseStatusException {
+    public InvalidRefreshTokenException() {
+        super(HttpStatus.UNAUTHORIZED, "Refresh token is invalid or expired.");
+    }
+
+    public InvalidRefreshTokenException(String errorCause) {
+        super(HttpStatus.UNAUTHORIZED, errorCause);
+    }
+}
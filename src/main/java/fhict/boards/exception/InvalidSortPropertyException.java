@@ -0,0 +1,10 @@
+package fhict.boards.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+public class InvalidSortPropertyException extends ResponseStatusException {
+    public InvalidSortPropertyException(String property) {
+        super(HttpStatus.BAD_REQUEST, "Sorting is not supported on property: " + property);
+    }
+}
@@ -7,4 +7,7 @@ public class IssueNotFoundException extends ResponseStatusException {
     public IssueNotFoundException(Long id) {
         super(HttpStatus.NOT_FOUND, "Issue not found with ID: " + id);
     }
+    public IssueNotFoundException(String key) {
+        super(HttpStatus.NOT_FOUND, "Issue not found with key: " + key);
+    }
 }
@@ -0,0 +1,10 @@
+package fhict.boards.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+public class IssueVersionConflictException extends ResponseStatusException {
+    public IssueVersionConflictException(Long issueId) {
+        super(HttpStatus.PRECONDITION_FAILED, "Issue with ID: " + issueId + " was changed since it was read.");
+    }
+}
@@ -0,0 +1,15 @@
+package fhict.boards.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+@Getter
+public class PasswordHashingUnavailableException extends ResponseStatusException {
+    private final long retryAfterSeconds;
+
+    public PasswordHashingUnavailableException(long retryAfterSeconds) {
+        super(HttpStatus.SERVICE_UNAVAILABLE, "Too many password checks are in progress, try again later.");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,22 @@
+package fhict.boards.repository;
+
+import fhict.boards.domain.enums.IssuePriority;
+import fhict.boards.domain.enums.IssueStatus;
+import fhict.boards.domain.enums.IssueType;
+
+import java.time.LocalDate;
+
+/**
+ * The issue fields shown on a board card. The assignee is referenced by member ID only.
+ */
+public interface BoardIssueProjection {
+    Long getId();
+    String getIssueKey();
+    String getTitle();
+    IssueType getType();
+    IssueStatus getStatus();
+    IssuePriority getPriority();
+    LocalDate getDueOn();
+    String getRank();
+    Long getAssigneeId();
+}
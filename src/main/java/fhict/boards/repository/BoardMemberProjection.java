@@ -0,0 +1,20 @@
+package fhict.boards.repository;
+
+import fhict.boards.domain.enums.MemberRole;
+
+import java.time.LocalDate;
+
+/**
+ * A project member together with the fields of its user, read in a single query.
+ */
+public interface BoardMemberProjection {
+    Long getId();
+    MemberRole getRole();
+    LocalDate getJoinedOn();
+    Long getUserId();
+    String getUserName();
+    String getUserEmail();
+    String getUserCompany();
+    String getUserLocation();
+    byte[] getUserPicture();
+}
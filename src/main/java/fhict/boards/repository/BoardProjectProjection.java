@@ -0,0 +1,11 @@
+package fhict.boards.repository;
+
+/**
+ * The project fields shown above a board, without the project's members and issues.
+ */
+public interface BoardProjectProjection {
+    Long getId();
+    String getName();
+    String getProjectKey();
+    byte[] getIcon();
+}
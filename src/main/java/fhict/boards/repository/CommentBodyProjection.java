@@ -0,0 +1,6 @@
+package fhict.boards.repository;
+
+public interface CommentBodyProjection {
+    Long getIssueId();
+    String getBody();
+}
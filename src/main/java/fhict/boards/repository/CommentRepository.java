@@ -3,9 +3,16 @@ package fhict.boards.repository;
 import fhict.boards.repository.entity.Comment;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 public interface CommentRepository extends JpaRepository<Comment, Long> {
+    @Query("SELECT c.issue.id AS issueId, c.body AS body FROM Comment c WHERE c.issue.id IN :issueIds")
+    List<CommentBodyProjection> findBodiesByIssueIdIn(@Param("issueIds") List<Long> issueIds);
+
     @Transactional
     @Modifying
     void deleteByCreatedBy_Id(Long memberId);
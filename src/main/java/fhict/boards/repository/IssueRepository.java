@@ -1,23 +1,92 @@
 package fhict.boards.repository;
 
 import fhict.boards.repository.entity.Issue;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-public interface IssueRepository extends JpaRepository<Issue, Long> {
-    @Query(value = "SELECT MAX(CAST(REGEXP_SUBSTR(i.key, '(\\\\d+)$', 1) AS signed)) " +
-            "FROM issue i " +
-            "WHERE i.project_id = :projectId", nativeQuery = true)
-    Optional<Long> findLatestIssueNumberByProjectId(@Param("projectId") Long projectId);
+public interface IssueRepository extends JpaRepository<Issue, Long>, IssueRepositoryCustom {
+    @EntityGraph(attributePaths = {"assignee.user", "createdBy.user"})
+    Optional<Issue> findByProjectIdAndKeyNumber(Long projectId, Long keyNumber);
+
+    @Query("SELECT i.version FROM Issue i WHERE i.id = :id AND i.project.id = :projectId")
+    Optional<Long> findVersionByIdAndProjectId(@Param("id") Long id, @Param("projectId") Long projectId);
+
+    @Query("SELECT i.key AS issueKey, i.version AS version FROM Issue i " +
+            "WHERE i.project.id = :projectId AND i.keyNumber = :keyNumber")
+    Optional<IssueVersionProjection> findVersionByProjectIdAndKeyNumber(@Param("projectId") Long projectId,
+                                                                        @Param("keyNumber") Long keyNumber);
+
+    @EntityGraph(attributePaths = {"assignee.user", "createdBy.user"})
+    List<Issue> findByProjectIdAndIdIn(Long projectId, Collection<Long> ids);
+
+    List<Issue> findByKeyNumberIsNullAndIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    @Query("SELECT i.id AS id, i.project.id AS projectId, i.key AS issueKey, i.title AS title, " +
+            "i.description AS description FROM Issue i WHERE i.id IN :ids")
+    List<IssueSearchProjection> findSearchProjectionsByIdIn(@Param("ids") List<Long> ids);
+
+    @Query("SELECT i.id AS id, i.project.id AS projectId, i.key AS issueKey, i.title AS title, " +
+            "i.description AS description FROM Issue i WHERE i.id > :afterId ORDER BY i.id")
+    List<IssueSearchProjection> findSearchProjectionsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT i.id AS id, i.key AS issueKey, i.title AS title, i.type AS type, i.status AS status, " +
+            "i.priority AS priority, i.dueOn AS dueOn, i.rank AS rank, a.id AS assigneeId " +
+            "FROM Issue i LEFT JOIN i.assignee a WHERE i.project.id = :projectId " +
+            "ORDER BY CASE WHEN i.rank IS NULL THEN 1 ELSE 0 END, i.rank, i.id")
+    List<BoardIssueProjection> findBoardIssuesByProjectId(@Param("projectId") Long projectId);
+
+    @EntityGraph(attributePaths = {"assignee.user", "createdBy.user"})
+    @Query("SELECT i FROM Issue i WHERE i.project.id = :projectId AND i.changeNumber <= :upToChangeNumber AND " +
+            "(i.changeNumber > :changeNumber OR (i.changeNumber = :changeNumber AND i.id > :issueId)) " +
+            "ORDER BY i.changeNumber, i.id")
+    List<Issue> findChangedAfter(@Param("projectId") Long projectId, @Param("changeNumber") Long changeNumber,
+                                 @Param("issueId") Long issueId, @Param("upToChangeNumber") Long upToChangeNumber,
+                                 Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Issue i SET i.changeNumber = 0 WHERE i.changeNumber IS NULL")
+    int initializeChangeNumbers();
+
+    @Modifying
+    @Query("UPDATE Issue i SET i.changeNumber = :changeNumber, i.updatedOn = :updatedOn, i.version = i.version + 1 " +
+            "WHERE i.assignee.id = :memberId OR i.createdBy.id = :memberId")
+    void markChangedByMember(@Param("memberId") Long memberId, @Param("changeNumber") Long changeNumber,
+                             @Param("updatedOn") LocalDateTime updatedOn);
+
+    Optional<Issue> findByIdAndProjectId(Long id, Long projectId);
+
+    @Query("SELECT MAX(i.rank) FROM Issue i WHERE i.project.id = :projectId")
+    Optional<String> findLastRankByProjectId(@Param("projectId") Long projectId);
+
+    @Query("SELECT MIN(i.rank) FROM Issue i WHERE i.project.id = :projectId AND i.rank > :rank AND i.id <> :excludedIssueId")
+    Optional<String> findNextRank(@Param("projectId") Long projectId, @Param("rank") String rank,
+                                  @Param("excludedIssueId") Long excludedIssueId);
+
+    @Query("SELECT MAX(i.rank) FROM Issue i WHERE i.project.id = :projectId AND i.rank < :rank AND i.id <> :excludedIssueId")
+    Optional<String> findPreviousRank(@Param("projectId") Long projectId, @Param("rank") String rank,
+                                      @Param("excludedIssueId") Long excludedIssueId);
+
+    @Query("SELECT i FROM Issue i WHERE i.project.id = :projectId " +
+            "ORDER BY CASE WHEN i.rank IS NULL THEN 1 ELSE 0 END, i.rank, i.id")
+    List<Issue> findByProjectIdOrderByRank(@Param("projectId") Long projectId);
+
+    @Query("SELECT DISTINCT i.project.id FROM Issue i WHERE i.rank IS NULL OR LENGTH(i.rank) > :maxLength")
+    List<Long> findProjectIdsToRebalance(@Param("maxLength") int maxLength);
 
     @Transactional
     @Modifying
-    @Query("UPDATE Issue i SET i.assignee.id = NULL, i.createdBy.id = NULL " +
+    @Query("UPDATE Issue i SET i.assignee.id = NULL, i.createdBy.id = NULL, i.version = i.version + 1 " +
             "WHERE i.assignee.id = :memberId OR i.createdBy.id = :memberId")
     void setAssigneeAndCreatedByToNull(@Param("memberId") Long memberId);
 }
@@ -0,0 +1,16 @@
+package fhict.boards.repository;
+
+import fhict.boards.repository.entity.Issue;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface IssueRepositoryCustom {
+    /**
+     * Finds at most {@code limit} issues matching the specification, ordered by the given sort.
+     * When {@code after} holds the sort values of an issue, only issues ordered after it are returned.
+     * Every sort property must be an {@link IssueSortProperty}.
+     */
+    List<Issue> findPage(Specification<Issue> specification, Sort sort, List<Comparable<?>> after, int limit);
+}
@@ -0,0 +1,83 @@
+package fhict.boards.repository;
+
+import fhict.boards.repository.entity.Issue;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.*;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class IssueRepositoryCustomImpl implements IssueRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Issue> findPage(Specification<Issue> specification, Sort sort, List<Comparable<?>> after, int limit) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Issue> query = criteriaBuilder.createQuery(Issue.class);
+        Root<Issue> root = query.from(Issue.class);
+
+        // Load the members shown on the issue in the same statement
+        root.fetch("assignee", JoinType.LEFT).fetch("user", JoinType.LEFT);
+        root.fetch("createdBy", JoinType.LEFT).fetch("user", JoinType.LEFT);
+
+        List<Sort.Order> sortOrders = sort.toList();
+        List<Expression<? extends Comparable<?>>> expressions = new ArrayList<>();
+        List<Order> orders = new ArrayList<>();
+        for (Sort.Order sortOrder : sortOrders) {
+            IssueSortProperty property = IssueSortProperty.fromProperty(sortOrder.getProperty())
+                    .orElseThrow(() -> new IllegalArgumentException("Unsupported sort property: " + sortOrder.getProperty()));
+            Expression<? extends Comparable<?>> expression = property.expression(root, criteriaBuilder);
+
+            expressions.add(expression);
+            orders.add(sortOrder.isAscending() ? criteriaBuilder.asc(expression) : criteriaBuilder.desc(expression));
+        }
+
+        List<Predicate> predicates = new ArrayList<>();
+        Predicate filter = specification.toPredicate(root, query, criteriaBuilder);
+        if (filter != null) {
+            predicates.add(filter);
+        }
+        if (after != null) {
+            predicates.add(seekAfter(criteriaBuilder, sortOrders, expressions, after));
+        }
+
+        query.select(root)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(orders);
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * Builds (e1 > v1) OR (e1 = v1 AND e2 > v2) OR ..., flipping the comparison for descending orders.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Predicate seekAfter(CriteriaBuilder criteriaBuilder, List<Sort.Order> sortOrders,
+                                List<Expression<? extends Comparable<?>>> expressions, List<Comparable<?>> after) {
+        List<Predicate> alternatives = new ArrayList<>();
+        List<Predicate> equalPrefix = new ArrayList<>();
+
+        for (int i = 0; i < sortOrders.size(); i++) {
+            Expression expression = expressions.get(i);
+            Comparable value = after.get(i);
+
+            Predicate beyond = sortOrders.get(i).isAscending()
+                    ? criteriaBuilder.greaterThan(expression, value)
+                    : criteriaBuilder.lessThan(expression, value);
+
+            List<Predicate> alternative = new ArrayList<>(equalPrefix);
+            alternative.add(beyond);
+            alternatives.add(criteriaBuilder.and(alternative.toArray(Predicate[]::new)));
+
+            equalPrefix.add(criteriaBuilder.equal(expression, value));
+        }
+        return criteriaBuilder.or(alternatives.toArray(Predicate[]::new));
+    }
+}
@@ -0,0 +1,12 @@
+package fhict.boards.repository;
+
+/**
+ * The issue fields that are written to the search index.
+ */
+public interface IssueSearchProjection {
+    Long getId();
+    Long getProjectId();
+    String getIssueKey();
+    String getTitle();
+    String getDescription();
+}
@@ -0,0 +1,85 @@
+package fhict.boards.repository;
+
+import fhict.boards.domain.enums.IssuePriority;
+import fhict.boards.domain.enums.IssueStatus;
+import fhict.boards.domain.enums.IssueType;
+import fhict.boards.repository.entity.Issue;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Root;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Issue properties that can be sorted on, together with the SQL expression used to order by them
+ * and the matching value of an issue, so a page can be continued from its last issue.
+ * Enums are ordered by declaration order instead of by name, and issues without a due date come last.
+ * <p>
+ * Those orders are computed expressions, so no index can provide them: the project indexes narrow the rows down
+ * to the project and the filters, and the database sorts what remains. Only id and createdOn are plain columns.
+ */
+public enum IssueSortProperty {
+    ID("id", Issue::getId, Long::valueOf),
+    CREATED_ON("createdOn", Issue::getCreatedOn, LocalDateTime::parse),
+    DUE_ON("dueOn", IssueSortProperty::dueOnOrLast, LocalDate::parse),
+    STATUS("status", issue -> issue.getStatus().ordinal(), Integer::valueOf),
+    TYPE("type", issue -> issue.getType().ordinal(), Integer::valueOf),
+    PRIORITY("priority", issue -> issue.getPriority().ordinal(), Integer::valueOf);
+
+    private static final LocalDate NO_DUE_DATE = LocalDate.of(9999, 12, 31);
+
+    private final String property;
+    private final Function<Issue, Comparable<?>> valueExtractor;
+    private final Function<String, Comparable<?>> valueParser;
+
+    IssueSortProperty(String property, Function<Issue, Comparable<?>> valueExtractor,
+                      Function<String, Comparable<?>> valueParser) {
+        this.property = property;
+        this.valueExtractor = valueExtractor;
+        this.valueParser = valueParser;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public Comparable<?> valueOf(Issue issue) {
+        return valueExtractor.apply(issue);
+    }
+
+    public Comparable<?> parse(String value) {
+        return valueParser.apply(value);
+    }
+
+    public Expression<? extends Comparable<?>> expression(Root<Issue> root, CriteriaBuilder criteriaBuilder) {
+        return switch (this) {
+            case DUE_ON -> criteriaBuilder.coalesce(root.get(property), NO_DUE_DATE);
+            case STATUS -> ordinal(root, criteriaBuilder, IssueStatus.values());
+            case TYPE -> ordinal(root, criteriaBuilder, IssueType.values());
+            case PRIORITY -> ordinal(root, criteriaBuilder, IssuePriority.values());
+            default -> root.get(property);
+        };
+    }
+
+    public static Optional<IssueSortProperty> fromProperty(String property) {
+        return Arrays.stream(values())
+                .filter(value -> value.property.equals(property))
+                .findFirst();
+    }
+
+    private static LocalDate dueOnOrLast(Issue issue) {
+        return issue.getDueOn() != null ? issue.getDueOn() : NO_DUE_DATE;
+    }
+
+    private Expression<Integer> ordinal(Root<Issue> root, CriteriaBuilder criteriaBuilder, Enum<?>[] constants) {
+        CriteriaBuilder.SimpleCase<Object, Integer> ordinalCase = criteriaBuilder.selectCase(root.get(property));
+        for (Enum<?> constant : constants) {
+            ordinalCase = ordinalCase.when(constant, constant.ordinal());
+        }
+        return ordinalCase.otherwise(constants.length);
+    }
+}
@@ -0,0 +1,48 @@
+package fhict.boards.repository;
+
+import fhict.boards.domain.dto.IssueFilter;
+import fhict.boards.repository.entity.Issue;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class IssueSpecifications {
+    private IssueSpecifications() {
+    }
+
+    /**
+     * Matches the issues of a project that pass every criterion set on the filter.
+     */
+    public static Specification<Issue> matching(Long projectId, IssueFilter filter) {
+        return (root, query, criteriaBuilder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(criteriaBuilder.equal(root.get("project").get("id"), projectId));
+
+            if (filter == null) {
+                return criteriaBuilder.and(predicates.toArray(Predicate[]::new));
+            }
+
+            if (filter.getStatus() != null && !filter.getStatus().isEmpty()) {
+                predicates.add(root.get("status").in(filter.getStatus()));
+            }
+            if (filter.getType() != null && !filter.getType().isEmpty()) {
+                predicates.add(root.get("type").in(filter.getType()));
+            }
+            if (filter.getPriority() != null && !filter.getPriority().isEmpty()) {
+                predicates.add(root.get("priority").in(filter.getPriority()));
+            }
+            if (filter.getAssigneeMemberId() != null) {
+                predicates.add(criteriaBuilder.equal(root.get("assignee").get("id"), filter.getAssigneeMemberId()));
+            }
+            if (filter.getDueFrom() != null) {
+                predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get("dueOn"), filter.getDueFrom()));
+            }
+            if (filter.getDueTo() != null) {
+                predicates.add(criteriaBuilder.lessThanOrEqualTo(root.get("dueOn"), filter.getDueTo()));
+            }
+            return criteriaBuilder.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+}
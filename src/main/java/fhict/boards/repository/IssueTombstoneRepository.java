@@ -0,0 +1,23 @@
+package fhict.boards.repository;
+
+import fhict.boards.repository.entity.IssueTombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface IssueTombstoneRepository extends JpaRepository<IssueTombstone, Long> {
+    @Query("SELECT t FROM IssueTombstone t WHERE t.project.id = :projectId " +
+            "AND t.changeNumber > :changeNumber AND t.changeNumber <= :upToChangeNumber ORDER BY t.changeNumber")
+    List<IssueTombstone> findDeletedAfter(@Param("projectId") Long projectId, @Param("changeNumber") Long changeNumber,
+                                          @Param("upToChangeNumber") Long upToChangeNumber, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IssueTombstone t WHERE t.project.id = :projectId")
+    void deleteByProjectId(@Param("projectId") Long projectId);
+}
@@ -0,0 +1,9 @@
+package fhict.boards.repository;
+
+/**
+ * The key and version of an issue, enough to answer a conditional request without loading the issue.
+ */
+public interface IssueVersionProjection {
+    String getIssueKey();
+    long getVersion();
+}
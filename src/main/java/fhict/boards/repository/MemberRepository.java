@@ -1,20 +1,45 @@
 package fhict.boards.repository;
 
+import fhict.boards.domain.enums.MemberRole;
 import fhict.boards.repository.entity.Member;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
     List<Member> findByUserId(Long userId);
+    @EntityGraph(attributePaths = "user")
     Optional<Member> findByIdAndProjectId(Long id, Long projectId);
+    @EntityGraph(attributePaths = "user")
     Optional<Member> findByUserIdAndProjectId(Long userId, Long projectId);
+    boolean existsByUserIdAndProjectId(Long userId, Long projectId);
+    @EntityGraph(attributePaths = "user")
+    List<Member> findByProjectIdAndIdIn(Long projectId, Collection<Long> ids);
+    @EntityGraph(attributePaths = "user")
+    List<Member> findByProjectIdAndUserIdIn(Long projectId, Collection<Long> userIds);
     Long countByProjectId(Long projectId);
+    @Query("SELECT m.id AS id, m.role AS role, m.joinedOn AS joinedOn, u.id AS userId, u.name AS userName, " +
+            "u.email AS userEmail, u.company AS userCompany, u.location AS userLocation, u.picture AS userPicture " +
+            "FROM Member m JOIN m.user u WHERE m.project.id = :projectId ORDER BY m.id")
+    List<BoardMemberProjection> findBoardMembersByProjectId(@Param("projectId") Long projectId);
+    @Query("SELECT m.project.id AS projectId, m.id AS id, m.role AS role FROM Member m WHERE m.user.id = :userId")
+    List<UserMembershipProjection> findMembershipsByUserId(@Param("userId") Long userId);
+    @Query("SELECT m.user.id FROM Member m WHERE m.project.id = :projectId")
+    List<Long> findUserIdsByProjectId(@Param("projectId") Long projectId);
+    @Transactional
+    @Modifying
+    @Query("INSERT INTO Member (user, project, role, joinedOn) " +
+            "SELECT u, p, :role, :joinedOn FROM User u, Project p WHERE p.id = :projectId AND u.id IN :userIds")
+    int insertMembers(@Param("projectId") Long projectId, @Param("userIds") Collection<Long> userIds,
+                      @Param("role") MemberRole role, @Param("joinedOn") LocalDate joinedOn);
     @Transactional
     @Modifying
     @Query("DELETE FROM Member m WHERE m.user.id = :id")
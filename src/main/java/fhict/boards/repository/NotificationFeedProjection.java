@@ -0,0 +1,23 @@
+package fhict.boards.repository;
+
+import fhict.boards.domain.enums.NotificationType;
+
+import java.time.LocalDateTime;
+
+/**
+ * The notification fields shown in the notification feed. Sender, project and issue are referenced by ID and name.
+ */
+public interface NotificationFeedProjection {
+    Long getId();
+    NotificationType getType();
+    LocalDateTime getTimestamp();
+    boolean isRead();
+    Long getSenderMemberId();
+    Long getSenderUserId();
+    String getSenderName();
+    Long getProjectId();
+    String getProjectName();
+    Long getIssueId();
+    String getIssueKey();
+    String getIssueTitle();
+}
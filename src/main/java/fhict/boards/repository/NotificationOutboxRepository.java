@@ -0,0 +1,35 @@
+package fhict.boards.repository;
+
+import fhict.boards.repository.entity.NotificationOutboxMessage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutboxMessage, Long> {
+    @Query("SELECT m.id FROM NotificationOutboxMessage m WHERE m.nextAttemptOn <= :now " +
+            "AND (m.claimedUntil IS NULL OR m.claimedUntil < :now) ORDER BY m.id")
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * Claims the messages that no other dispatcher has claimed in the meantime.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE NotificationOutboxMessage m SET m.claimId = :claimId, m.claimedUntil = :claimedUntil " +
+            "WHERE m.id IN :ids AND (m.claimedUntil IS NULL OR m.claimedUntil < :now)")
+    int claim(@Param("ids") Collection<Long> ids, @Param("claimId") String claimId,
+              @Param("claimedUntil") LocalDateTime claimedUntil, @Param("now") LocalDateTime now);
+
+    List<NotificationOutboxMessage> findByClaimIdOrderById(String claimId);
+
+    @Query("SELECT MIN(m.createdOn) FROM NotificationOutboxMessage m")
+    Optional<LocalDateTime> findOldestCreatedOn();
+}
@@ -1,21 +1,83 @@
 package fhict.boards.repository;
 
+import fhict.boards.domain.enums.NotificationType;
 import fhict.boards.repository.entity.Notification;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long>  {
-    List<Notification> findAllByReceiverUserId(Long id, Sort sort);
+    String FEED_SELECT = "SELECT n.id AS id, n.type AS type, n.timestamp AS timestamp, n.read AS read, " +
+            "s.id AS senderMemberId, su.id AS senderUserId, su.name AS senderName, " +
+            "p.id AS projectId, p.name AS projectName, i.id AS issueId, i.key AS issueKey, i.title AS issueTitle " +
+            "FROM Notification n JOIN n.receiver r JOIN n.sender s JOIN s.user su " +
+            "LEFT JOIN n.project p LEFT JOIN n.issue i ";
+    String FEED_ORDER = " ORDER BY n.timestamp DESC, n.id DESC";
+
+    /**
+     * Returns the newest notifications of a user, ordered by timestamp and then ID so every position is unique.
+     * The (receiver, timestamp) index finds the notifications of each of the user's memberships, but as they come
+     * from several receivers the database still sorts them.
+     */
+    @Query(FEED_SELECT + "WHERE r.user.id = :userId" + FEED_ORDER)
+    List<NotificationFeedProjection> findFeedByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * Returns the notifications of a user that come after the given position in the feed.
+     */
+    @Query(FEED_SELECT + "WHERE r.user.id = :userId " +
+            "AND (n.timestamp < :timestamp OR (n.timestamp = :timestamp AND n.id < :id))" + FEED_ORDER)
+    List<NotificationFeedProjection> findFeedByUserIdBefore(@Param("userId") Long userId,
+                                                            @Param("timestamp") LocalDateTime timestamp,
+                                                            @Param("id") Long id, Pageable pageable);
+
+    /**
+     * Inserts one notification per receiver, in the project of the receiver, tagged with the batch ID to read
+     * them back by.
+     */
+    @Transactional
+    @Modifying
+    @Query("INSERT INTO Notification (type, sender, receiver, project, timestamp, read, batchId) " +
+            "SELECT :type, s, r, r.project, :timestamp, false, :batchId FROM Member s, Member r " +
+            "WHERE s.id = :senderId AND r.id IN :receiverIds")
+    int insertForReceivers(@Param("type") NotificationType type, @Param("senderId") Long senderId,
+                           @Param("receiverIds") Collection<Long> receiverIds, @Param("timestamp") LocalDateTime timestamp,
+                           @Param("batchId") String batchId);
+
+    @EntityGraph(attributePaths = {"sender", "receiver", "project"})
+    List<Notification> findByBatchId(String batchId);
 
     @Transactional
     void deleteAllByReceiverUserId(Long id);
 
+    @Query("SELECT n.receiver.user.id AS userId, COUNT(n) AS count FROM Notification n " +
+            "WHERE (n.receiver.id = :memberId OR n.sender.id = :memberId) AND n.read = false " +
+            "GROUP BY n.receiver.user.id")
+    List<UnreadNotificationCountProjection> countUnreadByMemberId(@Param("memberId") Long memberId);
+
+    @Query("SELECT n.receiver.user.id AS userId, COUNT(n) AS count FROM Notification n " +
+            "WHERE n.project.id = :projectId AND n.read = false " +
+            "GROUP BY n.receiver.user.id")
+    List<UnreadNotificationCountProjection> countUnreadByProjectId(@Param("projectId") Long projectId);
+
+    @Query("SELECT n.receiver.user.id AS userId, COUNT(n) AS count FROM Notification n " +
+            "WHERE n.issue.id = :issueId AND n.read = false " +
+            "GROUP BY n.receiver.user.id")
+    List<UnreadNotificationCountProjection> countUnreadByIssueId(@Param("issueId") Long issueId);
+
+    @Query("SELECT n.receiver.user.id AS userId, COUNT(n) AS count FROM Notification n " +
+            "WHERE (n.receiver.user.id = :userId OR n.sender.user.id = :userId) AND n.read = false " +
+            "GROUP BY n.receiver.user.id")
+    List<UnreadNotificationCountProjection> countUnreadByUserId(@Param("userId") Long userId);
+
     @Transactional
     @Modifying
     @Query("DELETE FROM Notification n " +
@@ -2,6 +2,7 @@ package fhict.boards.repository;
 
 import fhict.boards.repository.entity.Project;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -13,4 +14,28 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
 
     @Query("SELECT p FROM Project p JOIN p.members m WHERE (p.name = :name OR p.key = :key) AND m.user.id = :userId")
     Optional<Project> findFirstByNameOrKeyAndMembers_User_Id(@Param("name") String projectName, @Param("key") String projectKey, @Param("userId") Long userId);
-}
\ No newline at end of file
+
+    @Query("SELECT p.id AS id, p.name AS name, p.key AS projectKey, p.icon AS icon FROM Project p WHERE p.id = :projectId")
+    Optional<BoardProjectProjection> findBoardProjectById(@Param("projectId") Long projectId);
+
+    @Modifying
+    @Query("UPDATE Project p SET p.lastIssueNumber = p.lastIssueNumber + :count " +
+            "WHERE p.id = :projectId AND p.lastIssueNumber IS NOT NULL")
+    int incrementLastIssueNumber(@Param("projectId") Long projectId, @Param("count") long count);
+
+    @Modifying
+    @Query("UPDATE Project p SET p.lastIssueNumber = " +
+            "COALESCE((SELECT MAX(i.keyNumber) FROM Issue i WHERE i.project.id = p.id), 0) " +
+            "WHERE p.lastIssueNumber IS NULL")
+    int initializeLastIssueNumbers();
+
+    @Query("SELECT p.lastIssueNumber FROM Project p WHERE p.id = :projectId")
+    Long findLastIssueNumber(@Param("projectId") Long projectId);
+
+    @Modifying
+    @Query("UPDATE Project p SET p.lastChangeNumber = COALESCE(p.lastChangeNumber, 0) + 1 WHERE p.id = :projectId")
+    int incrementLastChangeNumber(@Param("projectId") Long projectId);
+
+    @Query("SELECT p.lastChangeNumber FROM Project p WHERE p.id = :projectId")
+    Long findLastChangeNumber(@Param("projectId") Long projectId);
+}
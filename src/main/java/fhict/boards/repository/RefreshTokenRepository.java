@@ -0,0 +1,38 @@
+package fhict.boards.repository;
+
+import fhict.boards.repository.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+    @Query("SELECT t FROM RefreshToken t JOIN FETCH t.user WHERE t.tokenHash = :tokenHash")
+    Optional<RefreshToken> findByTokenHash(@Param("tokenHash") String tokenHash);
+
+    /**
+     * Marks the token as used, unless another request did so first. Returns the number of updated tokens.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE RefreshToken t SET t.usedOn = :usedOn WHERE t.id = :id AND t.usedOn IS NULL")
+    int markUsed(@Param("id") Long id, @Param("usedOn") LocalDateTime usedOn);
+
+    @Query("SELECT DISTINCT t.sessionId FROM RefreshToken t WHERE t.user.id = :userId")
+    List<String> findSessionIdsByUserId(@Param("userId") Long userId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RefreshToken t WHERE t.sessionId = :sessionId")
+    void deleteBySessionId(@Param("sessionId") String sessionId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RefreshToken t WHERE t.expiresOn < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,20 @@
+package fhict.boards.repository;
+
+import fhict.boards.repository.entity.RevokedSession;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RevokedSessionRepository extends JpaRepository<RevokedSession, Long> {
+    List<RevokedSession> findByExpiresOnAfter(LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RevokedSession s WHERE s.expiresOn < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,9 @@
+package fhict.boards.repository;
+
+/**
+ * Number of unread notifications of a user.
+ */
+public interface UnreadNotificationCountProjection {
+    Long getUserId();
+    Long getCount();
+}
@@ -0,0 +1,12 @@
+package fhict.boards.repository;
+
+import fhict.boards.domain.enums.MemberRole;
+
+/**
+ * A project the user is a member of, with the member ID and role, for the role claims of access tokens.
+ */
+public interface UserMembershipProjection {
+    Long getProjectId();
+    Long getId();
+    MemberRole getRole();
+}
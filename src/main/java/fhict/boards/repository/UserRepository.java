@@ -2,10 +2,52 @@ package fhict.boards.repository;
 
 import fhict.boards.repository.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
+    List<User> findByEmailIn(Collection<String> emails);
     boolean existsByEmail(String email);
+
+    @Query("SELECT u.membershipVersion FROM User u WHERE u.id = :id")
+    Optional<Long> findMembershipVersionById(@Param("id") Long id);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.membershipVersion = u.membershipVersion + 1 WHERE u.id IN :ids")
+    int incrementMembershipVersions(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT u.unreadNotificationCount FROM User u WHERE u.id = :id")
+    Optional<Long> findUnreadNotificationCountById(@Param("id") Long id);
+
+    @Query("SELECT u.id AS userId, u.unreadNotificationCount AS count FROM User u " +
+            "WHERE u.id IN :ids AND u.unreadNotificationCount IS NOT NULL")
+    List<UnreadNotificationCountProjection> findUnreadNotificationCounts(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Adds to the counts of the users. Counts that were never counted stay null.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.unreadNotificationCount = u.unreadNotificationCount + :delta WHERE u.id IN :ids")
+    int addToUnreadNotificationCounts(@Param("ids") Collection<Long> ids, @Param("delta") long delta);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.unreadNotificationCount = 0 WHERE u.id = :id")
+    int resetUnreadNotificationCount(@Param("id") Long id);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.unreadNotificationCount = " +
+            "(SELECT COUNT(n) FROM Notification n WHERE n.receiver.user.id = u.id AND n.read = false) " +
+            "WHERE u.id = :id AND u.unreadNotificationCount IS NULL")
+    int countUnreadNotifications(@Param("id") Long id);
 }
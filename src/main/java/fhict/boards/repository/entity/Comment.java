@@ -35,4 +35,14 @@ public class Comment {
 
     @Column(nullable = false, columnDefinition = "NVARCHAR(MAX)")
     private String body;
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof Comment other && id != null && id.equals(other.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Comment.class.hashCode();
+    }
 }
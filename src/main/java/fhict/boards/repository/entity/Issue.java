@@ -6,13 +6,23 @@ import fhict.boards.domain.enums.IssueStatus;
 import fhict.boards.domain.enums.IssueType;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
+// The unique index on (project_id, key_number) is created by IssueKeyNumberBackfill once older issues have a key number
 @Entity
-@Table(name = "issue")
+@Table(name = "issue", indexes = {
+        @Index(name = "ix_issue_project_id_id", columnList = "project_id, id"),
+        @Index(name = "ix_issue_project_id_status", columnList = "project_id, status"),
+        @Index(name = "ix_issue_project_id_priority", columnList = "project_id, priority"),
+        @Index(name = "ix_issue_project_id_assignee", columnList = "project_id, assignee_member_id"),
+        @Index(name = "ix_issue_project_id_due_on", columnList = "project_id, due_on"),
+        @Index(name = "ix_issue_project_id_change_number", columnList = "project_id, change_number, id"),
+        @Index(name = "ix_issue_project_id_rank", columnList = "project_id, rank")
+})
 @Getter
 @Setter
 @Builder
@@ -26,6 +36,10 @@ public class Issue {
     @Column(name = "[key]", nullable = false)
     private String key;
 
+    // Number part of the key, so issues can be looked up by key without parsing it in SQL
+    @Column(name = "key_number")
+    private Long keyNumber;
+
     @JsonBackReference
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "project_id", nullable = false)
@@ -54,6 +68,8 @@ public class Issue {
 
     @Column(nullable = false)
     private LocalDateTime createdOn;
+
+    @Column(name = "due_on")
     private LocalDate dueOn;
 
     @ManyToOne
@@ -62,7 +78,33 @@ public class Issue {
 
     private LocalDateTime updatedOn;
 
+    // Position of the issue on the board, see IssueRank
+    @Column(length = 64)
+    private String rank;
+
+    // Project change number of the latest change to the issue, see IssueChangeTracker
+    // Existing issues start at change number 0 when the column is added
+    @ColumnDefault("0")
+    @Column(name = "change_number", nullable = false)
+    private long changeNumber;
+
+    // Existing issues start at version 0 when the column is added
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;
+
     @OneToMany(mappedBy = "issue", cascade = CascadeType.ALL, orphanRemoval = true)
     @OrderBy("createdOn DESC")
     private List<Comment> comments;
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof Issue other && id != null && id.equals(other.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Issue.class.hashCode();
+    }
 }
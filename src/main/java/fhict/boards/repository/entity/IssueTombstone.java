@@ -0,0 +1,37 @@
+package fhict.boards.repository.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Record of a deleted issue, so clients syncing issue changes also learn about deletions.
+ */
+@Entity
+@Table(name = "issue_tombstone", indexes = {
+        @Index(name = "ix_issue_tombstone_project_id_change_number", columnList = "project_id, change_number")
+})
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class IssueTombstone {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "project_id", nullable = false)
+    private Project project;
+
+    @Column(nullable = false)
+    private Long issueId;
+
+    @Column(name = "change_number", nullable = false)
+    private Long changeNumber;
+
+    @Column(nullable = false)
+    private LocalDateTime deletedOn;
+}
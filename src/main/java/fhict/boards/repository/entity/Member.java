@@ -9,7 +9,9 @@ import org.hibernate.annotations.DynamicUpdate;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "member")
+@Table(name = "member", indexes = {
+        @Index(name = "ix_member_user_project", columnList = "user_id, project_id")
+})
 @DynamicUpdate
 @Getter
 @Setter
@@ -36,4 +38,14 @@ public class Member {
     @Column(nullable = false)
     @Enumerated(EnumType.STRING)
     private MemberRole role;
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof Member other && id != null && id.equals(other.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Member.class.hashCode();
+    }
 }
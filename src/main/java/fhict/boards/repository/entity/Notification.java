@@ -8,7 +8,10 @@ import org.hibernate.annotations.DynamicUpdate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "notification")
+@Table(name = "notification", indexes = {
+        @Index(name = "ix_notification_receiver_timestamp", columnList = "receiver_member_id, timestamp"),
+        @Index(name = "ix_notification_batch_id", columnList = "batch_id")
+})
 @Getter
 @Setter
 @DynamicUpdate
@@ -44,4 +47,18 @@ public class Notification {
 
     @Column(name = "`read`",nullable = false)
     private boolean read;
+
+    // Set on notifications inserted together for several receivers, see NotificationRepository.insertForReceivers
+    @Column(name = "batch_id", length = 36)
+    private String batchId;
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof Notification other && id != null && id.equals(other.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Notification.class.hashCode();
+    }
 }
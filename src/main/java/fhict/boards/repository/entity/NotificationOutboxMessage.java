@@ -0,0 +1,51 @@
+package fhict.boards.repository.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Websocket message of a notification that is waiting to be delivered to its receiver.
+ * It is written in the same transaction as the notification and deleted once it has been delivered.
+ */
+@Entity
+@Table(name = "notification_outbox", indexes = {
+        @Index(name = "ix_notification_outbox_next_attempt_on", columnList = "next_attempt_on"),
+        @Index(name = "ix_notification_outbox_claim_id", columnList = "claim_id")
+})
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class NotificationOutboxMessage {
+    // Sequence keys let Hibernate batch the inserts, unlike IDENTITY
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_outbox_seq")
+    @SequenceGenerator(name = "notification_outbox_seq", sequenceName = "notification_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long receiverUserId;
+
+    // Serialized NotificationResponse
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime createdOn;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_on", nullable = false)
+    private LocalDateTime nextAttemptOn;
+
+    // Set while a dispatcher is delivering the message, other dispatchers skip it until the claim expires
+    @Column(name = "claim_id", length = 36)
+    private String claimId;
+
+    private LocalDateTime claimedUntil;
+}
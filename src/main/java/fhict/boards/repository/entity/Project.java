@@ -15,7 +15,6 @@ import java.util.List;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
-@EqualsAndHashCode
 public class Project {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -31,6 +30,14 @@ public class Project {
     @Column(length = 1000)
     private byte[] icon;
 
+    // Number of the latest issue key handed out, only changed through ProjectRepository.incrementLastIssueNumber
+    @Column(updatable = false)
+    private Long lastIssueNumber;
+
+    // Latest change number handed out to an issue change, only changed through ProjectRepository.incrementLastChangeNumber
+    @Column(updatable = false)
+    private Long lastChangeNumber;
+
     @JsonManagedReference
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     private List<Member> members;
@@ -38,4 +45,16 @@ public class Project {
     @JsonManagedReference
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     private List<Issue> issues;
+
+    // Only the ID identifies a project, so comparing never loads its lazy members and issues.
+    // The hash code is the same for all projects, so it doesn't change when a new project gets its ID.
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof Project other && id != null && id.equals(other.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Project.class.hashCode();
+    }
 }
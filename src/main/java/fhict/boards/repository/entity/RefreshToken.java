@@ -0,0 +1,45 @@
+package fhict.boards.repository.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Refresh token of a session, stored as a digest. Every refresh replaces the token with a new one;
+ * used tokens are kept until they expire, so presenting one again can be detected and ends the session.
+ */
+@Entity
+@Table(name = "refresh_token", indexes = {
+        @Index(name = "ux_refresh_token_token_hash", columnList = "token_hash", unique = true),
+        @Index(name = "ix_refresh_token_user_id", columnList = "user_id"),
+        @Index(name = "ix_refresh_token_session_id", columnList = "session_id")
+})
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RefreshToken {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "token_hash", nullable = false, length = 44)
+    private String tokenHash;
+
+    @Column(name = "session_id", nullable = false, length = 36)
+    private String sessionId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(nullable = false)
+    private LocalDateTime issuedOn;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresOn;
+
+    private LocalDateTime usedOn;
+}
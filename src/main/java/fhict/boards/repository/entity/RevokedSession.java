@@ -0,0 +1,30 @@
+package fhict.boards.repository.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Session whose access tokens are rejected until the last of them has expired.
+ */
+@Entity
+@Table(name = "revoked_session", indexes = {
+        @Index(name = "ix_revoked_session_expires_on", columnList = "expires_on")
+})
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RevokedSession {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 36)
+    private String sessionId;
+
+    @Column(name = "expires_on", nullable = false)
+    private LocalDateTime expiresOn;
+}
@@ -3,6 +3,7 @@ package fhict.boards.repository.entity;
 import fhict.boards.domain.enums.AccessRole;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
@@ -37,4 +38,27 @@ public class User {
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private AccessRole accessRole;
+
+    /**
+     * Incremented whenever the user's project roles change, so role claims in older access tokens are known to be stale.
+     */
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long membershipVersion;
+
+    /**
+     * Kept up to date as the user's notifications are created, read and deleted, so the unread badge is a single read.
+     * Null until first counted, for users whose notifications predate the count.
+     */
+    private Long unreadNotificationCount;
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof User other && id != null && id.equals(other.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return User.class.hashCode();
+    }
 }
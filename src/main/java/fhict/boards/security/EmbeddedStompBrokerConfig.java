@@ -0,0 +1,34 @@
+package fhict.boards.security;
+
+import org.apache.activemq.artemis.core.config.impl.ConfigurationImpl;
+import org.apache.activemq.artemis.core.server.embedded.EmbeddedActiveMQ;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Starts an in-memory ActiveMQ Artemis broker that accepts STOMP on the relay port, for tests and for
+ * instances sharing one host. It's started before the relay connects and stopped after it disconnects.
+ * All destinations are multicast, because messages for users that are resolved on another instance come back
+ * from the broadcast topic still marked as multicast. Each session queue only has the subscription of its
+ * session, so they are still delivered once.
+ */
+@Configuration
+@ConditionalOnProperty("websocket.broker.embedded.enabled")
+public class EmbeddedStompBrokerConfig {
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public EmbeddedActiveMQ embeddedStompBroker(
+            @Value("${websocket.broker.embedded.host:localhost}") String host,
+            @Value("${websocket.broker.relay.port:61613}") int port) throws Exception {
+        ConfigurationImpl configuration = new ConfigurationImpl();
+        configuration.setPersistenceEnabled(false);
+        configuration.setSecurityEnabled(false);
+        configuration.setJMXManagementEnabled(false);
+        configuration.addAcceptorConfiguration("stomp", "tcp://" + host + ":" + port + "?protocols=STOMP");
+
+        EmbeddedActiveMQ broker = new EmbeddedActiveMQ();
+        broker.setConfiguration(configuration);
+        return broker;
+    }
+}
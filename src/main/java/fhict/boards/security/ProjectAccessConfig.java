@@ -0,0 +1,34 @@
+package fhict.boards.security;
+
+import fhict.boards.security.auth.ProjectAccessArgumentResolver;
+import fhict.boards.security.auth.ProjectAccessInterceptor;
+import lombok.AllArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Registers the resolution of project memberships for endpoints annotated with
+ * {@link fhict.boards.security.auth.RequiresProjectRole}.
+ */
+@Configuration
+@AllArgsConstructor
+public class ProjectAccessConfig implements WebMvcConfigurer {
+    private final ProjectAccessInterceptor projectAccessInterceptor;
+    private final ProjectAccessArgumentResolver projectAccessArgumentResolver;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // Runs after the open EntityManager interceptor, so the resolved member and project can still be loaded lazily
+        registry.addInterceptor(projectAccessInterceptor).order(Ordered.LOWEST_PRECEDENCE);
+    }
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(projectAccessArgumentResolver);
+    }
+}
@@ -40,10 +40,11 @@ public class SecurityConfig {
                 .authorizeHttpRequests(registry ->
                         // CORS pre-flight requests are public
                         registry.requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
-                                // Creating a user and login are public
-                                .requestMatchers(HttpMethod.POST, "/auth/login", "/auth/signup").permitAll()
+                                // Creating a user, login, refreshing a token and logout are public
+                                .requestMatchers(HttpMethod.POST, "/auth/login", "/auth/signup", "/auth/refresh", "/auth/logout").permitAll()
                                 // Swagger is also public (in dev environment)
                                 .requestMatchers(SWAGGER_UI_RESOURCES).permitAll()
+                                // WebSocket handshakes too, the STOMP CONNECT frame is authenticated instead
                                 .requestMatchers("/ws/**").permitAll()
                                 // Everything else -> authentication required
                                 .anyRequest().authenticated()
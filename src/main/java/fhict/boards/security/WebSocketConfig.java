@@ -1,14 +1,51 @@
 package fhict.boards.security;
 
+import fhict.boards.security.auth.StompAuthenticationInterceptor;
+import fhict.boards.security.auth.WebSocketSessions;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
+/**
+ * Configures the STOMP endpoint and the broker behind it. By default an in-memory broker is used, which only
+ * reaches users connected to this instance. With {@code websocket.broker.relay.enabled} messages are relayed
+ * to an external STOMP broker instead, and user destinations that can't be resolved locally are broadcast
+ * through it, so a notification reaches its user whichever instance they are connected to.
+ */
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+    static final String UNRESOLVED_USER_DESTINATION = "/topic/unresolved-user-destination";
+    static final String USER_REGISTRY_DESTINATION = "/topic/simp-user-registry";
+
+    private final StompAuthenticationInterceptor stompAuthenticationInterceptor;
+    private final WebSocketSessions webSocketSessions;
+    private final boolean relayEnabled;
+    private final String relayHost;
+    private final int relayPort;
+    private final String relayLogin;
+    private final String relayPasscode;
+
+    public WebSocketConfig(StompAuthenticationInterceptor stompAuthenticationInterceptor,
+                           WebSocketSessions webSocketSessions,
+                           @Value("${websocket.broker.relay.enabled:false}") boolean relayEnabled,
+                           @Value("${websocket.broker.relay.host:localhost}") String relayHost,
+                           @Value("${websocket.broker.relay.port:61613}") int relayPort,
+                           @Value("${websocket.broker.relay.login:guest}") String relayLogin,
+                           @Value("${websocket.broker.relay.passcode:guest}") String relayPasscode) {
+        this.stompAuthenticationInterceptor = stompAuthenticationInterceptor;
+        this.webSocketSessions = webSocketSessions;
+        this.relayEnabled = relayEnabled;
+        this.relayHost = relayHost;
+        this.relayPort = relayPort;
+        this.relayLogin = relayLogin;
+        this.relayPasscode = relayPasscode;
+    }
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
@@ -17,7 +54,29 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
-        registry.enableSimpleBroker("/queue", "/user");
+        if (relayEnabled) {
+            registry.enableStompBrokerRelay("/queue", "/topic")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(relayLogin)
+                    .setClientPasscode(relayPasscode)
+                    .setSystemLogin(relayLogin)
+                    .setSystemPasscode(relayPasscode)
+                    .setUserDestinationBroadcast(UNRESOLVED_USER_DESTINATION)
+                    .setUserRegistryBroadcast(USER_REGISTRY_DESTINATION);
+        } else {
+            registry.enableSimpleBroker("/queue", "/user");
+        }
         registry.setUserDestinationPrefix("/user");
     }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(stompAuthenticationInterceptor);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.addDecoratorFactory(webSocketSessions);
+    }
 }
@@ -0,0 +1,91 @@
+package fhict.boards.security.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import fhict.boards.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token-bucket rate limiting of the public auth endpoints per client IP and per email.
+ * The client IP is the remote address of the request, which Tomcat takes from {@code X-Forwarded-For} when the
+ * request came through a trusted proxy, see {@code server.forward-headers-strategy}.
+ * Buckets live in a size-bounded cache and are dropped once they have been idle long enough to be full again,
+ * as a new bucket behaves the same. Rejected requests are counted in the {@code auth.rate-limit.rejected} metric.
+ */
+@Component
+public class AuthRateLimiter {
+    private static final long MAXIMUM_BUCKETS = 100_000;
+
+    private final BucketLimit ipLimit;
+    private final BucketLimit emailLimit;
+    private final Cache<String, TokenBucket> ipBuckets;
+    private final Cache<String, TokenBucket> emailBuckets;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+
+    public AuthRateLimiter(MeterRegistry meterRegistry, Clock clock,
+                           @Value("${auth.rate-limit.ip.capacity:20}") long ipCapacity,
+                           @Value("${auth.rate-limit.ip.refill-period:PT3S}") Duration ipRefillPeriod,
+                           @Value("${auth.rate-limit.email.capacity:5}") long emailCapacity,
+                           @Value("${auth.rate-limit.email.refill-period:PT30S}") Duration emailRefillPeriod) {
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.ipLimit = new BucketLimit(ipCapacity, ipRefillPeriod);
+        this.emailLimit = new BucketLimit(emailCapacity, emailRefillPeriod);
+        this.ipBuckets = createBuckets(ipLimit);
+        this.emailBuckets = createBuckets(emailLimit);
+    }
+
+    /**
+     * Takes a token from the buckets of the client IP and the email, or throws if either is empty.
+     */
+    public void acquire(String endpoint, String ip, String email) {
+        acquire(endpoint, "ip", ipBuckets, ipLimit, ip);
+
+        if (email != null) {
+            acquire(endpoint, "email", emailBuckets, emailLimit, email.trim().toLowerCase(Locale.ROOT));
+        }
+    }
+
+    private void acquire(String endpoint, String limitName, Cache<String, TokenBucket> buckets, BucketLimit limit,
+                         String key) {
+        long now = nowNanos();
+        TokenBucket bucket = buckets.get(key, k -> new TokenBucket(limit.capacity(), limit.refillPeriod().toNanos(), now));
+        long waitNanos = bucket.tryConsume(now);
+
+        if (waitNanos > 0) {
+            Counter.builder("auth.rate-limit.rejected")
+                    .description("Auth requests rejected by rate limiting")
+                    .tag("endpoint", endpoint)
+                    .tag("limit", limitName)
+                    .register(meterRegistry)
+                    .increment();
+
+            throw new TooManyRequestsException(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L)));
+        }
+    }
+
+    private long nowNanos() {
+        return Duration.between(Instant.EPOCH, clock.instant()).toNanos();
+    }
+
+    private Cache<String, TokenBucket> createBuckets(BucketLimit limit) {
+        return Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_BUCKETS)
+                .ticker(this::nowNanos)
+                .expireAfterAccess(limit.refillPeriod().multipliedBy(limit.capacity()))
+                .build();
+    }
+
+    private record BucketLimit(long capacity, Duration refillPeriod) {
+    }
+}
@@ -3,6 +3,7 @@ package fhict.boards.security.auth;
 import fhict.boards.exception.InvalidAccessTokenException;
 import fhict.boards.security.token.AccessToken;
 import fhict.boards.security.token.AccessTokenSerializer;
+import fhict.boards.security.token.RevokedSessions;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -26,6 +27,7 @@ import java.util.Collections;
 @Component
 public class AuthenticationRequestFilter extends OncePerRequestFilter {
     private final AccessTokenSerializer accessTokenSerializer;
+    private final RevokedSessions revokedSessions;
 
     /**
      * Processes user authentication and access token validation for incoming HTTP requests.
@@ -44,6 +46,9 @@ public class AuthenticationRequestFilter extends OncePerRequestFilter {
 
         try {
             AccessToken accessToken = accessTokenSerializer.decode(accessTokenString);
+            if (revokedSessions.isRevoked(accessToken.getSessionId())) {
+                throw new InvalidAccessTokenException("Session of the access token was revoked.");
+            }
             setupSpringSecurityContext(accessToken);
             chain.doFilter(request, response);
         } catch (InvalidAccessTokenException e) {
@@ -0,0 +1,33 @@
+package fhict.boards.security.auth;
+
+import fhict.boards.service.ProjectAccess;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * Passes the {@link ProjectAccess} resolved by {@link ProjectAccessInterceptor} to handler parameters.
+ */
+@Component
+public class ProjectAccessArgumentResolver implements HandlerMethodArgumentResolver {
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return ProjectAccess.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        Object projectAccess = webRequest.getAttribute(ProjectAccessInterceptor.PROJECT_ACCESS_ATTRIBUTE,
+                RequestAttributes.SCOPE_REQUEST);
+
+        if (projectAccess == null) {
+            throw new IllegalStateException(parameter.getMethod() + " takes a ProjectAccess but isn't annotated with @RequiresProjectRole.");
+        }
+        return projectAccess;
+    }
+}
@@ -0,0 +1,80 @@
+package fhict.boards.security.auth;
+
+import fhict.boards.domain.enums.MemberRole;
+import fhict.boards.exception.UnauthorizedAccessException;
+import fhict.boards.security.token.AccessToken;
+import fhict.boards.service.MemberService;
+import fhict.boards.service.ProjectAccess;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resolves the authenticated user's membership for handlers annotated with {@link RequiresProjectRole}
+ * and stores it in the request for {@link ProjectAccessArgumentResolver}.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectAccessInterceptor implements HandlerInterceptor {
+    static final String PROJECT_ACCESS_ATTRIBUTE = ProjectAccess.class.getName();
+
+    private final MemberService memberService;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+
+        RequiresProjectRole requiresProjectRole = handlerMethod.getMethodAnnotation(RequiresProjectRole.class);
+        if (requiresProjectRole == null) {
+            return true;
+        }
+
+        Long projectId = getProjectId(request, requiresProjectRole.pathVariable());
+        EnumSet<MemberRole> rolesAllowed = EnumSet.copyOf(List.of(requiresProjectRole.value()));
+
+        ProjectAccess projectAccess = memberService.resolveProjectAccess(getAccessToken(), projectId, rolesAllowed);
+        request.setAttribute(PROJECT_ACCESS_ATTRIBUTE, projectAccess);
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Long getProjectId(HttpServletRequest request, String pathVariable) {
+        Map<String, String> pathVariables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        String value = pathVariables != null ? pathVariables.get(pathVariable) : null;
+
+        if (value == null) {
+            throw new IllegalStateException("Path variable '" + pathVariable + "' required by @RequiresProjectRole is missing.");
+        }
+
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid project ID: " + value);
+        }
+    }
+
+    // Read from the security context directly instead of through the request scoped AccessToken proxy
+    private static AccessToken getAccessToken() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication == null || !(authentication.getDetails() instanceof AccessToken accessToken)) {
+            throw new UnauthorizedAccessException("Authentication is required to access a project.");
+        }
+        return accessToken;
+    }
+}
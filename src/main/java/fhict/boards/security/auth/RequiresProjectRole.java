@@ -0,0 +1,26 @@
+package fhict.boards.security.auth;
+
+import fhict.boards.domain.enums.MemberRole;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Requires the authenticated user to be a member of the project in the request path with one of the given roles.
+ * The membership is resolved before the handler runs and can be taken as a {@link fhict.boards.service.ProjectAccess}
+ * parameter, so services don't have to look up the project and member again.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RequiresProjectRole {
+    MemberRole[] value();
+
+    /**
+     * Name of the path variable holding the project ID.
+     */
+    String pathVariable() default "projectId";
+}
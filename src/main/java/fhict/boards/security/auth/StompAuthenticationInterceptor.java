@@ -0,0 +1,92 @@
+package fhict.boards.security.auth;
+
+import fhict.boards.exception.InvalidAccessTokenException;
+import fhict.boards.security.token.AccessToken;
+import fhict.boards.security.token.AccessTokenSerializer;
+import fhict.boards.security.token.RevokedSessions;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+
+/**
+ * Authenticates STOMP sessions on their CONNECT frame and checks the frames that follow against the principal
+ * remembered on the session, so the access token is only parsed once per session.
+ * Clients may only subscribe to their own user destinations and can't send messages to the broker.
+ */
+@Component
+@RequiredArgsConstructor
+public class StompAuthenticationInterceptor implements ChannelInterceptor {
+    static final String USER_QUEUE_PREFIX = "/user/queue/";
+
+    private final AccessTokenSerializer accessTokenSerializer;
+    private final RevokedSessions revokedSessions;
+    private final WebSocketSessions webSocketSessions;
+    private final Clock clock;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message; // Heartbeats carry no command
+        }
+
+        switch (accessor.getCommand()) {
+            case CONNECT, STOMP -> authenticate(message, accessor);
+            case SUBSCRIBE -> authorizeSubscription(message, accessor);
+            case SEND -> throw new MessageDeliveryException(message, "Clients can't send messages.");
+            case DISCONNECT, UNSUBSCRIBE -> {
+            }
+            default -> getAuthenticatedPrincipal(message, accessor);
+        }
+        return message;
+    }
+
+    private void authenticate(Message<?> message, StompHeaderAccessor accessor) {
+        String header = accessor.getFirstNativeHeader("Authorization");
+        if (header == null || !header.startsWith("Bearer ")) {
+            throw new MessageDeliveryException(message, "CONNECT requires an Authorization header with a bearer token.");
+        }
+
+        AccessToken accessToken;
+        try {
+            accessToken = accessTokenSerializer.decode(header.substring(7));
+        } catch (InvalidAccessTokenException e) {
+            throw new MessageDeliveryException(message, "Invalid access token.");
+        }
+        if (revokedSessions.isRevoked(accessToken.getSessionId())) {
+            throw new MessageDeliveryException(message, "Session of the access token was revoked.");
+        }
+
+        // The sub-protocol handler remembers the user set on CONNECT for all later frames of the session
+        StompPrincipal principal = new StompPrincipal(accessToken);
+        accessor.setUser(principal);
+        webSocketSessions.authenticate(accessor.getSessionId(), principal);
+    }
+
+    private void authorizeSubscription(Message<?> message, StompHeaderAccessor accessor) {
+        getAuthenticatedPrincipal(message, accessor);
+
+        // "/user/queue/..." is resolved to a queue of this session only, other destinations could belong to another user
+        String destination = accessor.getDestination();
+        if (destination == null || !destination.startsWith(USER_QUEUE_PREFIX)) {
+            throw new MessageDeliveryException(message, "Clients may only subscribe to destinations under " + USER_QUEUE_PREFIX);
+        }
+    }
+
+    private StompPrincipal getAuthenticatedPrincipal(Message<?> message, StompHeaderAccessor accessor) {
+        if (!(accessor.getUser() instanceof StompPrincipal principal)) {
+            throw new MessageDeliveryException(message, "Session is not authenticated.");
+        }
+        if (principal.isExpired(clock.instant()) || revokedSessions.isRevoked(principal.accessToken().getSessionId())) {
+            throw new MessageDeliveryException(message, "Access token of the session expired or was revoked.");
+        }
+        return principal;
+    }
+}
@@ -0,0 +1,21 @@
+package fhict.boards.security.auth;
+
+import fhict.boards.security.token.AccessToken;
+
+import java.security.Principal;
+import java.time.Instant;
+
+/**
+ * Identity of a STOMP session, verified once from the access token sent with its CONNECT frame.
+ * Its name is the user ID, which is what notifications are addressed to.
+ */
+public record StompPrincipal(AccessToken accessToken) implements Principal {
+    @Override
+    public String getName() {
+        return accessToken.getUserId().toString();
+    }
+
+    public boolean isExpired(Instant now) {
+        return accessToken.getExpiresAt() != null && !now.isBefore(accessToken.getExpiresAt());
+    }
+}
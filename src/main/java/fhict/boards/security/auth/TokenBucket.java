@@ -0,0 +1,36 @@
+package fhict.boards.security.auth;
+
+/**
+ * Token bucket that holds up to a fixed number of tokens and gains one token per refill period.
+ * Tokens are refilled lazily when the bucket is used.
+ */
+final class TokenBucket {
+    private final long capacity;
+    private final long refillPeriodNanos;
+    private long tokens;
+    private long lastRefillNanos;
+
+    TokenBucket(long capacity, long refillPeriodNanos, long nowNanos) {
+        this.capacity = capacity;
+        this.refillPeriodNanos = refillPeriodNanos;
+        this.tokens = capacity;
+        this.lastRefillNanos = nowNanos;
+    }
+
+    /**
+     * Takes a token if there is one. Returns 0 if a token was taken, otherwise the nanoseconds until the next token.
+     */
+    synchronized long tryConsume(long nowNanos) {
+        long periods = (nowNanos - lastRefillNanos) / refillPeriodNanos;
+        if (periods > 0) {
+            tokens = Math.min(capacity, tokens + periods);
+            lastRefillNanos = tokens == capacity ? nowNanos : lastRefillNanos + periods * refillPeriodNanos;
+        }
+
+        if (tokens > 0) {
+            tokens--;
+            return 0;
+        }
+        return lastRefillNanos + refillPeriodNanos - nowNanos;
+    }
+}
@@ -0,0 +1,134 @@
+package fhict.boards.security.auth;
+
+import fhict.boards.security.token.RevokedSessions;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps track of open WebSocket sessions and the principal each one authenticated with, and closes sessions
+ * whose access token expired or whose login session was revoked. Sessions that never send a CONNECT frame
+ * are already closed by Spring after a minute.
+ * The number of open sessions is published as the {@code websocket.sessions} gauge, tagged by state.
+ */
+@Slf4j
+@Component
+public class WebSocketSessions implements WebSocketHandlerDecoratorFactory {
+    private static final CloseStatus TOKEN_EXPIRED = CloseStatus.POLICY_VIOLATION.withReason("Access token expired");
+    private static final CloseStatus SESSION_REVOKED = CloseStatus.POLICY_VIOLATION.withReason("Session was revoked");
+
+    private final Map<String, TrackedSession> sessions = new ConcurrentHashMap<>();
+    private final RevokedSessions revokedSessions;
+    private final Clock clock;
+    private final Counter expiredClosed;
+    private final Counter revokedClosed;
+
+    public WebSocketSessions(RevokedSessions revokedSessions, MeterRegistry meterRegistry, Clock clock) {
+        this.revokedSessions = revokedSessions;
+        this.clock = clock;
+
+        Gauge.builder("websocket.sessions", this, tracker -> tracker.count(false))
+                .description("Open WebSocket sessions")
+                .tag("state", "connecting")
+                .register(meterRegistry);
+        Gauge.builder("websocket.sessions", this, tracker -> tracker.count(true))
+                .description("Open WebSocket sessions")
+                .tag("state", "authenticated")
+                .register(meterRegistry);
+
+        this.expiredClosed = closedCounter(meterRegistry, "expired");
+        this.revokedClosed = closedCounter(meterRegistry, "revoked");
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                sessions.put(session.getId(), new TrackedSession(session));
+                super.afterConnectionEstablished(session);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                sessions.remove(session.getId());
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    /**
+     * Records the principal a session authenticated with on its CONNECT frame.
+     */
+    public void authenticate(String sessionId, StompPrincipal principal) {
+        TrackedSession tracked = sessions.get(sessionId);
+        if (tracked != null) {
+            tracked.principal = principal;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${websocket.session-check-interval-ms:10000}")
+    public void closeExpiredSessions() {
+        Instant now = clock.instant();
+
+        for (TrackedSession tracked : sessions.values()) {
+            StompPrincipal principal = tracked.principal;
+            if (principal == null) {
+                continue;
+            }
+
+            if (principal.isExpired(now)) {
+                close(tracked.session, TOKEN_EXPIRED);
+                expiredClosed.increment();
+            } else if (revokedSessions.isRevoked(principal.accessToken().getSessionId())) {
+                close(tracked.session, SESSION_REVOKED);
+                revokedClosed.increment();
+            }
+        }
+    }
+
+    private void close(WebSocketSession session, CloseStatus status) {
+        sessions.remove(session.getId());
+        try {
+            session.close(status);
+        } catch (IOException e) {
+            log.warn("Failed to close WebSocket session {}", session.getId(), e);
+        }
+    }
+
+    private long count(boolean authenticated) {
+        return sessions.values().stream()
+                .filter(tracked -> (tracked.principal != null) == authenticated)
+                .count();
+    }
+
+    private static Counter closedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("websocket.sessions.closed")
+                .description("WebSocket sessions closed by the server")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private static final class TrackedSession {
+        private final WebSocketSession session;
+        private volatile StompPrincipal principal;
+
+        private TrackedSession(WebSocketSession session) {
+            this.session = session;
+        }
+    }
+}
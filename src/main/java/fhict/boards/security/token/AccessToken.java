@@ -6,6 +6,9 @@ import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
+import java.time.Instant;
+import java.util.Map;
+
 @EqualsAndHashCode
 @Getter
 @AllArgsConstructor
@@ -14,4 +17,10 @@ public class AccessToken {
     private final String subject;
     private final Long userId;
     private final AccessRole role;
+    private final String sessionId;
+    private final Map<Long, ProjectMembershipClaim> projectMemberships;
+    private final Long membershipVersion;
+    // Set when a token is decoded, encoding always starts a new lifetime
+    @EqualsAndHashCode.Exclude
+    private final Instant expiresAt;
 }
\ No newline at end of file
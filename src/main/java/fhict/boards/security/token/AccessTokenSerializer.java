@@ -1,6 +1,10 @@
 package fhict.boards.security.token;
 
+import java.time.Duration;
+
 public interface AccessTokenSerializer {
+    Duration TOKEN_LIFETIME = Duration.ofMinutes(60);
+
     AccessToken decode(String accessTokenEncoded);
     String encode(AccessToken accessToken);
 }
@@ -2,9 +2,13 @@ package fhict.boards.security.token;
 
 import fhict.boards.exception.InvalidAccessTokenException;
 import fhict.boards.domain.enums.AccessRole;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwt;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -12,22 +16,42 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.security.Key;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 
 /**
  * Service for encoding and decoding access tokens using JWTs.
+ * Tokens that were verified once are kept in a bounded cache keyed by their SHA-256 digest until they expire,
+ * so a client reusing its token doesn't pay for signature verification and claim parsing on every request.
  */
 @Service
 public class AccessTokenSerializerImpl implements AccessTokenSerializer {
     private final Key key;
+    private final JwtParser parser;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+    private final Clock clock;
 
-    public AccessTokenSerializerImpl(@Value("${jwt.secret}") String secretKey) {
+    public AccessTokenSerializerImpl(@Value("${jwt.secret}") String secretKey,
+                                     @Value("${jwt.verified-token-cache.maximum-size:10000}") long cacheSize,
+                                     Clock clock) {
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.clock = clock;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .setClock(() -> Date.from(clock.instant()))
+                .build();
+        this.verifiedTokens = cacheSize > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(cacheSize)
+                        .expireAfter(new VerifiedTokenExpiry())
+                        .ticker(() -> Duration.between(Instant.EPOCH, clock.instant()).toNanos())
+                        .build()
+                : null;
     }
 
     /**
@@ -43,37 +67,106 @@ public class AccessTokenSerializerImpl implements AccessTokenSerializer {
         if (accessToken.getUserId() != null) {
             claimsMap.put("userId", accessToken.getUserId());
         }
+        if (accessToken.getSessionId() != null) {
+            claimsMap.put("sid", accessToken.getSessionId());
+        }
+        if (accessToken.getProjectMemberships() != null && accessToken.getMembershipVersion() != null) {
+            Map<String, String> memberships = new HashMap<>();
+            accessToken.getProjectMemberships().forEach((projectId, membership) ->
+                    memberships.put(projectId.toString(), membership.encode()));
+
+            claimsMap.put("pm", memberships);
+            claimsMap.put("mv", accessToken.getMembershipVersion());
+        }
 
-        Instant now = Instant.now();
+        Instant now = clock.instant();
         return Jwts.builder()
                 .setSubject(accessToken.getSubject())
                 .setIssuedAt(Date.from(now))
-                .setExpiration(Date.from(now.plus(60, ChronoUnit.MINUTES)))
+                .setExpiration(Date.from(now.plus(TOKEN_LIFETIME)))
                 .addClaims(claimsMap)
                 .signWith(key)
                 .compact();
     }
 
     /**
-     * Decodes a JWT into an access token, extracting subject (email), roles, and user ID.
+     * Decodes a JWT into an access token, extracting subject (email), roles, user ID, session ID, project memberships
+     * and expiration time.
+     * A token found in the verified-token cache is only checked against its expiration time.
      */
     @Override
     public AccessToken decode(String accessTokenEncoded) {
+        if (verifiedTokens == null) {
+            return verify(accessTokenEncoded).accessToken();
+        }
+
+        VerifiedToken token = verifiedTokens.get(TokenDigest.sha256(accessTokenEncoded), digest -> verify(accessTokenEncoded));
+        if (!clock.instant().isBefore(token.expiresAt())) {
+            throw new InvalidAccessTokenException("JWT expired at " + token.expiresAt() + ".");
+        }
+        return token.accessToken();
+    }
+
+    // Package-private so tests can tell cache hits from verifications
+    VerifiedToken verify(String accessTokenEncoded) {
         try {
-            Jwt<?, Claims> jwt = Jwts.parserBuilder().setSigningKey(key).build()
-                    .parseClaimsJws(accessTokenEncoded);
+            Jwt<?, Claims> jwt = parser.parseClaimsJws(accessTokenEncoded);
             Claims claims = jwt.getBody();
 
             AccessRole role = AccessRole.valueOf(claims.get("role", String.class));
             Long userId = claims.get("userId", Long.class);
+            String sessionId = claims.get("sid", String.class);
+
+            Instant expiresAt = claims.getExpiration() != null
+                    ? claims.getExpiration().toInstant()
+                    : clock.instant().plus(TOKEN_LIFETIME);
 
-            return AccessToken.builder()
+            AccessToken accessToken = AccessToken.builder()
                     .subject(claims.getSubject())
                     .userId(userId)
                     .role(role)
+                    .sessionId(sessionId)
+                    .projectMemberships(decodeProjectMemberships(claims.get("pm", Map.class)))
+                    .membershipVersion(claims.get("mv", Long.class))
+                    .expiresAt(expiresAt)
                     .build();
-        } catch (JwtException e) {
+            return new VerifiedToken(accessToken, expiresAt);
+        } catch (JwtException | IllegalArgumentException e) {
             throw new InvalidAccessTokenException(e.getMessage());
         }
     }
+
+    private static Map<Long, ProjectMembershipClaim> decodeProjectMemberships(Map<?, ?> claim) {
+        if (claim == null) {
+            return null;
+        }
+
+        Map<Long, ProjectMembershipClaim> memberships = new HashMap<>();
+        claim.forEach((projectId, membership) ->
+                memberships.put(Long.valueOf(projectId.toString()), ProjectMembershipClaim.parse(membership.toString())));
+        return memberships;
+    }
+
+    record VerifiedToken(AccessToken accessToken, Instant expiresAt) {
+    }
+
+    /**
+     * Expires a cached token at the expiration time of the JWT.
+     */
+    private class VerifiedTokenExpiry implements Expiry<String, VerifiedToken> {
+        @Override
+        public long expireAfterCreate(String digest, VerifiedToken token, long currentTime) {
+            return Math.max(0, Duration.between(clock.instant(), token.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String digest, VerifiedToken token, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String digest, VerifiedToken token, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
@@ -0,0 +1,21 @@
+package fhict.boards.security.token;
+
+import fhict.boards.domain.enums.MemberRole;
+
+/**
+ * Member ID and role of the user in a project, as embedded in an access token in the compact form {@code "<memberId>:<role>"}.
+ */
+public record ProjectMembershipClaim(Long memberId, MemberRole role) {
+    public String encode() {
+        return memberId + ":" + role.name();
+    }
+
+    public static ProjectMembershipClaim parse(String value) {
+        int separator = value.indexOf(':');
+        if (separator < 0) {
+            throw new IllegalArgumentException("Invalid project membership claim: " + value);
+        }
+        return new ProjectMembershipClaim(Long.valueOf(value.substring(0, separator)),
+                MemberRole.valueOf(value.substring(separator + 1)));
+    }
+}
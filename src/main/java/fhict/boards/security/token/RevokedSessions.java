@@ -0,0 +1,28 @@
+package fhict.boards.security.token;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory set of revoked sessions, checked for every authenticated request.
+ * A session only has to stay in the set until the last access token issued for it has expired.
+ */
+@Component
+public class RevokedSessions {
+    private final Map<String, Instant> expiresAtBySessionId = new ConcurrentHashMap<>();
+
+    public boolean isRevoked(String sessionId) {
+        return sessionId != null && expiresAtBySessionId.containsKey(sessionId);
+    }
+
+    public void revoke(String sessionId, Instant expiresAt) {
+        expiresAtBySessionId.merge(sessionId, expiresAt, (current, added) -> current.isAfter(added) ? current : added);
+    }
+
+    public void removeExpired(Instant now) {
+        expiresAtBySessionId.values().removeIf(expiresAt -> expiresAt.isBefore(now));
+    }
+}
@@ -0,0 +1,47 @@
+package fhict.boards.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Repeats cache evictions once the surrounding transaction has ended, committed or not. A read that runs between
+ * the first eviction and the end of the transaction still sees the old rows and could cache them again.
+ * Evictions on other instances are only published once the transaction has ended, as they can't be repeated.
+ */
+public final class AfterCompletion {
+    private AfterCompletion() {
+    }
+
+    /**
+     * Runs the action now and, inside a transaction, again once it has completed.
+     */
+    public static void runNowAndAgain(Runnable action) {
+        action.run();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    action.run();
+                }
+            });
+        }
+    }
+
+    /**
+     * Runs the action once the surrounding transaction has completed, or right away outside of a transaction.
+     */
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                action.run();
+            }
+        });
+    }
+}
@@ -2,9 +2,12 @@ package fhict.boards.service;
 
 import fhict.boards.domain.dto.AccessTokenResponse;
 import fhict.boards.domain.dto.LoginRequest;
+import fhict.boards.domain.dto.RefreshTokenRequest;
 import fhict.boards.domain.dto.SignupRequest;
 
 public interface AuthService {
     AccessTokenResponse createUser(SignupRequest request);
     AccessTokenResponse loginUser(LoginRequest request);
+    AccessTokenResponse refreshAccessToken(RefreshTokenRequest request);
+    void logoutUser(RefreshTokenRequest request);
 }
@@ -2,6 +2,7 @@ package fhict.boards.service;
 
 import fhict.boards.domain.dto.AccessTokenResponse;
 import fhict.boards.domain.dto.LoginRequest;
+import fhict.boards.domain.dto.RefreshTokenRequest;
 import fhict.boards.domain.dto.SignupRequest;
 import fhict.boards.exception.EmailAlreadyExistsException;
 import fhict.boards.exception.InvalidCredentialsException;
@@ -9,8 +10,6 @@ import fhict.boards.exception.UserNotFoundException;
 import fhict.boards.repository.UserRepository;
 import fhict.boards.domain.enums.AccessRole;
 import fhict.boards.repository.entity.User;
-import fhict.boards.security.token.AccessToken;
-import fhict.boards.security.token.AccessTokenSerializer;
 import lombok.AllArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -23,7 +22,7 @@ public class AuthServiceImpl implements AuthService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
-    private final AccessTokenSerializer accessTokenSerializer;
+    private final SessionService sessionService;
 
     public AccessTokenResponse createUser(SignupRequest request) {
         if (userRepository.existsByEmail(request.getEmail())) {
@@ -41,13 +40,7 @@ public class AuthServiceImpl implements AuthService {
 
         userRepository.save(user);
 
-        AccessToken accessToken = AccessToken.builder()
-                .subject(user.getEmail())
-                .userId(user.getId())
-                .role(user.getAccessRole())
-                .build();
-
-        return new AccessTokenResponse(accessTokenSerializer.encode(accessToken));
+        return sessionService.startSession(user);
     }
 
     public AccessTokenResponse loginUser(LoginRequest request) {
@@ -63,12 +56,14 @@ public class AuthServiceImpl implements AuthService {
             throw new InvalidCredentialsException();
         }
 
-        AccessToken accessToken = AccessToken.builder()
-                .subject(user.getEmail())
-                .userId(user.getId())
-                .role(user.getAccessRole())
-                .build();
+        return sessionService.startSession(user);
+    }
+
+    public AccessTokenResponse refreshAccessToken(RefreshTokenRequest request) {
+        return sessionService.refreshSession(request.getRefreshToken());
+    }
 
-        return new AccessTokenResponse(accessTokenSerializer.encode(accessToken));
+    public void logoutUser(RefreshTokenRequest request) {
+        sessionService.endSession(request.getRefreshToken());
     }
 }
@@ -0,0 +1,7 @@
+package fhict.boards.service;
+
+import fhict.boards.domain.dto.BoardResponse;
+
+public interface BoardService {
+    BoardResponse getBoard(Long projectId);
+}
@@ -0,0 +1,105 @@
+package fhict.boards.service;
+
+import fhict.boards.domain.dto.*;
+import fhict.boards.domain.enums.IssueStatus;
+import fhict.boards.exception.MemberNotFoundException;
+import fhict.boards.exception.ProjectNotFoundException;
+import fhict.boards.repository.*;
+import fhict.boards.security.token.AccessToken;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+@Service
+@AllArgsConstructor
+public class BoardServiceImpl implements BoardService {
+
+    private final ProjectRepository projectRepository;
+    private final MemberRepository memberRepository;
+    private final IssueRepository issueRepository;
+    private final AccessToken requestAccessToken;
+
+    /**
+     * Builds the whole board from three projection queries. Membership is checked against the
+     * members that are loaded for the board anyway, instead of with a separate query.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public BoardResponse getBoard(Long projectId) {
+        List<BoardMemberProjection> members = memberRepository.findBoardMembersByProjectId(projectId);
+
+        boolean isMember = members.stream()
+                .anyMatch(member -> Objects.equals(member.getUserId(), requestAccessToken.getUserId()));
+
+        if (!isMember) {
+            throw new MemberNotFoundException("Authenticated user is not a member of project with ID: " + projectId);
+        }
+
+        BoardProjectProjection project = projectRepository.findBoardProjectById(projectId)
+                .orElseThrow(() -> new ProjectNotFoundException(projectId));
+
+        Map<IssueStatus, List<BoardIssueResponse>> issuesByStatus = new EnumMap<>(IssueStatus.class);
+        for (IssueStatus status : IssueStatus.values()) {
+            issuesByStatus.put(status, new ArrayList<>());
+        }
+        for (BoardIssueProjection issue : issueRepository.findBoardIssuesByProjectId(projectId)) {
+            issuesByStatus.get(issue.getStatus()).add(mapToBoardIssueResponse(issue));
+        }
+
+        List<BoardColumnResponse> columns = issuesByStatus.entrySet()
+                .stream()
+                .map(column -> BoardColumnResponse.builder()
+                        .status(column.getKey())
+                        .count(column.getValue().size())
+                        .issues(column.getValue())
+                        .build())
+                .toList();
+
+        Map<Long, MemberResponse> membersById = new LinkedHashMap<>();
+        for (BoardMemberProjection member : members) {
+            membersById.put(member.getId(), mapToMemberResponse(member));
+        }
+
+        return BoardResponse.builder()
+                .project(ProjectResponse.builder()
+                        .id(project.getId())
+                        .name(project.getName())
+                        .key(project.getProjectKey())
+                        .icon(project.getIcon())
+                        .build())
+                .columns(columns)
+                .members(membersById)
+                .build();
+    }
+
+    private BoardIssueResponse mapToBoardIssueResponse(BoardIssueProjection issue) {
+        return BoardIssueResponse.builder()
+                .id(issue.getId())
+                .key(issue.getIssueKey())
+                .title(issue.getTitle())
+                .type(issue.getType())
+                .priority(issue.getPriority())
+                .dueOn(issue.getDueOn())
+                .rank(issue.getRank())
+                .assigneeId(issue.getAssigneeId())
+                .build();
+    }
+
+    private MemberResponse mapToMemberResponse(BoardMemberProjection member) {
+        return MemberResponse.builder()
+                .id(member.getId())
+                .user(UserResponse.builder()
+                        .id(member.getUserId())
+                        .name(member.getUserName())
+                        .email(member.getUserEmail())
+                        .company(member.getUserCompany())
+                        .location(member.getUserLocation())
+                        .picture(member.getUserPicture())
+                        .build())
+                .role(member.getRole())
+                .joinedOn(member.getJoinedOn())
+                .build();
+    }
+}
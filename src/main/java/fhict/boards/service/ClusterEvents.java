@@ -0,0 +1,209 @@
+package fhict.boards.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.ReactorNettyTcpStompClient;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Tells the other instances of the application about changes that made state they keep in memory stale, through
+ * the STOMP broker that websocket messages are relayed to. Without {@code websocket.broker.relay.enabled} there is
+ * only one instance and nothing is published.
+ * <p>
+ * Events are best effort: an instance that is disconnected from the broker misses them. Every time the connection
+ * is established, the resync listeners of this instance run, and if events couldn't be published while it was
+ * disconnected the other instances are told to resync as well. Handlers run one at a time on a thread of their own.
+ */
+@Slf4j
+@Component
+public class ClusterEvents implements DisposableBean {
+    static final String DESTINATION = "/topic/cluster-events";
+    static final String RESYNC = "resync";
+    private static final String TYPE_HEADER = "cluster-event-type";
+    private static final String SOURCE_HEADER = "cluster-event-source";
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final ObjectMapper objectMapper;
+    private final ReactorNettyTcpStompClient stompClient;
+    private final StompHeaders connectHeaders = new StompHeaders();
+    private final ExecutorService handlerExecutor =
+            Executors.newSingleThreadExecutor(new CustomizableThreadFactory("cluster-events-"));
+    private final Map<String, Consumer<byte[]>> handlers = new ConcurrentHashMap<>();
+    private final List<Runnable> resyncListeners = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean connecting = new AtomicBoolean();
+    private final AtomicBoolean publishMissed = new AtomicBoolean();
+    private volatile StompSession session;
+
+    public ClusterEvents(ObjectMapper objectMapper,
+                         @Value("${websocket.broker.relay.enabled:false}") boolean relayEnabled,
+                         @Value("${websocket.broker.relay.host:localhost}") String relayHost,
+                         @Value("${websocket.broker.relay.port:61613}") int relayPort,
+                         @Value("${websocket.broker.relay.login:guest}") String relayLogin,
+                         @Value("${websocket.broker.relay.passcode:guest}") String relayPasscode) {
+        this.objectMapper = objectMapper;
+        this.stompClient = relayEnabled ? new ReactorNettyTcpStompClient(relayHost, relayPort) : null;
+        this.connectHeaders.setLogin(relayLogin);
+        this.connectHeaders.setPasscode(relayPasscode);
+    }
+
+    /**
+     * Registers the handler of an event type, which is called with the payload of events other instances publish.
+     */
+    public <T> void subscribe(String type, Class<T> payloadType, Consumer<T> handler) {
+        handlers.put(type, body -> {
+            try {
+                handler.accept(objectMapper.readValue(body, payloadType));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Registers a listener that drops or reloads state which may have missed events.
+     */
+    public void onResync(Runnable listener) {
+        resyncListeners.add(listener);
+    }
+
+    /**
+     * Publishes an event to the other instances. While disconnected the event is dropped and the other instances
+     * are told to resync once the connection is back.
+     */
+    public void publish(String type, Object payload) {
+        if (stompClient == null) {
+            return;
+        }
+
+        StompSession current = session;
+        if (current == null || !current.isConnected()) {
+            publishMissed.set(true);
+            return;
+        }
+
+        StompHeaders headers = new StompHeaders();
+        headers.setDestination(DESTINATION);
+        headers.set(TYPE_HEADER, type);
+        headers.set(SOURCE_HEADER, instanceId);
+        try {
+            current.send(headers, objectMapper.writeValueAsBytes(payload));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        } catch (MessageDeliveryException | IllegalStateException e) {
+            publishMissed.set(true);
+            log.warn("Failed to publish cluster event {}", type, e);
+        }
+    }
+
+    /**
+     * Returns whether events are currently published to and received from the other instances.
+     */
+    public boolean isConnected() {
+        StompSession current = session;
+        return current != null && current.isConnected();
+    }
+
+    @Scheduled(fixedDelayString = "${cluster.events.reconnect-interval-ms:5000}")
+    public void connectIfDisconnected() {
+        if (stompClient == null || isConnected() || !connecting.compareAndSet(false, true)) {
+            return;
+        }
+
+        stompClient.connectAsync(connectHeaders, new SessionHandler()).whenComplete((connected, e) -> {
+            connecting.set(false);
+            if (e != null) {
+                log.warn("Failed to connect to the broker for cluster events: {}", e.getMessage());
+            }
+        });
+    }
+
+    @Override
+    public void destroy() {
+        StompSession current = session;
+        if (current != null && current.isConnected()) {
+            current.disconnect();
+        }
+        if (stompClient != null) {
+            stompClient.shutdown();
+        }
+        handlerExecutor.shutdownNow();
+    }
+
+    private void handle(String type, byte[] body) {
+        handlerExecutor.execute(() -> {
+            try {
+                if (RESYNC.equals(type)) {
+                    resyncListeners.forEach(Runnable::run);
+                    return;
+                }
+
+                Consumer<byte[]> handler = handlers.get(type);
+                if (handler != null) {
+                    handler.accept(body);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Failed to handle cluster event {}", type, e);
+            }
+        });
+    }
+
+    private class SessionHandler extends StompSessionHandlerAdapter {
+        @Override
+        public void afterConnected(StompSession connected, StompHeaders connectedHeaders) {
+            connected.subscribe(DESTINATION, this);
+            session = connected;
+
+            // Events other instances published while this one wasn't subscribed are lost
+            handle(RESYNC, null);
+            if (publishMissed.getAndSet(false)) {
+                publish(RESYNC, Map.of());
+            }
+        }
+
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return byte[].class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            if (!instanceId.equals(headers.getFirst(SOURCE_HEADER))) {
+                handle(headers.getFirst(TYPE_HEADER), (byte[]) payload);
+            }
+        }
+
+        @Override
+        public void handleException(StompSession failed, StompCommand command, StompHeaders headers, byte[] payload,
+                                    Throwable exception) {
+            log.warn("Failed to receive a cluster event", exception);
+        }
+
+        @Override
+        public void handleTransportError(StompSession failed, Throwable exception) {
+            log.warn("Lost the connection to the broker for cluster events: {}", exception.getMessage());
+        }
+    }
+}
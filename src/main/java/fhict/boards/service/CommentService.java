@@ -6,8 +6,8 @@ import fhict.boards.domain.dto.CommentResponse;
 import java.util.List;
 
 public interface CommentService {
-    CommentResponse createComment(Long projectId, Long issueId, CommentRequest request);
-    List<CommentResponse> getComments(Long projectId, Long issueId);
-    CommentResponse editComment(Long projectId, Long issueId, Long commentId, CommentRequest request);
-    void deleteComment(Long projectId, Long issueId, Long commentId);
+    CommentResponse createComment(ProjectAccess projectAccess, Long issueId, CommentRequest request);
+    List<CommentResponse> getComments(ProjectAccess projectAccess, Long issueId);
+    CommentResponse editComment(ProjectAccess projectAccess, Long issueId, Long commentId, CommentRequest request);
+    void deleteComment(ProjectAccess projectAccess, Long issueId, Long commentId);
 }
@@ -3,14 +3,11 @@ package fhict.boards.service;
 import fhict.boards.domain.dto.CommentRequest;
 import fhict.boards.domain.dto.CommentResponse;
 import fhict.boards.exception.CommentNotFoundException;
-import fhict.boards.exception.MemberNotFoundException;
 import fhict.boards.exception.ProjectUnauthorizedAccessException;
 import fhict.boards.repository.CommentRepository;
-import fhict.boards.repository.MemberRepository;
 import fhict.boards.repository.entity.Comment;
 import fhict.boards.repository.entity.Issue;
 import fhict.boards.repository.entity.Member;
-import fhict.boards.security.token.AccessToken;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -24,39 +21,29 @@ import java.util.Optional;
 public class CommentServiceImpl implements CommentService {
     private final CommentRepository commentRepository;
     private final IssueService issueService;
-    private final MemberRepository memberRepository;
-    private final AccessToken requestAccessToken;
     private final DtoMapper dtoMapper;
+    private final SearchService searchService;
 
     @Override
-    public CommentResponse createComment(Long projectId, Long issueId, CommentRequest request) {
-        Optional<Member> commenter = memberRepository.findByUserIdAndProjectId(requestAccessToken.getUserId(), projectId);
-
-        if (commenter.isEmpty()) {
-            throw new MemberNotFoundException("Commenter is not a member of project with ID: " + projectId);
-        }
-        Issue issue = issueService.getIssueByIdOrThrowNotFound(issueId);
+    public CommentResponse createComment(ProjectAccess projectAccess, Long issueId, CommentRequest request) {
+        Issue issue = issueService.getIssueInProjectOrThrowNotFound(issueId, projectAccess.projectId());
 
         Comment comment = Comment.builder()
                 .issue(issue)
-                .createdBy(commenter.get())
+                .createdBy(projectAccess.member())
                 .createdOn(LocalDateTime.now())
                 .body(request.getBody())
                 .build();
 
         Comment savedComment = commentRepository.save(comment);
+        searchService.indexIssue(issue.getId());
+
         return dtoMapper.mapToCommentResponse(savedComment);
     }
 
     @Override
-    public List<CommentResponse> getComments(Long projectId, Long issueId) {
-        Optional<Member> member = memberRepository.findByUserIdAndProjectId(requestAccessToken.getUserId(), projectId);
-
-        if (member.isEmpty()) {
-            throw new MemberNotFoundException("Authenticated user is not a member of project with ID: " + projectId);
-        }
-
-        Issue issue = issueService.getIssueByIdOrThrowNotFound(issueId);
+    public List<CommentResponse> getComments(ProjectAccess projectAccess, Long issueId) {
+        Issue issue = issueService.getIssueInProjectOrThrowNotFound(issueId, projectAccess.projectId());
 
         return issue.getComments()
                 .stream()
@@ -65,41 +52,36 @@ public class CommentServiceImpl implements CommentService {
     }
 
     @Override
-    public CommentResponse editComment(Long projectId, Long issueId, Long commentId, CommentRequest request) {
+    public CommentResponse editComment(ProjectAccess projectAccess, Long issueId, Long commentId, CommentRequest request) {
         Comment comment = getCommentOrThrowNotFound(commentId);
 
-        Optional<Member> editor = memberRepository.findByUserIdAndProjectId(requestAccessToken.getUserId(), projectId);
-
-        if (editor.isEmpty()) {
-            throw new MemberNotFoundException("Editor is not a member of project with ID: " + projectId);
-        }
-
-        if (!Objects.equals(editor.get(), comment.getCreatedBy())) {
+        if (!isCreatedBy(comment, projectAccess.member())) {
             throw new ProjectUnauthorizedAccessException("Member is not authorized to edit this comment.");
         }
 
         comment.setBody(request.getBody());
         comment.setLastUpdatedOn(LocalDateTime.now());
         commentRepository.save(comment);
+        searchService.indexIssue(comment.getIssue().getId());
 
         return dtoMapper.mapToCommentResponse(comment);
     }
 
     @Override
-    public void deleteComment(Long projectId, Long issueId, Long commentId) {
+    public void deleteComment(ProjectAccess projectAccess, Long issueId, Long commentId) {
         Comment comment = getCommentOrThrowNotFound(commentId);
 
-        Optional<Member> deleter = memberRepository.findByUserIdAndProjectId(requestAccessToken.getUserId(), projectId);
-
-        if (deleter.isEmpty()) {
-            throw new MemberNotFoundException("Deleter is not a member of project with ID: " + projectId);
-        }
-
-        if (!Objects.equals(deleter.get(), comment.getCreatedBy())) {
+        if (!isCreatedBy(comment, projectAccess.member())) {
             throw new ProjectUnauthorizedAccessException("Member is not authorized to delete this comment.");
         }
 
         commentRepository.deleteById(commentId);
+        searchService.indexIssue(comment.getIssue().getId());
+    }
+
+    // Compares IDs, as the member may be a reference that isn't the same instance as the comment's creator
+    private static boolean isCreatedBy(Comment comment, Member member) {
+        return comment.getCreatedBy() != null && Objects.equals(comment.getCreatedBy().getId(), member.getId());
     }
 
     private Comment getCommentOrThrowNotFound(Long id) {
@@ -0,0 +1,65 @@
+package fhict.boards.service;
+
+import fhict.boards.exception.InvalidCursorException;
+import fhict.boards.exception.InvalidPageLimitException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.regex.Pattern;
+
+/**
+ * Encodes and decodes the opaque cursors used for keyset pagination.
+ * A cursor holds the sort key values of the last row of a page.
+ */
+public final class CursorCodec {
+    private static final String SEPARATOR = "|";
+
+    private CursorCodec() {
+    }
+
+    /**
+     * Returns the number of rows to put on a page for the requested limit, capped at the maximum page size.
+     */
+    public static int pageSize(int limit, int maxPageSize) {
+        if (limit < 1) {
+            throw new InvalidPageLimitException(limit);
+        }
+        return Math.min(limit, maxPageSize);
+    }
+
+    public static String encode(Object... values) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                builder.append(SEPARATOR);
+            }
+            builder.append(values[i]);
+        }
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(builder.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String[] decode(String cursor, int expectedValues) {
+        String[] values;
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            values = decoded.split(Pattern.quote(SEPARATOR), -1);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(cursor);
+        }
+
+        if (values.length != expectedValues) {
+            throw new InvalidCursorException(cursor);
+        }
+        return values;
+    }
+
+    public static Long decodeId(String cursor) {
+        try {
+            return Long.valueOf(decode(cursor, 1)[0]);
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+}
@@ -25,6 +25,8 @@ public class DtoMapperImpl implements DtoMapper {
                 .dueOn(issue.getDueOn())
                 .createdBy(issue.getCreatedBy() != null ? mapToMemberResponse(issue.getCreatedBy()) : null)
                 .updatedOn(issue.getUpdatedOn())
+                .version(issue.getVersion())
+                .rank(issue.getRank())
                 .build();
     }
 
@@ -0,0 +1,69 @@
+package fhict.boards.service;
+
+import fhict.boards.exception.ProjectNotFoundException;
+import fhict.boards.repository.IssueRepository;
+import fhict.boards.repository.IssueTombstoneRepository;
+import fhict.boards.repository.ProjectRepository;
+import fhict.boards.repository.entity.IssueTombstone;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Hands out the per-project change numbers that issue changes are synced by.
+ * Taking a number locks the project row until the surrounding transaction ends, so changes
+ * of a project commit in the order of their numbers and a client that has seen number N
+ * never misses a change numbered N or lower that commits later.
+ */
+@Slf4j
+@Component
+@AllArgsConstructor
+public class IssueChangeTracker implements SmartInitializingSingleton {
+    private final ProjectRepository projectRepository;
+    private final IssueRepository issueRepository;
+    private final IssueTombstoneRepository issueTombstoneRepository;
+
+    /**
+     * Gives issues that were never changed since change numbers were added change number 0, before requests are
+     * served, so issues are synced by their plain change number column.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        int initialized = issueRepository.initializeChangeNumbers();
+        if (initialized > 0) {
+            log.info("Set the change number of {} issues to 0", initialized);
+        }
+    }
+
+    @Transactional
+    public long nextChangeNumber(Long projectId) {
+        if (projectRepository.incrementLastChangeNumber(projectId) == 0) {
+            throw new ProjectNotFoundException(projectId);
+        }
+        return projectRepository.findLastChangeNumber(projectId);
+    }
+
+    /**
+     * Returns the latest committed change number of a project, or 0 if none was handed out yet.
+     */
+    public long getLastChangeNumber(Long projectId) {
+        Long lastChangeNumber = projectRepository.findLastChangeNumber(projectId);
+        return lastChangeNumber != null ? lastChangeNumber : 0L;
+    }
+
+    @Transactional
+    public void recordDeletion(Long projectId, Long issueId) {
+        IssueTombstone tombstone = IssueTombstone.builder()
+                .project(projectRepository.getReferenceById(projectId))
+                .issueId(issueId)
+                .changeNumber(nextChangeNumber(projectId))
+                .deletedOn(LocalDateTime.now())
+                .build();
+
+        issueTombstoneRepository.save(tombstone);
+    }
+}
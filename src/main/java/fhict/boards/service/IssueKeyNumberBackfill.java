@@ -0,0 +1,115 @@
+package fhict.boards.service;
+
+import fhict.boards.repository.IssueRepository;
+import fhict.boards.repository.ProjectRepository;
+import fhict.boards.repository.entity.Issue;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Fills in the key number of issues created before it was stored separately from the key, then seeds the issue
+ * counter of projects created before it existed and adds the unique index on the key number.
+ * <p>
+ * Runs once all beans are created, which is before the web server accepts requests, so no issue is created from
+ * a counter that was seeded while older issues had no key number yet.
+ */
+@Slf4j
+@Component
+@AllArgsConstructor
+public class IssueKeyNumberBackfill implements SmartInitializingSingleton {
+    private static final int BATCH_SIZE = 500;
+    private static final String UNIQUE_INDEX_NAME = "uq_issue_project_id_key_number";
+
+    private final IssueRepository issueRepository;
+    private final ProjectRepository projectRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        backfillKeyNumbers();
+
+        Integer seeded = transactionTemplate.execute(status -> projectRepository.initializeLastIssueNumbers());
+        if (seeded != null && seeded > 0) {
+            log.info("Seeded the issue counter of {} projects", seeded);
+        }
+
+        createUniqueIndex();
+    }
+
+    private void backfillKeyNumbers() {
+        long afterId = 0L;
+        int updated = 0;
+
+        List<Issue> issues;
+        do {
+            long batchAfterId = afterId;
+
+            // Each batch is flushed through dirty checking when its transaction commits
+            issues = transactionTemplate.execute(status -> {
+                List<Issue> batch = issueRepository.findByKeyNumberIsNullAndIdGreaterThanOrderByIdAsc(
+                        batchAfterId, PageRequest.of(0, BATCH_SIZE));
+
+                for (Issue issue : batch) {
+                    issue.setKeyNumber(IssueServiceImpl.parseKeyNumber(issue.getKey()));
+                }
+                return batch;
+            });
+
+            updated += issues.size();
+            if (!issues.isEmpty()) {
+                afterId = issues.get(issues.size() - 1).getId();
+            }
+        } while (issues.size() == BATCH_SIZE);
+
+        if (updated > 0) {
+            log.info("Filled in the key number of {} issues", updated);
+        }
+    }
+
+    /**
+     * Issues whose key has no number keep a null key number. SQL Server counts nulls as equal in a unique index,
+     * so there the index only covers issues that have one.
+     */
+    private void createUniqueIndex() {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            if (hasUniqueIndex(metaData, connection.getCatalog())) {
+                return null;
+            }
+
+            boolean sqlServer = metaData.getDatabaseProductName().startsWith("Microsoft SQL Server");
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE UNIQUE INDEX " + UNIQUE_INDEX_NAME + " ON issue (project_id, key_number)"
+                        + (sqlServer ? " WHERE key_number IS NOT NULL" : ""));
+            }
+            log.info("Created the unique index on issue key numbers");
+            return null;
+        });
+    }
+
+    private boolean hasUniqueIndex(DatabaseMetaData metaData, String catalog) throws SQLException {
+        String table = metaData.storesUpperCaseIdentifiers() ? "ISSUE" : "issue";
+
+        try (ResultSet indexes = metaData.getIndexInfo(catalog, null, table, true, false)) {
+            while (indexes.next()) {
+                if (UNIQUE_INDEX_NAME.equalsIgnoreCase(indexes.getString("INDEX_NAME"))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
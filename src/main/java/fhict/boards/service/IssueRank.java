@@ -0,0 +1,138 @@
+package fhict.boards.service;
+
+/**
+ * Creates the ranks that order issues on a board. A rank is a base 36 fraction written as a string
+ * of lowercase digits and letters, so ranks sort the same in Java and in SQL, and a rank can always
+ * be created between two others. Moving an issue therefore only rewrites the rank of that issue.
+ * Ranks never end with a 0, otherwise no rank would fit between "a" and "a0".
+ */
+public final class IssueRank {
+    // Length of the rank column of an issue
+    public static final int MAX_LENGTH = 64;
+
+    private static final String DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz";
+    private static final int BASE = DIGITS.length();
+
+    // Ranks at the start or end of a project are stepped at this width, so appending does not grow them
+    private static final int STEP_WIDTH = 6;
+    private static final long STEP = BASE * BASE;
+
+    private IssueRank() {
+    }
+
+    public static String first() {
+        return String.valueOf(DIGITS.charAt(BASE / 2));
+    }
+
+    /**
+     * Returns a rank after the given rank, or the first rank if it is null.
+     */
+    public static String after(String lower) {
+        if (lower == null) {
+            return first();
+        }
+        long value = toValue(lower, STEP_WIDTH) + STEP;
+        if (value >= power(STEP_WIDTH)) {
+            return between(lower, null);
+        }
+        return toRank(value, STEP_WIDTH);
+    }
+
+    /**
+     * Returns a rank before the given rank, or the first rank if it is null.
+     */
+    public static String before(String upper) {
+        if (upper == null) {
+            return first();
+        }
+        long value = toValue(upper, STEP_WIDTH) - STEP;
+        if (value <= 0) {
+            return between(null, upper);
+        }
+        return toRank(value, STEP_WIDTH);
+    }
+
+    /**
+     * Returns a rank between the given ranks, where a null lower rank is the start and a null upper rank the end.
+     */
+    public static String between(String lower, String upper) {
+        if (lower != null && upper != null && lower.compareTo(upper) >= 0) {
+            throw new IllegalArgumentException("Rank " + lower + " is not before rank " + upper);
+        }
+
+        StringBuilder rank = new StringBuilder();
+        for (int i = 0; ; i++) {
+            int low = lower != null && i < lower.length() ? digit(lower.charAt(i)) : 0;
+            int high = upper != null && i < upper.length() ? digit(upper.charAt(i)) : BASE;
+
+            if (low == high) {
+                rank.append(DIGITS.charAt(low));
+                continue;
+            }
+
+            int middle = (low + high) / 2;
+            if (middle > low) {
+                return rank.append(DIGITS.charAt(middle)).toString();
+            }
+
+            // The digits are adjacent, after taking the lower one any following digit stays below the upper rank
+            rank.append(DIGITS.charAt(low));
+            upper = null;
+        }
+    }
+
+    /**
+     * Returns the given number of ascending ranks, spread evenly so there is room to insert between each of them.
+     */
+    public static String[] evenlySpaced(int count) {
+        int width = STEP_WIDTH;
+        while (power(width) / (count + 1) < STEP) {
+            width++;
+        }
+
+        long step = power(width) / (count + 1);
+        String[] ranks = new String[count];
+        for (int i = 0; i < count; i++) {
+            ranks[i] = toRank(step * (i + 1), width);
+        }
+        return ranks;
+    }
+
+    private static long toValue(String rank, int width) {
+        long value = 0;
+        for (int i = 0; i < width; i++) {
+            value = value * BASE + (i < rank.length() ? digit(rank.charAt(i)) : 0);
+        }
+        return value;
+    }
+
+    private static String toRank(long value, int width) {
+        char[] digits = new char[width];
+        for (int i = width - 1; i >= 0; i--) {
+            digits[i] = DIGITS.charAt((int) (value % BASE));
+            value /= BASE;
+        }
+
+        int length = width;
+        while (length > 1 && digits[length - 1] == '0') {
+            length--;
+        }
+        return new String(digits, 0, length);
+    }
+
+    private static long power(int width) {
+        long value = 1;
+        for (int i = 0; i < width; i++) {
+            value *= BASE;
+        }
+        return value;
+    }
+
+    private static int digit(char character) {
+        int digit = DIGITS.indexOf(character);
+        if (digit < 0) {
+            throw new IllegalArgumentException("Invalid rank character: " + character);
+        }
+        return digit;
+    }
+}
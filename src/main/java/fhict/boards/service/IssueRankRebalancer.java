@@ -0,0 +1,62 @@
+package fhict.boards.service;
+
+import fhict.boards.repository.IssueRepository;
+import fhict.boards.repository.entity.Issue;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Spreads the ranks of a project evenly again once inserting between close ranks made them long,
+ * and ranks issues created before ranks existed. Rebalancing takes a change number, which locks
+ * the project so no issue is ranked concurrently.
+ */
+@Slf4j
+@Component
+@AllArgsConstructor
+public class IssueRankRebalancer {
+    static final int REBALANCE_LENGTH = 24;
+
+    private final IssueRepository issueRepository;
+    private final IssueChangeTracker issueChangeTracker;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(fixedDelayString = "${issue.rank.rebalance-interval-ms:600000}")
+    public void rebalanceLongRanks() {
+        List<Long> projectIds = issueRepository.findProjectIdsToRebalance(REBALANCE_LENGTH);
+
+        for (Long projectId : projectIds) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> rebalance(projectId));
+            } catch (RuntimeException e) {
+                log.warn("Failed to rebalance the issue ranks of project {}", projectId, e);
+            }
+        }
+
+        if (!projectIds.isEmpty()) {
+            log.info("Rebalanced the issue ranks of {} projects", projectIds.size());
+        }
+    }
+
+    /**
+     * Gives all issues of the project new evenly spaced ranks in their current order.
+     * The issues are written by dirty checking when the surrounding transaction commits.
+     */
+    @Transactional
+    public void rebalance(Long projectId) {
+        long changeNumber = issueChangeTracker.nextChangeNumber(projectId);
+
+        List<Issue> issues = issueRepository.findByProjectIdOrderByRank(projectId);
+        String[] ranks = IssueRank.evenlySpaced(issues.size());
+
+        for (int i = 0; i < issues.size(); i++) {
+            issues.get(i).setRank(ranks[i]);
+            issues.get(i).setChangeNumber(changeNumber);
+        }
+    }
+}
@@ -1,19 +1,31 @@
 package fhict.boards.service;
 
+import fhict.boards.domain.dto.IssueBulkUpdateRequest;
+import fhict.boards.domain.dto.IssueChangesResponse;
 import fhict.boards.domain.dto.IssueCreateRequest;
+import fhict.boards.domain.dto.IssueFilter;
+import fhict.boards.domain.dto.IssueRankRequest;
+import fhict.boards.domain.dto.IssuePageResponse;
 import fhict.boards.domain.dto.IssueResponse;
 import fhict.boards.domain.dto.IssueUpdateRequest;
 import fhict.boards.domain.enums.IssueStatus;
 import fhict.boards.repository.entity.Issue;
+import org.springframework.data.domain.Sort;
 
 import java.util.List;
 
 public interface IssueService {
-    IssueResponse createIssue(Long projectId, IssueCreateRequest request);
-    List<IssueResponse> getIssuesByProjectId(Long id);
+    IssueResponse createIssue(ProjectAccess projectAccess, IssueCreateRequest request);
+    IssuePageResponse getIssuesByProjectId(Long id, IssueFilter filter, Sort sort, String cursor, int limit);
+    IssueChangesResponse getIssueChanges(Long projectId, String since, int limit);
     IssueResponse getIssueById(Long issueId, Long projectId);
-    IssueResponse updateIssue(Long issueId, Long projectId, IssueUpdateRequest request);
-    IssueResponse updateStatus(Long issueId, Long projectId, IssueStatus status);
+    IssueResponse getIssueByKey(String key, Long projectId);
+    long getIssueVersion(Long issueId, Long projectId);
+    long getIssueVersionByKey(String key, Long projectId);
+    IssueResponse updateIssue(Long issueId, Long projectId, IssueUpdateRequest request, Long expectedVersion);
+    IssueResponse updateStatus(Long issueId, Long projectId, IssueStatus status, Long expectedVersion);
+    IssueResponse rankIssue(Long issueId, Long projectId, IssueRankRequest request);
+    List<IssueResponse> updateIssues(Long projectId, IssueBulkUpdateRequest request);
     void deleteIssue(Long issueId, Long projectId);
-    Issue getIssueByIdOrThrowNotFound(Long id);
+    Issue getIssueInProjectOrThrowNotFound(Long issueId, Long projectId);
 }
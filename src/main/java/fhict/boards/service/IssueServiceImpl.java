@@ -1,33 +1,58 @@
 package fhict.boards.service;
 
+import fhict.boards.domain.dto.IssueBulkChangeRequest;
+import fhict.boards.domain.dto.IssueBulkUpdateRequest;
+import fhict.boards.domain.dto.IssueChangesResponse;
 import fhict.boards.domain.dto.IssueCreateRequest;
+import fhict.boards.domain.dto.IssueFilter;
+import fhict.boards.domain.dto.IssuePageResponse;
+import fhict.boards.domain.dto.IssueRankRequest;
 import fhict.boards.domain.dto.IssueResponse;
+import fhict.boards.domain.dto.IssueTombstoneResponse;
 import fhict.boards.domain.dto.IssueUpdateRequest;
 import fhict.boards.domain.enums.IssueStatus;
 import fhict.boards.domain.enums.NotificationType;
+import fhict.boards.exception.InvalidCursorException;
+import fhict.boards.exception.InvalidIssueRankException;
+import fhict.boards.exception.InvalidSortPropertyException;
 import fhict.boards.exception.IssueNotFoundException;
+import fhict.boards.exception.IssueVersionConflictException;
 import fhict.boards.exception.MemberNotFoundException;
 import fhict.boards.repository.IssueRepository;
+import fhict.boards.repository.IssueSortProperty;
+import fhict.boards.repository.IssueSpecifications;
+import fhict.boards.repository.IssueTombstoneRepository;
+import fhict.boards.repository.IssueVersionProjection;
 import fhict.boards.repository.MemberRepository;
 import fhict.boards.repository.NotificationRepository;
 import fhict.boards.repository.entity.Issue;
+import fhict.boards.repository.entity.IssueTombstone;
 import fhict.boards.repository.entity.Member;
 import fhict.boards.repository.entity.Notification;
 import fhict.boards.repository.entity.Project;
 import lombok.AllArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static fhict.boards.domain.enums.MemberRole.*;
 
 @Service
 @AllArgsConstructor
 public class IssueServiceImpl implements IssueService {
+    static final int MAX_PAGE_SIZE = 200;
 
     private final IssueRepository issueRepository;
     private final MemberRepository memberRepository;
@@ -36,27 +61,36 @@ public class IssueServiceImpl implements IssueService {
     private final ProjectService projectService;
     private final NotificationService notificationService;
     private final NotificationRepository notificationRepository;
+    private final UnreadNotificationCounts unreadNotificationCounts;
+    private final SearchService searchService;
+    private final IssueChangeTracker issueChangeTracker;
+    private final IssueTombstoneRepository issueTombstoneRepository;
+    private final IssueRankRebalancer issueRankRebalancer;
 
     @Override
-    public IssueResponse createIssue(Long projectId, IssueCreateRequest request) {
-        Project project = projectService.getProjectByIdOrThrowNotFound(projectId);
+    @Transactional
+    public IssueResponse createIssue(ProjectAccess projectAccess, IssueCreateRequest request) {
+        Long projectId = projectAccess.projectId();
+        Project project = projectAccess.project();
+        Member creator = projectAccess.member();
 
         Member assignee;
         if (request.getAssigneeMemberId() == null) {
             assignee = null;
+        } else if (request.getAssigneeMemberId().equals(creator.getId())) {
+            // Assigned to the caller, whose membership was already resolved
+            assignee = creator;
         } else {
             assignee = getMemberOrThrowNotFound(request.getAssigneeMemberId(), projectId);
         }
 
-        Member creator = memberService.assertMemberIsAuthorized(projectId, EnumSet.of(OWNER, ADMIN, DEVELOPER));
-
-        Optional<Long> latestKeyNumber = issueRepository.findLatestIssueNumberByProjectId(projectId);
-        long keyNumber = latestKeyNumber.orElse(0L) + 1;
+        long keyNumber = projectService.reserveIssueNumbers(projectId, 1);
         String key = project.getKey() + "-" + keyNumber;
 
         Issue issue = Issue.builder()
                 .project(project)
                 .key(key)
+                .keyNumber(keyNumber)
                 .title(request.getTitle())
                 .description(request.getDescription())
                 .assignee(assignee)
@@ -66,11 +100,14 @@ public class IssueServiceImpl implements IssueService {
                 .createdOn(LocalDateTime.now())
                 .dueOn(request.getDueOn())
                 .createdBy(creator)
+                .changeNumber(issueChangeTracker.nextChangeNumber(projectId))
+                .rank(IssueRank.after(issueRepository.findLastRankByProjectId(projectId).orElse(null)))
                 .build();
 
         Issue savedIssue = issueRepository.save(issue);
+        searchService.indexIssue(savedIssue.getId());
 
-        if (assignee != null && !Objects.equals(creator, assignee)) {
+        if (assignee != null && !Objects.equals(creator.getId(), assignee.getId())) {
             Notification notification = Notification.builder()
                     .type(NotificationType.ASSIGNED_TO_ISSUE)
                     .sender(creator)
@@ -87,31 +124,158 @@ public class IssueServiceImpl implements IssueService {
     }
 
     @Override
-    public List<IssueResponse> getIssuesByProjectId(Long id) {
+    public IssuePageResponse getIssuesByProjectId(Long id, IssueFilter filter, Sort sort, String cursor, int limit) {
         memberService.assertMemberIsAuthorized(id, EnumSet.of(OWNER, ADMIN, DEVELOPER, VIEWER));
 
-        Project project = projectService.getProjectByIdOrThrowNotFound(id);
+        int pageSize = CursorCodec.pageSize(limit, MAX_PAGE_SIZE);
+        List<IssueSortProperty> sortProperties = getSortProperties(sort);
+        Sort keysetSort = sort;
 
-        return project.getIssues()
-                .stream()
-                .map(dtoMapper::mapToIssueResponse)
-                .toList();
+        // The ID breaks ties, so every issue has a unique position to continue from
+        if (!sortProperties.contains(IssueSortProperty.ID)) {
+            keysetSort = sort.and(Sort.by(IssueSortProperty.ID.getProperty()));
+            sortProperties.add(IssueSortProperty.ID);
+        }
+
+        List<Comparable<?>> after = cursor == null ? null : decodeCursor(cursor, sortProperties);
+
+        // Fetch one extra row to know whether there is a next page without a count query
+        List<Issue> issues = issueRepository.findPage
+                (IssueSpecifications.matching(id, filter), keysetSort, after, pageSize + 1);
+
+        boolean hasNext = issues.size() > pageSize;
+        List<Issue> page = hasNext ? issues.subList(0, pageSize) : issues;
+
+        return IssuePageResponse.builder()
+                .issues(page.stream()
+                        .map(dtoMapper::mapToIssueResponse)
+                        .toList())
+                .nextCursor(hasNext ? encodeCursor(page.get(pageSize - 1), sortProperties) : null)
+                .build();
+    }
+
+    /**
+     * Returns the issues changed and deleted after the change the sync token points to, oldest change first.
+     * Only changes up to the project's latest committed change number are read, so the issue and tombstone
+     * queries see the same set of changes and the returned token never skips a change.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public IssueChangesResponse getIssueChanges(Long projectId, String since, int limit) {
+        memberService.assertMemberIsAuthorized(projectId, EnumSet.of(OWNER, ADMIN, DEVELOPER, VIEWER));
+
+        int pageSize = CursorCodec.pageSize(limit, MAX_PAGE_SIZE);
+
+        // Without a token every issue is returned, including issues from before changes were numbered
+        long afterChangeNumber = -1L;
+        long afterIssueId = 0L;
+        if (since != null) {
+            String[] values = CursorCodec.decode(since, 2);
+            try {
+                afterChangeNumber = Long.parseLong(values[0]);
+                afterIssueId = Long.parseLong(values[1]);
+            } catch (NumberFormatException e) {
+                throw new InvalidCursorException(since);
+            }
+        }
+
+        long upToChangeNumber = issueChangeTracker.getLastChangeNumber(projectId);
+
+        PageRequest pageRequest = PageRequest.of(0, pageSize + 1);
+        List<Issue> issues = issueRepository.findChangedAfter(projectId, afterChangeNumber, afterIssueId,
+                upToChangeNumber, pageRequest);
+        List<IssueTombstone> tombstones = issueTombstoneRepository.findDeletedAfter(projectId, afterChangeNumber,
+                upToChangeNumber, pageRequest);
+
+        // Merge both lists by change number, deleted issues have their own change number
+        List<IssueResponse> changed = new ArrayList<>();
+        List<IssueTombstoneResponse> deleted = new ArrayList<>();
+        int issueIndex = 0;
+        int tombstoneIndex = 0;
+        while (changed.size() + deleted.size() < pageSize
+                && (issueIndex < issues.size() || tombstoneIndex < tombstones.size())) {
+            if (tombstoneIndex == tombstones.size() || (issueIndex < issues.size()
+                    && issues.get(issueIndex).getChangeNumber() < tombstones.get(tombstoneIndex).getChangeNumber())) {
+                Issue issue = issues.get(issueIndex++);
+                changed.add(dtoMapper.mapToIssueResponse(issue));
+                afterChangeNumber = issue.getChangeNumber();
+                afterIssueId = issue.getId();
+            } else {
+                IssueTombstone tombstone = tombstones.get(tombstoneIndex++);
+                deleted.add(IssueTombstoneResponse.builder()
+                        .issueId(tombstone.getIssueId())
+                        .deletedOn(tombstone.getDeletedOn())
+                        .build());
+                afterChangeNumber = tombstone.getChangeNumber();
+                afterIssueId = tombstone.getIssueId();
+            }
+        }
+
+        return IssueChangesResponse.builder()
+                .changed(changed)
+                .deleted(deleted)
+                .syncToken(CursorCodec.encode(afterChangeNumber, afterIssueId))
+                .hasMore(issueIndex < issues.size() || tombstoneIndex < tombstones.size())
+                .build();
     }
 
     @Override
     public IssueResponse getIssueById(Long id, Long projectId) {
         memberService.assertMemberIsAuthorized(projectId, EnumSet.of(OWNER, ADMIN, DEVELOPER, VIEWER));
 
-        Issue issue = getIssueByIdOrThrowNotFound(id);
+        Issue issue = getIssueInProjectOrThrowNotFound(id, projectId);
 
         return dtoMapper.mapToIssueResponse(issue);
     }
 
     @Override
-    public IssueResponse updateIssue(Long issueId, Long projectId, IssueUpdateRequest request) {
+    public IssueResponse getIssueByKey(String key, Long projectId) {
+        memberService.assertMemberIsAuthorized(projectId, EnumSet.of(OWNER, ADMIN, DEVELOPER, VIEWER));
+
+        Long keyNumber = parseKeyNumber(key);
+        if (keyNumber == null) {
+            throw new IssueNotFoundException(key);
+        }
+
+        // Issues keep the key they were created with, even if the project key changed since
+        Optional<Issue> issue = issueRepository.findByProjectIdAndKeyNumber(projectId, keyNumber);
+        if (issue.isEmpty() || !issue.get().getKey().equalsIgnoreCase(key)) {
+            throw new IssueNotFoundException(key);
+        }
+
+        return dtoMapper.mapToIssueResponse(issue.get());
+    }
+
+    @Override
+    public long getIssueVersion(Long id, Long projectId) {
+        memberService.assertMemberIsAuthorized(projectId, EnumSet.of(OWNER, ADMIN, DEVELOPER, VIEWER));
+
+        return issueRepository.findVersionByIdAndProjectId(id, projectId)
+                .orElseThrow(() -> new IssueNotFoundException(id));
+    }
+
+    @Override
+    public long getIssueVersionByKey(String key, Long projectId) {
+        memberService.assertMemberIsAuthorized(projectId, EnumSet.of(OWNER, ADMIN, DEVELOPER, VIEWER));
+
+        Long keyNumber = parseKeyNumber(key);
+        if (keyNumber == null) {
+            throw new IssueNotFoundException(key);
+        }
+
+        return issueRepository.findVersionByProjectIdAndKeyNumber(projectId, keyNumber)
+                .filter(issue -> issue.getIssueKey().equalsIgnoreCase(key))
+                .map(IssueVersionProjection::getVersion)
+                .orElseThrow(() -> new IssueNotFoundException(key));
+    }
+
+    @Override
+    @Transactional
+    public IssueResponse updateIssue(Long issueId, Long projectId, IssueUpdateRequest request, Long expectedVersion) {
         Member updater = memberService.assertMemberIsAuthorized(projectId, EnumSet.of(OWNER, ADMIN, DEVELOPER));
 
-        Issue issue = getIssueByIdOrThrowNotFound(issueId);
+        Issue issue = getIssueInProjectOrThrowNotFound(issueId, projectId);
+        assertVersionMatches(issue, expectedVersion);
 
         issue.setTitle(request.getTitle());
         issue.setDescription(request.getDescription());
@@ -120,6 +284,7 @@ public class IssueServiceImpl implements IssueService {
         issue.setPriority(request.getPriority());
         issue.setDueOn(request.getDueOn());
         issue.setUpdatedOn(LocalDateTime.now());
+        issue.setChangeNumber(issueChangeTracker.nextChangeNumber(projectId));
 
         if (request.getAssigneeMemberId() == null) {
             issue.setAssignee(null);
@@ -146,45 +311,260 @@ public class IssueServiceImpl implements IssueService {
         }
 
         Issue updatedIssue = issueRepository.save(issue);
+        // Flush so the response carries the version the update is given
+        issueRepository.flush();
+        searchService.indexIssue(issueId);
+
         return dtoMapper.mapToIssueResponse(updatedIssue);
     }
 
     @Override
-    public IssueResponse updateStatus(Long issueId, Long projectId, IssueStatus status) {
+    @Transactional
+    public IssueResponse updateStatus(Long issueId, Long projectId, IssueStatus status, Long expectedVersion) {
         memberService.assertMemberIsAuthorized(projectId, EnumSet.of(OWNER, ADMIN, DEVELOPER));
 
-        Issue issue = getIssueByIdOrThrowNotFound(issueId);
+        Issue issue = getIssueInProjectOrThrowNotFound(issueId, projectId);
+        assertVersionMatches(issue, expectedVersion);
         issue.setStatus(status);
+        issue.setUpdatedOn(LocalDateTime.now());
+        issue.setChangeNumber(issueChangeTracker.nextChangeNumber(projectId));
 
         Issue updatedIssue = issueRepository.save(issue);
+        // Flush so the response carries the version the update is given
+        issueRepository.flush();
         return dtoMapper.mapToIssueResponse(updatedIssue);
     }
 
+    /**
+     * Moves an issue next to another issue of the project by giving it a rank between that issue and
+     * the adjacent rank of the project, so only the moved issue is written.
+     */
     @Override
+    @Transactional
+    public IssueResponse rankIssue(Long issueId, Long projectId, IssueRankRequest request) {
+        memberService.assertMemberIsAuthorized(projectId, EnumSet.of(OWNER, ADMIN, DEVELOPER));
+
+        boolean placeAfter = request.getAfterIssueId() != null;
+        Long neighbourId = placeAfter ? request.getAfterIssueId() : request.getBeforeIssueId();
+
+        if (neighbourId == null) {
+            throw new InvalidIssueRankException("Either the issue to place this issue after or before is required.");
+        }
+
+        if (Objects.equals(neighbourId, issueId)) {
+            throw new InvalidIssueRankException("An issue can't be placed next to itself.");
+        }
+
+        // Taking the change number locks the project, so no other issue is ranked concurrently
+        long changeNumber = issueChangeTracker.nextChangeNumber(projectId);
+
+        Issue issue = getIssueInProjectOrThrowNotFound(issueId, projectId);
+        Issue neighbour = getIssueInProjectOrThrowNotFound(neighbourId, projectId);
+
+        if (neighbour.getRank() == null) {
+            issueRankRebalancer.rebalance(projectId);
+        }
+
+        String rank = getRankNextTo(projectId, neighbour, issue, placeAfter);
+        if (rank.length() > IssueRank.MAX_LENGTH) {
+            issueRankRebalancer.rebalance(projectId);
+            rank = getRankNextTo(projectId, neighbour, issue, placeAfter);
+        }
+
+        issue.setRank(rank);
+        if (request.getStatus() != null) {
+            issue.setStatus(request.getStatus());
+            issue.setUpdatedOn(LocalDateTime.now());
+        }
+        issue.setChangeNumber(changeNumber);
+
+        Issue updatedIssue = issueRepository.save(issue);
+        // Flush so the response carries the version the update is given
+        issueRepository.flush();
+        return dtoMapper.mapToIssueResponse(updatedIssue);
+    }
+
+    /**
+     * Applies all changes in one transaction, loading the issues and new assignees with one query each.
+     * The changed issues are written by dirty checking when the changes are flushed, which Hibernate
+     * sends as JDBC batches. Assignment notifications are inserted one statement each, as their IDENTITY
+     * keys keep Hibernate from batching them and each points at its own issue.
+     */
+    @Override
+    @Transactional
+    public List<IssueResponse> updateIssues(Long projectId, IssueBulkUpdateRequest request) {
+        Member updater = memberService.assertMemberIsAuthorized(projectId, EnumSet.of(OWNER, ADMIN, DEVELOPER));
+
+        List<IssueBulkChangeRequest> changes = request.getChanges();
+
+        Map<Long, Issue> issues = issueRepository.findByProjectIdAndIdIn(projectId, changes
+                        .stream()
+                        .map(IssueBulkChangeRequest::getIssueId)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Issue::getId, Function.identity()));
+
+        Map<Long, Member> assignees = memberRepository.findByProjectIdAndIdIn(projectId, changes
+                        .stream()
+                        .map(IssueBulkChangeRequest::getAssigneeMemberId)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Member::getId, Function.identity()));
+
+        long changeNumber = issueChangeTracker.nextChangeNumber(projectId);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Issue> updatedIssues = new ArrayList<>();
+        List<Notification> notifications = new ArrayList<>();
+        for (IssueBulkChangeRequest change : changes) {
+            Issue issue = issues.get(change.getIssueId());
+            if (issue == null) {
+                throw new IssueNotFoundException(change.getIssueId());
+            }
+
+            if (change.getStatus() != null) {
+                issue.setStatus(change.getStatus());
+            }
+            if (change.getPriority() != null) {
+                issue.setPriority(change.getPriority());
+            }
+
+            if (change.isUnassign()) {
+                issue.setAssignee(null);
+            } else if (change.getAssigneeMemberId() != null) {
+                Member assignee = assignees.get(change.getAssigneeMemberId());
+                if (assignee == null) {
+                    throw new MemberNotFoundException(change.getAssigneeMemberId());
+                }
+
+                if (issue.getAssignee() == null || !Objects.equals(issue.getAssignee().getId(), assignee.getId())) {
+                    issue.setAssignee(assignee);
+
+                    if (!Objects.equals(updater.getId(), assignee.getId())) {
+                        notifications.add(Notification.builder()
+                                .type(NotificationType.ASSIGNED_TO_ISSUE)
+                                .sender(updater)
+                                .receiver(assignee)
+                                .project(issue.getProject())
+                                .issue(issue)
+                                .timestamp(now)
+                                .read(false)
+                                .build());
+                    }
+                }
+            }
+
+            issue.setUpdatedOn(now);
+            issue.setChangeNumber(changeNumber);
+            updatedIssues.add(issue);
+        }
+
+        notificationService.createAndSendNotifications(notifications);
+
+        // Flush so the responses carry the versions the updates are given
+        issueRepository.flush();
+
+        return updatedIssues
+                .stream()
+                .map(dtoMapper::mapToIssueResponse)
+                .toList();
+    }
+
+    @Override
+    @Transactional
     public void deleteIssue(Long issueId, Long projectId) {
         memberService.assertMemberIsAuthorized(projectId, EnumSet.of(OWNER, ADMIN, DEVELOPER));
+        Issue issue = getIssueInProjectOrThrowNotFound(issueId, projectId);
 
+        unreadNotificationCounts.subtract(notificationRepository.countUnreadByIssueId(issueId));
         notificationRepository.deleteByIssueId(issueId);
-        issueRepository.deleteById(issueId);
+        issueRepository.delete(issue);
+        issueChangeTracker.recordDeletion(projectId, issueId);
+        searchService.removeIssue(issueId);
     }
 
     @Override
-    public Issue getIssueByIdOrThrowNotFound(Long id) {
-        Optional<Issue> issue = issueRepository.findById(id);
+    public Issue getIssueInProjectOrThrowNotFound(Long issueId, Long projectId) {
+        Optional<Issue> issue = issueRepository.findByIdAndProjectId(issueId, projectId);
 
         if (issue.isEmpty()) {
-            throw new IssueNotFoundException(id);
+            throw new IssueNotFoundException(issueId);
         }
         return issue.get();
     }
 
+    /**
+     * Rejects the change if the client read an older version of the issue. Changes that happen after this
+     * check are caught by the version column when the transaction commits.
+     */
+    private static void assertVersionMatches(Issue issue, Long expectedVersion) {
+        if (expectedVersion != null && expectedVersion != issue.getVersion()) {
+            throw new IssueVersionConflictException(issue.getId());
+        }
+    }
+
+    private String getRankNextTo(Long projectId, Issue neighbour, Issue issue, boolean placeAfter) {
+        if (placeAfter) {
+            return issueRepository.findNextRank(projectId, neighbour.getRank(), issue.getId())
+                    .map(nextRank -> IssueRank.between(neighbour.getRank(), nextRank))
+                    .orElseGet(() -> IssueRank.after(neighbour.getRank()));
+        }
+        return issueRepository.findPreviousRank(projectId, neighbour.getRank(), issue.getId())
+                .map(previousRank -> IssueRank.between(previousRank, neighbour.getRank()))
+                .orElseGet(() -> IssueRank.before(neighbour.getRank()));
+    }
+
     public Member getMemberOrThrowNotFound(Long memberId, Long projectId) {
-        Optional<Member> member = memberRepository.findByIdAndProjectId
-                (memberId, projectId);
+        Optional<Member> member = memberRepository.findByIdAndProjectId(memberId, projectId);
 
         if (member.isEmpty()) {
             throw new MemberNotFoundException(memberId);
         }
         return member.get();
     }
+
+
+    private List<IssueSortProperty> getSortProperties(Sort sort) {
+        List<IssueSortProperty> properties = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            properties.add(IssueSortProperty.fromProperty(order.getProperty())
+                    .orElseThrow(() -> new InvalidSortPropertyException(order.getProperty())));
+        }
+        return properties;
+    }
+
+    private String encodeCursor(Issue issue, List<IssueSortProperty> sortProperties) {
+        return CursorCodec.encode(sortProperties.stream()
+                .map(property -> property.valueOf(issue))
+                .toArray());
+    }
+
+    private List<Comparable<?>> decodeCursor(String cursor, List<IssueSortProperty> sortProperties) {
+        String[] values = CursorCodec.decode(cursor, sortProperties.size());
+        List<Comparable<?>> after = new ArrayList<>();
+        try {
+            for (int i = 0; i < values.length; i++) {
+                after.add(sortProperties.get(i).parse(values[i]));
+            }
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new InvalidCursorException(cursor);
+        }
+        return after;
+    }
+
+    /**
+     * Returns the number after the last dash of an issue key (PROJ-12 -> 12), or null if there is none.
+     */
+    static Long parseKeyNumber(String key) {
+        int separator = key.lastIndexOf('-');
+        if (separator < 0) {
+            return null;
+        }
+        try {
+            return Long.valueOf(key.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
 }
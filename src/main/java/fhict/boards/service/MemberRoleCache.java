@@ -0,0 +1,110 @@
+package fhict.boards.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import fhict.boards.domain.enums.MemberRole;
+import fhict.boards.repository.entity.Member;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, time-limited cache of the member ID and role a user has in a project, used for authorization checks.
+ * Only memberships that exist are cached. Evictions run right away and again when the surrounding
+ * transaction ends, so a check that runs in between can't put the old role back.
+ * <p>
+ * Each instance of the application has its own cache, so evictions are also published to the other instances
+ * once the transaction has ended. An instance that misses them because it lost its connection to the broker
+ * clears its cache when it reconnects; until then it may keep accepting an old role for up to the time to live.
+ * Hit and miss counts are published as the {@code cache.gets} metric of the {@value #CACHE_NAME} cache.
+ */
+@Component
+public class MemberRoleCache {
+    static final String CACHE_NAME = "memberRoles";
+    static final String EVICTION_EVENT = "member-role-cache.eviction";
+
+    private final Cache<Key, CachedMember> cache;
+    private final ClusterEvents clusterEvents;
+
+    public MemberRoleCache(MeterRegistry meterRegistry, ClusterEvents clusterEvents,
+                           @Value("${member.role-cache.maximum-size:10000}") long maximumSize,
+                           @Value("${member.role-cache.time-to-live:PT1M}") Duration timeToLive) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .build();
+        this.clusterEvents = clusterEvents;
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        clusterEvents.subscribe(EVICTION_EVENT, Eviction.class, this::apply);
+        clusterEvents.onResync(cache::invalidateAll);
+    }
+
+    /**
+     * Returns the cached membership of a user in a project, calling the loader on a miss.
+     * Returns null if the user is not a member.
+     */
+    public CachedMember get(Long userId, Long projectId, Supplier<Optional<Member>> loader) {
+        return cache.get(new Key(userId, projectId), key -> loader.get()
+                .map(member -> new CachedMember(member.getId(), member.getRole()))
+                .orElse(null));
+    }
+
+    public void evict(Long userId, Long projectId) {
+        evict(new Eviction(List.of(userId), projectId));
+    }
+
+    public void evictUsers(Long projectId, Collection<Long> userIds) {
+        evict(new Eviction(List.copyOf(userIds), projectId));
+    }
+
+    public void evictProject(Long projectId) {
+        evict(new Eviction(null, projectId));
+    }
+
+    public void evictUser(Long userId) {
+        evict(new Eviction(List.of(userId), null));
+    }
+
+    private void evict(Eviction eviction) {
+        AfterCompletion.runNowAndAgain(() -> apply(eviction));
+        AfterCompletion.run(() -> clusterEvents.publish(EVICTION_EVENT, eviction));
+    }
+
+    private void apply(Eviction eviction) {
+        if (eviction.userIds() != null && eviction.projectId() != null) {
+            cache.invalidateAll(eviction.userIds().stream()
+                    .map(userId -> new Key(userId, eviction.projectId()))
+                    .toList());
+        } else {
+            // Evicting every user of a project, or every project of a user, has no exact keys and scans the cache instead
+            cache.asMap().keySet().removeIf(eviction::matches);
+        }
+    }
+
+    public record CachedMember(Long memberId, MemberRole role) {
+    }
+
+    private record Key(Long userId, Long projectId) {
+    }
+
+    /**
+     * Memberships to evict: those of the users in the project, of the users in every project when there's no
+     * project, or of every user in the project when there are no users.
+     */
+    record Eviction(List<Long> userIds, Long projectId) {
+        private boolean matches(Key key) {
+            return (userIds == null || userIds.contains(key.userId()))
+                    && (projectId == null || Objects.equals(key.projectId(), projectId));
+        }
+    }
+}
@@ -4,6 +4,7 @@ import fhict.boards.domain.dto.MemberResponse;
 import fhict.boards.domain.dto.MemberRoleUpdateRequest;
 import fhict.boards.domain.enums.MemberRole;
 import fhict.boards.repository.entity.Member;
+import fhict.boards.security.token.AccessToken;
 
 import java.util.EnumSet;
 import java.util.List;
@@ -15,4 +16,5 @@ public interface MemberService {
     MemberResponse updateMemberRole(Long id, MemberRoleUpdateRequest request);
     MemberResponse getCurrentMember(Long userId, Long projectId);
     Member assertMemberIsAuthorized(Long projectId, EnumSet<MemberRole> rolesAllowed);
+    ProjectAccess resolveProjectAccess(AccessToken accessToken, Long projectId, EnumSet<MemberRole> rolesAllowed);
 }
@@ -10,13 +10,18 @@ import fhict.boards.repository.*;
 import fhict.boards.repository.entity.Member;
 import fhict.boards.repository.entity.Project;
 import fhict.boards.security.token.AccessToken;
+import fhict.boards.security.token.ProjectMembershipClaim;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static fhict.boards.domain.enums.MemberRole.ADMIN;
 import static fhict.boards.domain.enums.MemberRole.OWNER;
@@ -31,7 +36,12 @@ public class MemberServiceImpl implements MemberService {
     private final AccessToken requestAccessToken;
     private final IssueRepository issueRepository;
     private final NotificationRepository notificationRepository;
+    private final UnreadNotificationCounts unreadNotificationCounts;
     private final CommentRepository commentRepository;
+    private final IssueTombstoneRepository issueTombstoneRepository;
+    private final IssueChangeTracker issueChangeTracker;
+    private final MemberRoleCache memberRoleCache;
+    private final MembershipVersions membershipVersions;
 
     @Override
     public MemberResponse getMemberById(Long id) {
@@ -56,6 +66,7 @@ public class MemberServiceImpl implements MemberService {
     }
 
     @Override
+    @Transactional
     public void removeMember(Long id) {
         Member target = getMemberByIdOrThrowNotFound(id);
 
@@ -81,17 +92,25 @@ public class MemberServiceImpl implements MemberService {
             }
         }
         commentRepository.deleteByCreatedBy_Id(id);
+        unreadNotificationCounts.subtract(notificationRepository.countUnreadByMemberId(id));
         notificationRepository.deleteByMemberId(id);
+        issueRepository.markChangedByMember(id, issueChangeTracker.nextChangeNumber(projectId), LocalDateTime.now());
         issueRepository.setAssigneeAndCreatedByToNull(id);
         memberRepository.deleteById(id);
+        membershipVersions.bump(List.of(target.getUser().getId()));
+        memberRoleCache.evict(target.getUser().getId(), projectId);
 
         if (memberCount == 1L) {
+            unreadNotificationCounts.subtract(notificationRepository.countUnreadByProjectId(projectId));
             notificationRepository.deleteByProjectId(projectId);
+            issueTombstoneRepository.deleteByProjectId(projectId);
             projectRepository.deleteById(projectId);
+            memberRoleCache.evictProject(projectId);
         }
     }
 
     @Override
+    @Transactional
     public MemberResponse updateMemberRole(Long id, MemberRoleUpdateRequest request) {
         Member target = getMemberByIdOrThrowNotFound(id);
 
@@ -110,10 +129,14 @@ public class MemberServiceImpl implements MemberService {
         if (updater.getRole() == OWNER && request.getRole() == OWNER) {
             updater.setRole(ADMIN);
             memberRepository.save(updater);
+            membershipVersions.bump(List.of(requestAccessToken.getUserId()));
+            memberRoleCache.evict(requestAccessToken.getUserId(), target.getProject().getId());
         } else {
             target.setRole(request.getRole());
             memberRepository.save(target);
         }
+        membershipVersions.bump(List.of(target.getUser().getId()));
+        memberRoleCache.evict(target.getUser().getId(), target.getProject().getId());
 
         return dtoMapper.mapToMemberResponse(target);
     }
@@ -137,17 +160,82 @@ public class MemberServiceImpl implements MemberService {
         return member.get();
     }
 
+    /**
+     * Checks the authenticated user's role in a project. The role is taken from the access token's claims
+     * while their membership version is current, and otherwise from the membership cache, so a hit costs no query.
+     * Unless the membership was just loaded, the member is returned as a reference that is only loaded
+     * when more than its ID is read.
+     */
     public Member assertMemberIsAuthorized(Long projectId, EnumSet<MemberRole> rolesAllowed) {
-        Optional<Member> member = memberRepository.findByUserIdAndProjectId(requestAccessToken.getUserId(), projectId);
+        ProjectAccess projectAccess = findProjectAccess(requestAccessToken, projectId, rolesAllowed);
 
-        if (member.isEmpty()) {
+        if (projectAccess == null) {
+            throw new MemberNotFoundException("Authenticated user is not a member of project with ID: " + projectId);
+        }
+        return projectAccess.member();
+    }
+
+    /**
+     * Checks the role of the token's user in a project like {@link #assertMemberIsAuthorized}, also returning
+     * the project. Only when the user is not a member is the project's existence checked, to tell the two cases apart.
+     */
+    @Override
+    public ProjectAccess resolveProjectAccess(AccessToken accessToken, Long projectId, EnumSet<MemberRole> rolesAllowed) {
+        ProjectAccess projectAccess = findProjectAccess(accessToken, projectId, rolesAllowed);
+
+        if (projectAccess == null) {
+            if (!projectRepository.existsById(projectId)) {
+                throw new ProjectNotFoundException(projectId);
+            }
             throw new MemberNotFoundException("Authenticated user is not a member of project with ID: " + projectId);
         }
-        MemberRole role = member.get().getRole();
+        return projectAccess;
+    }
+
+    // Returns null if the user is not a member of the project
+    private ProjectAccess findProjectAccess(AccessToken accessToken, Long projectId, EnumSet<MemberRole> rolesAllowed) {
+        Long userId = accessToken.getUserId();
+
+        ProjectMembershipClaim claim = getCurrentMembershipClaim(accessToken, projectId);
+        if (claim != null) {
+            assertRoleIsAllowed(claim.role(), rolesAllowed);
+            return new ProjectAccess(memberRepository.getReferenceById(claim.memberId()),
+                    projectRepository.getReferenceById(projectId), claim.role());
+        }
 
+        AtomicReference<Member> loadedMember = new AtomicReference<>();
+
+        MemberRoleCache.CachedMember member = memberRoleCache.get(userId, projectId, () -> {
+            Optional<Member> found = memberRepository.findByUserIdAndProjectId(userId, projectId);
+            found.ifPresent(loadedMember::set);
+            return found;
+        });
+
+        if (member == null) {
+            return null;
+        }
+        assertRoleIsAllowed(member.role(), rolesAllowed);
+
+        if (loadedMember.get() != null) {
+            return new ProjectAccess(loadedMember.get(), loadedMember.get().getProject(), member.role());
+        }
+        return new ProjectAccess(memberRepository.getReferenceById(member.memberId()),
+                projectRepository.getReferenceById(projectId), member.role());
+    }
+
+    private ProjectMembershipClaim getCurrentMembershipClaim(AccessToken accessToken, Long projectId) {
+        Map<Long, ProjectMembershipClaim> memberships = accessToken.getProjectMemberships();
+        Long membershipVersion = accessToken.getMembershipVersion();
+
+        if (memberships == null || membershipVersion == null || !memberships.containsKey(projectId)) {
+            return null;
+        }
+        return membershipVersions.isCurrent(accessToken.getUserId(), membershipVersion) ? memberships.get(projectId) : null;
+    }
+
+    private static void assertRoleIsAllowed(MemberRole role, EnumSet<MemberRole> rolesAllowed) {
         if (!rolesAllowed.contains(role)) {
             throw new ProjectUnauthorizedAccessException(role + " is unauthorized to perform this action.");
         }
-        return member.get();
     }
 }
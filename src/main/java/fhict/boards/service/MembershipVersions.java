@@ -0,0 +1,72 @@
+package fhict.boards.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import fhict.boards.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Membership version stamps of users, which tell whether the project role claims of an access token are still current.
+ * Stamps are cached briefly; bumping a stamp evicts it right away and again when the surrounding transaction ends,
+ * and on the other instances of the application once it has ended. An instance that misses the eviction because it
+ * lost its connection to the broker clears the cache when it reconnects, and may accept old claims until then.
+ */
+@Component
+public class MembershipVersions {
+    static final String BUMP_EVENT = "membership-versions.bump";
+    private static final long MISSING_USER = Long.MAX_VALUE;
+
+    private final UserRepository userRepository;
+    private final ClusterEvents clusterEvents;
+    private final Cache<Long, Long> versions;
+
+    public MembershipVersions(UserRepository userRepository, ClusterEvents clusterEvents,
+                              @Value("${auth.token.membership-version-cache.maximum-size:100000}") long maximumSize,
+                              @Value("${auth.token.membership-version-cache.time-to-live:PT30S}") Duration timeToLive) {
+        this.userRepository = userRepository;
+        this.clusterEvents = clusterEvents;
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .build();
+
+        clusterEvents.subscribe(BUMP_EVENT, Long[].class, userIds -> versions.invalidateAll(List.of(userIds)));
+        clusterEvents.onResync(versions::invalidateAll);
+    }
+
+    /**
+     * Reads the current stamp of a user from the database, for embedding in a new access token.
+     */
+    public Optional<Long> load(Long userId) {
+        return userRepository.findMembershipVersionById(userId);
+    }
+
+    /**
+     * Returns whether claims stamped with the given version still reflect the user's memberships.
+     */
+    public boolean isCurrent(Long userId, long version) {
+        long current = versions.get(userId, id -> load(id).orElse(MISSING_USER));
+        return version >= current && current != MISSING_USER;
+    }
+
+    /**
+     * Bumps the stamps of the users, to be called in the transaction that changes their memberships.
+     */
+    public void bump(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        userRepository.incrementMembershipVersions(userIds);
+
+        List<Long> bumped = List.copyOf(userIds);
+        AfterCompletion.runNowAndAgain(() -> versions.invalidateAll(bumped));
+        AfterCompletion.run(() -> clusterEvents.publish(BUMP_EVENT, bumped));
+    }
+}
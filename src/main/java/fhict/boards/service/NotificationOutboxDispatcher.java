@@ -0,0 +1,205 @@
+package fhict.boards.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fhict.boards.repository.NotificationOutboxRepository;
+import fhict.boards.repository.entity.NotificationOutboxMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Delivers the notification messages written to the outbox over the websocket, on a thread of its own.
+ * Messages are claimed in batches for a limited time, so instances sharing the outbox don't deliver the same
+ * message at once. A message that can't be sent is retried with exponential backoff and dropped after the
+ * maximum number of attempts.
+ * The time from writing to delivering a message is published as the {@code notification.outbox.lag} timer and
+ * the age of the oldest message still waiting as the {@code notification.outbox.oldest.age} gauge.
+ */
+@Slf4j
+@Component
+public class NotificationOutboxDispatcher implements DisposableBean {
+    static final String DESTINATION = "/queue/notifications";
+    static final Duration CLAIM_DURATION = Duration.ofMinutes(1);
+    static final Duration MAX_RETRY_DELAY = Duration.ofMinutes(5);
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final ExecutorService executor;
+    private final AtomicBoolean dispatchQueued = new AtomicBoolean();
+    private final Timer lagTimer;
+    private final Counter retriedCounter;
+    private final Counter droppedCounter;
+    private volatile LocalDateTime oldestPendingCreatedOn;
+
+    public NotificationOutboxDispatcher(NotificationOutboxRepository notificationOutboxRepository,
+                                        SimpMessagingTemplate messagingTemplate,
+                                        ObjectMapper objectMapper,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${notification.outbox.batch-size:100}") int batchSize,
+                                        @Value("${notification.outbox.max-attempts:10}") int maxAttempts) {
+        this.notificationOutboxRepository = notificationOutboxRepository;
+        this.messagingTemplate = messagingTemplate;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.executor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("notification-outbox-"));
+
+        this.lagTimer = Timer.builder("notification.outbox.lag")
+                .description("Time from writing a notification message to the outbox to delivering it")
+                .register(meterRegistry);
+        this.retriedCounter = failureCounter(meterRegistry, "retried");
+        this.droppedCounter = failureCounter(meterRegistry, "dropped");
+        Gauge.builder("notification.outbox.oldest.age", this, NotificationOutboxDispatcher::oldestPendingAgeSeconds)
+                .description("Age of the oldest notification message waiting in the outbox")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Starts delivering the waiting messages on the dispatcher thread. Calls made while a run is still queued
+     * are covered by that run.
+     */
+    public void wakeUp() {
+        if (!dispatchQueued.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                dispatchQueued.set(false);
+                dispatch();
+            });
+        } catch (RejectedExecutionException e) {
+            // Shutting down, the messages are delivered after the next start
+            dispatchQueued.set(false);
+        }
+    }
+
+    /**
+     * Picks up messages that are due for a retry, and messages whose wake-up was lost, for example in a restart.
+     */
+    @Scheduled(fixedDelayString = "${notification.outbox.poll-interval-ms:5000}")
+    public void poll() {
+        wakeUp();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    void dispatch() {
+        try {
+            List<NotificationOutboxMessage> batch;
+            do {
+                batch = claimBatch();
+                deliver(batch);
+            } while (batch.size() == batchSize);
+
+            oldestPendingCreatedOn = notificationOutboxRepository.findOldestCreatedOn().orElse(null);
+        } catch (RuntimeException e) {
+            log.warn("Failed to dispatch notification messages from the outbox", e);
+        }
+    }
+
+    private List<NotificationOutboxMessage> claimBatch() {
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Long> ids = notificationOutboxRepository.findDueIds(now, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        String claimId = UUID.randomUUID().toString();
+        notificationOutboxRepository.claim(ids, claimId, now.plus(CLAIM_DURATION), now);
+
+        return notificationOutboxRepository.findByClaimIdOrderById(claimId);
+    }
+
+    private void deliver(List<NotificationOutboxMessage> batch) {
+        List<Long> deliveredIds = new ArrayList<>();
+
+        for (NotificationOutboxMessage message : batch) {
+            try {
+                messagingTemplate.convertAndSendToUser(message.getReceiverUserId().toString(), DESTINATION,
+                        objectMapper.readTree(message.getPayload()));
+
+                deliveredIds.add(message.getId());
+                lagTimer.record(Duration.between(message.getCreatedOn(), LocalDateTime.now()));
+            } catch (JsonProcessingException e) {
+                drop(message, e);
+            } catch (MessagingException e) {
+                retryOrDrop(message, e);
+            }
+        }
+
+        if (!deliveredIds.isEmpty()) {
+            notificationOutboxRepository.deleteAllByIdInBatch(deliveredIds);
+        }
+    }
+
+    private void retryOrDrop(NotificationOutboxMessage message, Exception cause) {
+        int attempts = message.getAttempts() + 1;
+
+        if (attempts >= maxAttempts) {
+            drop(message, cause);
+            return;
+        }
+
+        message.setAttempts(attempts);
+        message.setNextAttemptOn(LocalDateTime.now().plus(retryDelay(attempts)));
+        message.setClaimId(null);
+        message.setClaimedUntil(null);
+        notificationOutboxRepository.save(message);
+        retriedCounter.increment();
+    }
+
+    private void drop(NotificationOutboxMessage message, Exception cause) {
+        log.warn("Dropping notification message {} for user {} after {} attempts",
+                message.getId(), message.getReceiverUserId(), message.getAttempts() + 1, cause);
+
+        notificationOutboxRepository.delete(message);
+        droppedCounter.increment();
+    }
+
+    static Duration retryDelay(int attempts) {
+        Duration delay = Duration.ofSeconds(1L << Math.min(attempts - 1, 16));
+        return delay.compareTo(MAX_RETRY_DELAY) < 0 ? delay : MAX_RETRY_DELAY;
+    }
+
+    private double oldestPendingAgeSeconds() {
+        LocalDateTime oldest = oldestPendingCreatedOn;
+        return oldest == null ? 0 : Duration.between(oldest, LocalDateTime.now()).toMillis() / 1000.0;
+    }
+
+    private static Counter failureCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("notification.outbox.failures")
+                .description("Notification messages that could not be delivered")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
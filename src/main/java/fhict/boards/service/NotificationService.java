@@ -1,14 +1,20 @@
 package fhict.boards.service;
 
-import fhict.boards.domain.dto.NotificationResponse;
+import fhict.boards.domain.dto.NotificationPageResponse;
+import fhict.boards.domain.dto.UnreadNotificationCountResponse;
+import fhict.boards.domain.enums.NotificationType;
+import fhict.boards.repository.entity.Member;
 import fhict.boards.repository.entity.Notification;
 
 import java.util.List;
 
 public interface NotificationService {
-    List<NotificationResponse> getNotificationsByUserId(Long id);
+    NotificationPageResponse getNotificationsByUserId(Long id, String cursor, int limit);
+    UnreadNotificationCountResponse getUnreadNotificationCount(Long userId);
     void deleteNotification(Long userId, Long notificationId);
     void deleteAllNotifications(Long userId);
     void createAndSendNotification(Notification notification);
+    void createAndSendNotifications(List<Notification> notifications);
+    void createAndSendNotifications(NotificationType type, Member sender, List<Member> receivers);
     void toggleRead(Long userId, Long notificationId);
 }
@@ -1,71 +1,167 @@
 package fhict.boards.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fhict.boards.domain.dto.NotificationPageResponse;
 import fhict.boards.domain.dto.NotificationResponse;
+import fhict.boards.domain.dto.NotificationSummaryResponse;
+import fhict.boards.domain.dto.UnreadNotificationCountResponse;
+import fhict.boards.domain.enums.NotificationType;
+import fhict.boards.exception.InvalidCursorException;
 import fhict.boards.exception.NotificationNotFoundException;
 import fhict.boards.exception.UnauthorizedAccessException;
+import fhict.boards.repository.NotificationFeedProjection;
+import fhict.boards.repository.NotificationOutboxRepository;
 import fhict.boards.repository.NotificationRepository;
+import fhict.boards.repository.entity.Member;
 import fhict.boards.repository.entity.Notification;
+import fhict.boards.repository.entity.NotificationOutboxMessage;
 import fhict.boards.security.token.AccessToken;
 import lombok.AllArgsConstructor;
-import org.springframework.data.domain.Sort;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 @AllArgsConstructor
 public class NotificationServiceImpl implements NotificationService {
-
+    static final int MAX_PAGE_SIZE = 200;
     private final AccessToken requestAccessToken;
     private final NotificationRepository notificationRepository;
     private final DtoMapper dtoMapper;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final NotificationOutboxDispatcher notificationOutboxDispatcher;
+    private final ObjectMapper objectMapper;
+    private final UnreadNotificationCounts unreadNotificationCounts;
 
     @Override
-    public List<NotificationResponse> getNotificationsByUserId(Long id) {
+    public NotificationPageResponse getNotificationsByUserId(Long id, String cursor, int limit) {
         if (!Objects.equals(requestAccessToken.getUserId(), id)) {
             throw new UnauthorizedAccessException("Authenticated user is only authorized to get their own notifications.");
         }
 
-        Sort sort = Sort.by(Sort.Direction.DESC, "timestamp");
-        List<Notification> notifications = notificationRepository.findAllByReceiverUserId(id, sort);
+        int pageSize = CursorCodec.pageSize(limit, MAX_PAGE_SIZE);
 
-        return notifications
-                .stream()
-                .map(dtoMapper::mapToNotificationResponse)
-                .toList();
+        // Fetch one extra row to know whether there is a next page without a count query
+        PageRequest pageRequest = PageRequest.of(0, pageSize + 1);
+        List<NotificationFeedProjection> notifications;
+        if (cursor == null) {
+            notifications = notificationRepository.findFeedByUserId(id, pageRequest);
+        } else {
+            String[] values = CursorCodec.decode(cursor, 2);
+            try {
+                notifications = notificationRepository.findFeedByUserIdBefore(id, LocalDateTime.parse(values[0]),
+                        Long.parseLong(values[1]), pageRequest);
+            } catch (NumberFormatException | DateTimeParseException e) {
+                throw new InvalidCursorException(cursor);
+            }
+        }
+
+        boolean hasNext = notifications.size() > pageSize;
+        List<NotificationFeedProjection> page = hasNext ? notifications.subList(0, pageSize) : notifications;
+        NotificationFeedProjection last = page.isEmpty() ? null : page.get(page.size() - 1);
+
+        return NotificationPageResponse.builder()
+                .notifications(page.stream()
+                        .map(this::mapToNotificationSummaryResponse)
+                        .toList())
+                .nextCursor(hasNext ? CursorCodec.encode(last.getTimestamp(), last.getId()) : null)
+                .build();
     }
 
     @Override
+    public UnreadNotificationCountResponse getUnreadNotificationCount(Long userId) {
+        if (!Objects.equals(requestAccessToken.getUserId(), userId)) {
+            throw new UnauthorizedAccessException
+                    ("Authenticated user is only authorized to get their own unread notification count.");
+        }
+        return new UnreadNotificationCountResponse(unreadNotificationCounts.get(userId));
+    }
+
+    @Override
+    @Transactional
     public void deleteNotification(Long userId, Long notificationId) {
         if (!Objects.equals(requestAccessToken.getUserId(), userId)) {
             throw new UnauthorizedAccessException
                     ("Authenticated user is only authorized to delete their own notification.");
         }
+        Notification notification = getNotificationByIdOrThrowNotFound(notificationId);
+
         notificationRepository.deleteById(notificationId);
+
+        if (!notification.isRead()) {
+            unreadNotificationCounts.add(Map.of(notification.getReceiver().getUser().getId(), -1L));
+        }
     }
 
     @Override
+    @Transactional
     public void deleteAllNotifications(Long userId) {
         if (!Objects.equals(requestAccessToken.getUserId(), userId)) {
             throw new UnauthorizedAccessException
                     ("Authenticated user is only authorized to delete their own notifications.");
         }
         notificationRepository.deleteAllByReceiverUserId(userId);
+        unreadNotificationCounts.reset(userId);
     }
 
     @Override
+    @Transactional
     public void createAndSendNotification(Notification notification) {
-        notificationRepository.save(notification);
-        String userId = notification.getReceiver().getUser().getId().toString();
-        NotificationResponse notificationResponse = dtoMapper.mapToNotificationResponse(notification);
-        messagingTemplate.convertAndSendToUser(userId, "/queue/notifications", notificationResponse);
+        createAndSendNotifications(List.of(notification));
+    }
+
+    /**
+     * Saves the notifications, one insert each, and writes their websocket messages to the outbox in the
+     * surrounding transaction.
+     * The outbox dispatcher is woken up once the transaction has committed, so receivers are never notified
+     * of changes that were rolled back and a slow websocket doesn't hold up the request.
+     */
+    @Override
+    @Transactional
+    public void createAndSendNotifications(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        notificationRepository.saveAll(notifications);
+        countAsUnread(notifications);
+        writeToOutbox(notifications);
     }
 
+    /**
+     * Notifies each receiver with the same notification. Hibernate can't batch inserts into the notification table
+     * because of its IDENTITY keys, so all notifications are inserted with one statement and read back with one query
+     * by a batch ID that is unique to this call.
+     */
     @Override
+    @Transactional
+    public void createAndSendNotifications(NotificationType type, Member sender, List<Member> receivers) {
+        if (receivers.isEmpty()) {
+            return;
+        }
+
+        String batchId = UUID.randomUUID().toString();
+        List<Long> receiverIds = receivers.stream().map(Member::getId).toList();
+
+        notificationRepository.insertForReceivers(type, sender.getId(), receiverIds, LocalDateTime.now(), batchId);
+        List<Notification> notifications = notificationRepository.findByBatchId(batchId);
+
+        countAsUnread(notifications);
+        writeToOutbox(notifications);
+    }
+
+    @Override
+    @Transactional
     public void toggleRead(Long userId, Long notificationId) {
         if (!Objects.equals(requestAccessToken.getUserId(), userId)) {
             throw new UnauthorizedAccessException
@@ -75,6 +171,56 @@ public class NotificationServiceImpl implements NotificationService {
         notification.setRead(!notification.isRead());
 
         notificationRepository.save(notification);
+        unreadNotificationCounts.add(Map.of(notification.getReceiver().getUser().getId(), notification.isRead() ? -1L : 1L));
+    }
+
+    private void countAsUnread(List<Notification> notifications) {
+        unreadNotificationCounts.add(notifications
+                .stream()
+                .filter(notification -> !notification.isRead())
+                .collect(Collectors.groupingBy(notification -> notification.getReceiver().getUser().getId(),
+                        Collectors.counting())));
+    }
+
+    private void writeToOutbox(List<Notification> notifications) {
+        LocalDateTime now = LocalDateTime.now();
+        List<NotificationOutboxMessage> messages = notifications
+                .stream()
+                .map(notification -> NotificationOutboxMessage.builder()
+                        .receiverUserId(notification.getReceiver().getUser().getId())
+                        .payload(serialize(dtoMapper.mapToNotificationResponse(notification)))
+                        .createdOn(now)
+                        .nextAttemptOn(now)
+                        .build())
+                .toList();
+
+        notificationOutboxRepository.saveAll(messages);
+        AfterCommit.run(notificationOutboxDispatcher::wakeUp);
+    }
+
+    private NotificationSummaryResponse mapToNotificationSummaryResponse(NotificationFeedProjection notification) {
+        return NotificationSummaryResponse.builder()
+                .id(notification.getId())
+                .type(notification.getType())
+                .timestamp(notification.getTimestamp())
+                .read(notification.isRead())
+                .senderMemberId(notification.getSenderMemberId())
+                .senderUserId(notification.getSenderUserId())
+                .senderName(notification.getSenderName())
+                .projectId(notification.getProjectId())
+                .projectName(notification.getProjectName())
+                .issueId(notification.getIssueId())
+                .issueKey(notification.getIssueKey())
+                .issueTitle(notification.getIssueTitle())
+                .build();
+    }
+
+    private String serialize(NotificationResponse notificationResponse) {
+        try {
+            return objectMapper.writeValueAsString(notificationResponse);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     private Notification getNotificationByIdOrThrowNotFound(Long id) {
@@ -0,0 +1,23 @@
+package fhict.boards.service;
+
+import fhict.boards.domain.enums.MemberRole;
+import fhict.boards.repository.entity.Member;
+import fhict.boards.repository.entity.Project;
+
+/**
+ * The authenticated user's membership in a project, resolved once per request for endpoints annotated with
+ * {@link fhict.boards.security.auth.RequiresProjectRole}.
+ * <p>
+ * The member and project are entity references: when the membership came from the token claims or the
+ * {@link MemberRoleCache} they are not loaded, and reading anything but their IDs runs a query, which fails if the
+ * row was deleted since. Use {@link #memberId()}, {@link #projectId()} and {@link #role()} where they are enough.
+ */
+public record ProjectAccess(Member member, Project project, MemberRole role) {
+    public Long memberId() {
+        return member.getId();
+    }
+
+    public Long projectId() {
+        return project.getId();
+    }
+}
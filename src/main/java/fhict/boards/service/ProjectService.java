@@ -9,12 +9,13 @@ import java.util.List;
 
 public interface ProjectService {
     ProjectResponse createProject(ProjectCreateRequest request, MultipartFile icon) throws IOException;
-    List<MemberResponse> inviteUsers(Long id, InviteUsersRequest request);
+    List<MemberResponse> inviteUsers(ProjectAccess projectAccess, InviteUsersRequest request);
     List<ProjectResponse> getProjectsByUserId(Long userId);
     ProjectResponse getProjectById(Long id);
-    byte[] updateProjectIcon(Long id, MultipartFile file) throws IOException;
-    void deleteProjectIcon(Long id);
-    ProjectResponse updateProjectDetails(Long id, ProjectUpdateRequest request);
-    void deleteProject(Long id);
+    byte[] updateProjectIcon(ProjectAccess projectAccess, MultipartFile file) throws IOException;
+    void deleteProjectIcon(ProjectAccess projectAccess);
+    ProjectResponse updateProjectDetails(ProjectAccess projectAccess, ProjectUpdateRequest request);
+    void deleteProject(ProjectAccess projectAccess);
     Project getProjectByIdOrThrowNotFound(Long id);
+    long reserveIssueNumbers(Long projectId, int count);
 }
\ No newline at end of file
@@ -4,26 +4,23 @@ import fhict.boards.domain.dto.*;
 import fhict.boards.domain.enums.MemberRole;
 import fhict.boards.domain.enums.NotificationType;
 import fhict.boards.exception.*;
+import fhict.boards.repository.IssueTombstoneRepository;
 import fhict.boards.repository.MemberRepository;
 import fhict.boards.repository.NotificationRepository;
 import fhict.boards.repository.ProjectRepository;
 import fhict.boards.repository.UserRepository;
 import fhict.boards.repository.entity.Member;
-import fhict.boards.repository.entity.Notification;
 import fhict.boards.repository.entity.Project;
 import fhict.boards.repository.entity.User;
 import fhict.boards.security.token.AccessToken;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.util.EnumSet;
-import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
+import java.util.*;
 
 @Service
 @AllArgsConstructor
@@ -34,68 +31,74 @@ public class ProjectServiceImpl implements ProjectService {
     private final UserRepository userRepository;
     private final AccessToken requestAccessToken;
     private final DtoMapper dtoMapper;
-    private final MemberService memberService;
     private final NotificationService notificationService;
     private final NotificationRepository notificationRepository;
-
+    private final UnreadNotificationCounts unreadNotificationCounts;
+    private final SearchService searchService;
+    private final IssueTombstoneRepository issueTombstoneRepository;
+    private final MemberRoleCache memberRoleCache;
+    private final MembershipVersions membershipVersions;
+
+    /**
+     * Creates the project with its members and notifies the members apart from the owner. Members are inserted
+     * with one statement per role and their notifications with one statement.
+     */
     @Override
+    @Transactional
     public ProjectResponse createProject(ProjectCreateRequest request, MultipartFile icon) throws IOException {
         handleDuplicateProject(request.getName(), request.getKey(), null);
 
+        Map<String, User> usersByEmail = findUsersByEmail(request.getMembers());
+
         Project project = Project.builder()
                 .name(request.getName())
                 .key(request.getKey())
                 .icon(icon != null ? icon.getBytes() : null)
+                .lastIssueNumber(0L)
                 .build();
 
-        List<Member> members = mapMembersFromRequest(request.getMembers(), project);
-        project.setMembers(members);
-
         Project savedProject = projectRepository.save(project);
 
+        List<Member> members = insertMembers(savedProject.getId(), request.getMembers(), usersByEmail, new HashSet<>());
+
         // Send notification to all added members apart from creator
-        Member creator = null;
-        for (Member member : members) {
-            if (member.getRole() == MemberRole.OWNER) {
-                creator = member;
-            } else {
-                Notification notification = Notification.builder()
-                        .type(NotificationType.ADDED_TO_PROJECT)
-                        .sender(creator)
-                        .receiver(member)
-                        .project(project)
-                        .timestamp(LocalDateTime.now())
-                        .read(false)
-                        .build();
-
-                notificationService.createAndSendNotification(notification);
-            }
+        Optional<Member> creator = members.stream()
+                .filter(member -> member.getRole() == MemberRole.OWNER)
+                .findFirst();
+
+        if (creator.isPresent()) {
+            List<Member> receivers = members.stream()
+                    .filter(member -> member.getRole() != MemberRole.OWNER)
+                    .toList();
+
+            notificationService.createAndSendNotifications(NotificationType.ADDED_TO_PROJECT, creator.get(), receivers);
         }
         return dtoMapper.mapToProjectResponse(savedProject);
     }
 
+    /**
+     * Adds all invitees in one transaction. Invitees are looked up with one query, the new members are inserted
+     * with one statement per role and their notifications with one statement, pushed after the commit.
+     */
     @Override
-    public List<MemberResponse> inviteUsers(Long id, InviteUsersRequest request) {
-        Project project = getProjectByIdOrThrowNotFound(id);
+    @Transactional
+    public List<MemberResponse> inviteUsers(ProjectAccess projectAccess, InviteUsersRequest request) {
+        Long projectId = projectAccess.projectId();
 
-        Member inviter = memberService.assertMemberIsAuthorized(project.getId(), EnumSet.of(MemberRole.OWNER, MemberRole.ADMIN));
-
-        List<Member> members = mapMembersFromRequest(request.getMembers(), project);
+        for (MemberRequest member : request.getMembers()) {
+            if (member.getRole() == MemberRole.OWNER) {
+                throw new ProjectUnauthorizedAccessException
+                        ("Member with email: " + member.getEmail() + " can't be invited as Owner.");
+            }
+        }
 
-        for (Member member: members) {
-            memberRepository.save(member);
+        Map<String, User> usersByEmail = findUsersByEmail(request.getMembers());
+        Set<Long> projectUserIds = new HashSet<>(memberRepository.findUserIdsByProjectId(projectId));
 
-            Notification notification = Notification.builder()
-                    .type(NotificationType.ADDED_TO_PROJECT)
-                    .sender(inviter)
-                    .receiver(member)
-                    .project(project)
-                    .timestamp(LocalDateTime.now())
-                    .read(false)
-                    .build();
+        List<Member> members = insertMembers(projectId, request.getMembers(), usersByEmail, projectUserIds);
+        memberRoleCache.evictUsers(projectId, members.stream().map(member -> member.getUser().getId()).toList());
 
-            notificationService.createAndSendNotification(notification);
-        }
+        notificationService.createAndSendNotifications(NotificationType.ADDED_TO_PROJECT, projectAccess.member(), members);
 
         return members
                 .stream()
@@ -103,38 +106,58 @@ public class ProjectServiceImpl implements ProjectService {
                 .toList();
     }
 
-    private List<Member> mapMembersFromRequest(List<MemberRequest> request, Project project) {
-        return request
-                .stream()
-                .map(member -> {
-                    if (project.getMembers() != null) {
-
-                        if (member.getRole() == MemberRole.OWNER) {
-                            throw new ProjectUnauthorizedAccessException
-                                    ("Member with email: " + member.getEmail() + " can't be invited as Owner.");
-                        }
-
-                        for (Member projectMember : project.getMembers()) {
-                            if (Objects.equals(projectMember.getUser().getEmail(), member.getEmail())) {
-                                throw new MemberAlreadyExistsException(member.getEmail());
-                            }
-                        }
-                    }
-
-                    Optional<User> user = userRepository.findByEmail(member.getEmail());
-
-                    if (user.isEmpty()) {
-                        throw new UserNotFoundException(member.getEmail());
-                    }
-
-                    return Member.builder()
-                            .user(user.get())
-                            .role(member.getRole())
-                            .project(project)
-                            .joinedOn(LocalDate.now())
-                            .build();
-                })
-                .toList();
+    /**
+     * Inserts the requested members with one statement per role and loads them with their users.
+     * Throws if one of the users is already in the given user IDs of the project.
+     */
+    private List<Member> insertMembers(Long projectId, List<MemberRequest> request, Map<String, User> usersByEmail,
+                                       Set<Long> projectUserIds) {
+        Map<MemberRole, List<Long>> userIdsByRole = new EnumMap<>(MemberRole.class);
+
+        for (MemberRequest member : request) {
+            User user = usersByEmail.get(member.getEmail());
+
+            if (!projectUserIds.add(user.getId())) {
+                throw new MemberAlreadyExistsException(member.getEmail());
+            }
+            userIdsByRole.computeIfAbsent(member.getRole(), role -> new ArrayList<>()).add(user.getId());
+        }
+
+        if (userIdsByRole.isEmpty()) {
+            return List.of();
+        }
+
+        LocalDate joinedOn = LocalDate.now();
+        userIdsByRole.forEach((role, userIds) -> memberRepository.insertMembers(projectId, userIds, role, joinedOn));
+
+        List<Long> userIds = usersByEmail.values().stream().map(User::getId).toList();
+        return memberRepository.findByProjectIdAndUserIdIn(projectId, userIds);
+    }
+
+    /**
+     * Loads the users with the requested emails in one query. Emails are matched case-insensitively, like the database does.
+     */
+    private Map<String, User> findUsersByEmail(List<MemberRequest> request) {
+        Set<String> emails = new HashSet<>();
+
+        for (MemberRequest member : request) {
+            if (!emails.add(member.getEmail())) {
+                throw new MemberAlreadyExistsException(member.getEmail());
+            }
+        }
+
+        Map<String, User> usersByEmail = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+        if (!emails.isEmpty()) {
+            userRepository.findByEmailIn(emails).forEach(user -> usersByEmail.put(user.getEmail(), user));
+        }
+
+        for (String email : emails) {
+            if (!usersByEmail.containsKey(email)) {
+                throw new UserNotFoundException(email);
+            }
+        }
+        return usersByEmail;
     }
 
     @Override
@@ -155,9 +178,8 @@ public class ProjectServiceImpl implements ProjectService {
     public ProjectResponse getProjectById(Long id) {
         Project project = getProjectByIdOrThrowNotFound(id);
 
-        List<Project> projectsOfUser = getProjectByUserIdOrThrowNotFound(requestAccessToken.getUserId());
-
-        if (!projectsOfUser.contains(project)) {
+        // Projects the user is not a member of are reported as not found
+        if (!memberRepository.existsByUserIdAndProjectId(requestAccessToken.getUserId(), id)) {
             throw new ProjectNotFoundException(id);
         }
 
@@ -165,10 +187,8 @@ public class ProjectServiceImpl implements ProjectService {
     }
 
     @Override
-    public byte[] updateProjectIcon(Long projectId, MultipartFile file) throws IOException {
-        Project project = getProjectByIdOrThrowNotFound(projectId);
-
-        memberService.assertMemberIsAuthorized(projectId, EnumSet.of(MemberRole.OWNER, MemberRole.ADMIN));
+    public byte[] updateProjectIcon(ProjectAccess projectAccess, MultipartFile file) throws IOException {
+        Project project = projectAccess.project();
 
         project.setIcon(file.getBytes());
         projectRepository.save(project);
@@ -177,22 +197,18 @@ public class ProjectServiceImpl implements ProjectService {
     }
 
     @Override
-    public void deleteProjectIcon(Long projectId) {
-        Project project = getProjectByIdOrThrowNotFound(projectId);
-
-        memberService.assertMemberIsAuthorized(projectId, EnumSet.of(MemberRole.OWNER, MemberRole.ADMIN));
+    public void deleteProjectIcon(ProjectAccess projectAccess) {
+        Project project = projectAccess.project();
 
         project.setIcon(null);
         projectRepository.save(project);
     }
 
     @Override
-    public ProjectResponse updateProjectDetails(Long projectId, ProjectUpdateRequest request) {
-        handleDuplicateProject(request.getName(), request.getKey(), projectId);
+    public ProjectResponse updateProjectDetails(ProjectAccess projectAccess, ProjectUpdateRequest request) {
+        handleDuplicateProject(request.getName(), request.getKey(), projectAccess.projectId());
 
-        Project project = getProjectByIdOrThrowNotFound(projectId);
-
-        memberService.assertMemberIsAuthorized(projectId, EnumSet.of(MemberRole.OWNER, MemberRole.ADMIN));
+        Project project = projectAccess.project();
 
         project.setName(request.getName());
         project.setKey(request.getKey());
@@ -203,11 +219,17 @@ public class ProjectServiceImpl implements ProjectService {
     }
 
     @Override
-    public void deleteProject(Long id) {
-        memberService.assertMemberIsAuthorized(id, EnumSet.of(MemberRole.OWNER));
+    @Transactional
+    public void deleteProject(ProjectAccess projectAccess) {
+        Long id = projectAccess.projectId();
 
+        membershipVersions.bump(memberRepository.findUserIdsByProjectId(id));
+        unreadNotificationCounts.subtract(notificationRepository.countUnreadByProjectId(id));
         notificationRepository.deleteByProjectId(id);
+        issueTombstoneRepository.deleteByProjectId(id);
         projectRepository.deleteById(id);
+        memberRoleCache.evictProject(id);
+        searchService.removeProject(id);
     }
 
     private void handleDuplicateProject(String name, String key, Long projectId) {
@@ -243,6 +265,21 @@ public class ProjectServiceImpl implements ProjectService {
         return project.get();
     }
 
+    /**
+     * Reserves a block of consecutive issue numbers and returns the first one.
+     * The increment locks the project row until the surrounding transaction ends,
+     * so concurrent callers never receive the same number.
+     */
+    @Override
+    @Transactional
+    public long reserveIssueNumbers(Long projectId, int count) {
+        // Counters of projects created before they existed are seeded on startup, see IssueKeyNumberBackfill
+        if (projectRepository.incrementLastIssueNumber(projectId, count) == 0) {
+            throw new ProjectNotFoundException(projectId);
+        }
+        return projectRepository.findLastIssueNumber(projectId) - count + 1;
+    }
+
     List<Project> getProjectByUserIdOrThrowNotFound(Long userId) {
         if (userRepository.findById(userId).isEmpty()) {
             throw new UserNotFoundException(userId);
@@ -0,0 +1,47 @@
+package fhict.boards.service;
+
+import fhict.boards.repository.RefreshTokenRepository;
+import fhict.boards.repository.RevokedSessionRepository;
+import fhict.boards.repository.entity.RevokedSession;
+import fhict.boards.security.token.RevokedSessions;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Keeps the in-memory revoked sessions in sync with the database, so revocations made by other instances
+ * and before a restart are enforced too, and drops revocations and refresh tokens that have expired.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RevokedSessionLoader {
+    private final RevokedSessionRepository revokedSessionRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RevokedSessions revokedSessions;
+
+    /**
+     * Loads all revocations that haven't expired. These only cover the lifetime of an access token, so there are few.
+     */
+    @Scheduled(fixedDelayString = "${auth.revocation.sync-interval-ms:30000}")
+    public void loadRevokedSessions() {
+        LocalDateTime now = LocalDateTime.now();
+
+        List<RevokedSession> sessions = revokedSessionRepository.findByExpiresOnAfter(now);
+        for (RevokedSession session : sessions) {
+            revokedSessions.revoke(session.getSessionId(), session.getExpiresOn().atZone(ZoneId.systemDefault()).toInstant());
+        }
+
+        revokedSessions.removeExpired(now.atZone(ZoneId.systemDefault()).toInstant());
+        int deleted = revokedSessionRepository.deleteExpired(now) + refreshTokenRepository.deleteExpired(now);
+
+        if (deleted > 0) {
+            log.info("Deleted {} expired session revocations and refresh tokens", deleted);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package fhict.boards.service;
+
+import fhict.boards.domain.dto.IssueSearchResponse;
+
+public interface SearchService {
+    IssueSearchResponse searchIssues(Long projectId, String query, String cursor, int limit);
+    void indexIssue(Long issueId);
+    void removeIssue(Long issueId);
+    void removeProject(Long projectId);
+    int rebuildIndex();
+}
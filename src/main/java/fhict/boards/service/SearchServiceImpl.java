@@ -0,0 +1,334 @@
+package fhict.boards.service;
+
+import fhict.boards.domain.dto.IssueSearchHitResponse;
+import fhict.boards.domain.dto.IssueSearchResponse;
+import fhict.boards.exception.InvalidCursorException;
+import fhict.boards.repository.CommentBodyProjection;
+import fhict.boards.repository.CommentRepository;
+import fhict.boards.repository.IssueRepository;
+import fhict.boards.repository.IssueSearchProjection;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.en.EnglishAnalyzer;
+import org.apache.lucene.document.*;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.*;
+import org.apache.lucene.store.Directory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static fhict.boards.domain.enums.MemberRole.*;
+
+/**
+ * Full-text search over issue titles, descriptions and comments, backed by an embedded Lucene index.
+ * The index holds one document per issue and is updated after the transaction that changed the issue commits.
+ * Each instance of the application keeps its own index, so the change is also published to the other instances,
+ * which read the issue back from the database. An instance rebuilds its index whenever it (re)connects to the broker,
+ * as it may have missed changes in the meantime.
+ * <p>
+ * Hits are ordered by score and id. Scores change whenever the index does, so the cursor names the searcher the
+ * first page was read from and later pages are read from that same point in time while it is kept.
+ */
+@Slf4j
+@Service
+public class SearchServiceImpl implements SearchService {
+    static final int MAX_PAGE_SIZE = 100;
+    static final String ISSUE_INDEXED_EVENT = "search.issue-indexed";
+    static final String ISSUE_REMOVED_EVENT = "search.issue-removed";
+    static final String PROJECT_REMOVED_EVENT = "search.project-removed";
+    private static final int REBUILD_BATCH_SIZE = 500;
+    private static final double SEARCHER_MAX_AGE_SECONDS = 600;
+
+    private static final String ID = "id";
+    private static final String ID_SORT = "idSort";
+    private static final String PROJECT_ID = "projectId";
+    private static final String KEY = "key";
+    private static final String TITLE = "title";
+    private static final String DESCRIPTION = "description";
+    private static final String COMMENTS = "comments";
+
+    private static final Map<String, Float> SEARCH_FIELD_WEIGHTS = Map.of(TITLE, 2f, DESCRIPTION, 1f, COMMENTS, 1f);
+    private static final Sort RELEVANCE = new Sort(SortField.FIELD_SCORE, new SortField(ID_SORT, SortField.Type.LONG));
+
+    private final IssueRepository issueRepository;
+    private final CommentRepository commentRepository;
+    private final MemberService memberService;
+    private final ClusterEvents clusterEvents;
+    private final Analyzer analyzer;
+    private final IndexWriter indexWriter;
+    private final SearcherManager searcherManager;
+    private final SearcherLifetimeManager pagedSearchers = new SearcherLifetimeManager();
+
+    public SearchServiceImpl(Directory searchIndexDirectory, IssueRepository issueRepository,
+                             CommentRepository commentRepository, MemberService memberService,
+                             ClusterEvents clusterEvents) throws IOException {
+        this.issueRepository = issueRepository;
+        this.commentRepository = commentRepository;
+        this.memberService = memberService;
+        this.clusterEvents = clusterEvents;
+        this.analyzer = new EnglishAnalyzer();
+        this.indexWriter = new IndexWriter(searchIndexDirectory, new IndexWriterConfig(analyzer));
+        this.searcherManager = new SearcherManager(indexWriter, null);
+
+        clusterEvents.subscribe(ISSUE_INDEXED_EVENT, Long.class, issueId -> update(() -> writeIssue(issueId)));
+        clusterEvents.subscribe(ISSUE_REMOVED_EVENT, Long.class, issueId -> update(() -> deleteIssue(issueId)));
+        clusterEvents.subscribe(PROJECT_REMOVED_EVENT, Long.class, projectId -> update(() -> deleteProject(projectId)));
+        clusterEvents.onResync(this::rebuildIndex);
+    }
+
+    @Override
+    public IssueSearchResponse searchIssues(Long projectId, String queryText, String cursor, int limit) {
+        memberService.assertMemberIsAuthorized(projectId, EnumSet.of(OWNER, ADMIN, DEVELOPER, VIEWER));
+
+        if (queryText == null || queryText.isBlank()) {
+            return IssueSearchResponse.builder()
+                    .hits(Collections.emptyList())
+                    .build();
+        }
+
+        int pageSize = CursorCodec.pageSize(limit, MAX_PAGE_SIZE);
+        SearchCursor after = cursor == null ? null : decodeCursor(cursor);
+
+        SimpleQueryParser parser = new SimpleQueryParser(analyzer, SEARCH_FIELD_WEIGHTS);
+        parser.setDefaultOperator(BooleanClause.Occur.MUST);
+
+        Query query = new BooleanQuery.Builder()
+                .add(parser.parse(queryText), BooleanClause.Occur.MUST)
+                .add(LongPoint.newExactQuery(PROJECT_ID, projectId), BooleanClause.Occur.FILTER)
+                .build();
+
+        try {
+            IndexSearcher searcher = acquireSearcher(after);
+            try {
+                long searcherVersion = pagedSearchers.record(searcher);
+
+                // The id sort field is unique, so the document number of the cursor only has to be valid for the reader
+                FieldDoc afterDoc = after == null ? null : new FieldDoc(searcher.getIndexReader().maxDoc() - 1,
+                        after.score(), new Object[]{after.score(), after.id()});
+                ScoreDoc[] scoreDocs = searcher.searchAfter(afterDoc, query, pageSize + 1, RELEVANCE, true).scoreDocs;
+                boolean hasNext = scoreDocs.length > pageSize;
+                int count = Math.min(scoreDocs.length, pageSize);
+
+                StoredFields storedFields = searcher.storedFields();
+                List<IssueSearchHitResponse> hits = new ArrayList<>();
+                for (int i = 0; i < count; i++) {
+                    Document document = storedFields.document(scoreDocs[i].doc);
+                    hits.add(IssueSearchHitResponse.builder()
+                            .id(Long.valueOf(document.get(ID)))
+                            .key(document.get(KEY))
+                            .title(document.get(TITLE))
+                            .score(scoreDocs[i].score)
+                            .build());
+                }
+
+                return IssueSearchResponse.builder()
+                        .hits(hits)
+                        .nextCursor(hasNext ? encodeCursor(searcherVersion, (FieldDoc) scoreDocs[count - 1]) : null)
+                        .build();
+            } finally {
+                searcher.getIndexReader().decRef();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void indexIssue(Long issueId) {
+        afterCommit(ISSUE_INDEXED_EVENT, issueId, () -> writeIssue(issueId));
+    }
+
+    @Override
+    public void removeIssue(Long issueId) {
+        afterCommit(ISSUE_REMOVED_EVENT, issueId, () -> deleteIssue(issueId));
+    }
+
+    @Override
+    public void removeProject(Long projectId) {
+        afterCommit(PROJECT_REMOVED_EVENT, projectId, () -> deleteProject(projectId));
+    }
+
+    /**
+     * Replaces the whole index with the issues and comments currently in the database.
+     */
+    @Override
+    public synchronized int rebuildIndex() {
+        try {
+            indexWriter.deleteAll();
+
+            long afterId = 0L;
+            int indexed = 0;
+            List<IssueSearchProjection> issues;
+            do {
+                issues = issueRepository.findSearchProjectionsAfter(afterId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+                writeIssues(issues);
+
+                indexed += issues.size();
+                if (!issues.isEmpty()) {
+                    afterId = issues.get(issues.size() - 1).getId();
+                }
+            } while (issues.size() == REBUILD_BATCH_SIZE);
+
+            indexWriter.commit();
+            searcherManager.maybeRefresh();
+
+            log.info("Rebuilt the search index with {} issues", indexed);
+            return indexed;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndexIfEmpty() {
+        if (indexWriter.getDocStats().numDocs == 0 && issueRepository.count() > 0) {
+            rebuildIndex();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${search.index.commit-interval-ms:5000}")
+    public void commit() throws IOException {
+        if (indexWriter.hasUncommittedChanges()) {
+            indexWriter.commit();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${search.index.searcher-prune-interval-ms:60000}")
+    public void prunePagedSearchers() throws IOException {
+        pagedSearchers.prune(new SearcherLifetimeManager.PruneByAge(SEARCHER_MAX_AGE_SECONDS));
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        pagedSearchers.close();
+        searcherManager.close();
+        indexWriter.close();
+    }
+
+    private void writeIssue(Long issueId) throws IOException {
+        List<IssueSearchProjection> issues = issueRepository.findSearchProjectionsByIdIn(List.of(issueId));
+
+        if (issues.isEmpty()) {
+            deleteIssue(issueId);
+        } else {
+            writeIssues(issues);
+        }
+    }
+
+    private void deleteIssue(Long issueId) throws IOException {
+        indexWriter.deleteDocuments(new Term(ID, issueId.toString()));
+    }
+
+    private void deleteProject(Long projectId) throws IOException {
+        indexWriter.deleteDocuments(LongPoint.newExactQuery(PROJECT_ID, projectId));
+    }
+
+    private void writeIssues(List<IssueSearchProjection> issues) throws IOException {
+        if (issues.isEmpty()) {
+            return;
+        }
+
+        List<Long> issueIds = issues.stream()
+                .map(IssueSearchProjection::getId)
+                .toList();
+        Map<Long, List<String>> commentsByIssueId = commentRepository.findBodiesByIssueIdIn(issueIds)
+                .stream()
+                .collect(Collectors.groupingBy(CommentBodyProjection::getIssueId,
+                        Collectors.mapping(CommentBodyProjection::getBody, Collectors.toList())));
+
+        for (IssueSearchProjection issue : issues) {
+            Document document = toDocument(issue, commentsByIssueId.getOrDefault(issue.getId(), List.of()));
+            indexWriter.updateDocument(new Term(ID, issue.getId().toString()), document);
+        }
+    }
+
+    private Document toDocument(IssueSearchProjection issue, List<String> comments) {
+        Document document = new Document();
+        document.add(new StringField(ID, issue.getId().toString(), Field.Store.YES));
+        document.add(new NumericDocValuesField(ID_SORT, issue.getId()));
+        document.add(new LongPoint(PROJECT_ID, issue.getProjectId()));
+        document.add(new StoredField(KEY, issue.getIssueKey()));
+        document.add(new TextField(TITLE, issue.getTitle(), Field.Store.YES));
+
+        if (issue.getDescription() != null) {
+            document.add(new TextField(DESCRIPTION, issue.getDescription(), Field.Store.NO));
+        }
+        for (String comment : comments) {
+            document.add(new TextField(COMMENTS, comment, Field.Store.NO));
+        }
+        return document;
+    }
+
+    /**
+     * Runs the index update once the current transaction commits, so rolled back changes never reach the index,
+     * and then publishes the event that makes the other instances update theirs.
+     */
+    private void afterCommit(String event, Long id, IndexUpdate update) {
+        AfterCommit.run(() -> {
+            update(update);
+            clusterEvents.publish(event, id);
+        });
+    }
+
+    /**
+     * Failures are logged instead of thrown, as the change itself has already been saved; a rebuild restores the index.
+     */
+    private void update(IndexUpdate update) {
+        try {
+            update.run();
+            searcherManager.maybeRefresh();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to update the search index", e);
+        }
+    }
+
+    /**
+     * Acquires the searcher the previous page was read from, or the current one for a first page. Searchers are
+     * kept for a while after the index changed, past that later pages are read from the current searcher and hits
+     * whose score changed since may be skipped or repeated.
+     * The searcher is released by decreasing the reference count of its reader.
+     */
+    private IndexSearcher acquireSearcher(SearchCursor after) throws IOException {
+        if (after != null) {
+            IndexSearcher searcher = pagedSearchers.acquire(after.searcherVersion());
+            if (searcher != null) {
+                return searcher;
+            }
+        }
+        return searcherManager.acquire();
+    }
+
+    private String encodeCursor(long searcherVersion, FieldDoc fieldDoc) {
+        return CursorCodec.encode(searcherVersion, fieldDoc.fields[0], fieldDoc.fields[1]);
+    }
+
+    private SearchCursor decodeCursor(String cursor) {
+        String[] values = CursorCodec.decode(cursor, 3);
+        try {
+            return new SearchCursor(Long.parseLong(values[0]), Float.parseFloat(values[1]), Long.parseLong(values[2]));
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+
+    private record SearchCursor(long searcherVersion, float score, long id) {
+    }
+
+    @FunctionalInterface
+    private interface IndexUpdate {
+        void run() throws IOException;
+    }
+}
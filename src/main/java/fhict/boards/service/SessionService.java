@@ -0,0 +1,12 @@
+package fhict.boards.service;
+
+import fhict.boards.domain.dto.AccessTokenResponse;
+import fhict.boards.repository.entity.User;
+
+public interface SessionService {
+    AccessTokenResponse startSession(User user);
+    AccessTokenResponse refreshSession(String refreshToken);
+    void endSession(String refreshToken);
+    void revokeSessions(Long userId, String keptSessionId);
+    String issueAccessToken(User user, String sessionId);
+}
@@ -0,0 +1,173 @@
+package fhict.boards.service;
+
+import fhict.boards.domain.dto.AccessTokenResponse;
+import fhict.boards.exception.InvalidRefreshTokenException;
+import fhict.boards.repository.MemberRepository;
+import fhict.boards.repository.RefreshTokenRepository;
+import fhict.boards.repository.RevokedSessionRepository;
+import fhict.boards.repository.UserMembershipProjection;
+import fhict.boards.repository.entity.RefreshToken;
+import fhict.boards.repository.entity.RevokedSession;
+import fhict.boards.repository.entity.User;
+import fhict.boards.security.token.AccessToken;
+import fhict.boards.security.token.AccessTokenSerializer;
+import fhict.boards.security.token.ProjectMembershipClaim;
+import fhict.boards.security.token.RevokedSessions;
+import fhict.boards.security.token.TokenDigest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Sessions started by signing up or logging in. A session hands out short-lived access tokens and a refresh token
+ * that is replaced on every refresh. Revoking a session deletes its refresh tokens and rejects its access tokens
+ * until they expire.
+ */
+@Service
+public class SessionServiceImpl implements SessionService {
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RevokedSessionRepository revokedSessionRepository;
+    private final AccessTokenSerializer accessTokenSerializer;
+    private final RevokedSessions revokedSessions;
+    private final MemberRepository memberRepository;
+    private final MembershipVersions membershipVersions;
+    private final Duration refreshTokenLifetime;
+    private final boolean roleClaimsEnabled;
+
+    public SessionServiceImpl(RefreshTokenRepository refreshTokenRepository,
+                              RevokedSessionRepository revokedSessionRepository,
+                              AccessTokenSerializer accessTokenSerializer,
+                              RevokedSessions revokedSessions,
+                              MemberRepository memberRepository,
+                              MembershipVersions membershipVersions,
+                              @Value("${auth.refresh-token.lifetime:P30D}") Duration refreshTokenLifetime,
+                              @Value("${auth.token.role-claims.enabled:false}") boolean roleClaimsEnabled) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.revokedSessionRepository = revokedSessionRepository;
+        this.accessTokenSerializer = accessTokenSerializer;
+        this.revokedSessions = revokedSessions;
+        this.memberRepository = memberRepository;
+        this.membershipVersions = membershipVersions;
+        this.refreshTokenLifetime = refreshTokenLifetime;
+        this.roleClaimsEnabled = roleClaimsEnabled;
+    }
+
+    @Override
+    public AccessTokenResponse startSession(User user) {
+        return issueTokens(user, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Replaces the refresh token with a new one and issues a new access token for the same session.
+     * A refresh token that was already used ends the session, since it may have been stolen. The exception
+     * doesn't roll back the revocation, so the token handed out for the first use is refused too.
+     */
+    @Override
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+    public AccessTokenResponse refreshSession(String refreshToken) {
+        RefreshToken token = refreshTokenRepository.findByTokenHash(TokenDigest.sha256(refreshToken))
+                .orElseThrow(InvalidRefreshTokenException::new);
+
+        LocalDateTime now = LocalDateTime.now();
+        if (!now.isBefore(token.getExpiresOn()) || revokedSessions.isRevoked(token.getSessionId())) {
+            throw new InvalidRefreshTokenException();
+        }
+
+        if (token.getUsedOn() != null || refreshTokenRepository.markUsed(token.getId(), now) == 0) {
+            revokeSession(token.getSessionId());
+            throw new InvalidRefreshTokenException("Refresh token was already used, the session has been ended.");
+        }
+
+        return issueTokens(token.getUser(), token.getSessionId());
+    }
+
+    @Override
+    @Transactional
+    public void endSession(String refreshToken) {
+        refreshTokenRepository.findByTokenHash(TokenDigest.sha256(refreshToken))
+                .ifPresent(token -> revokeSession(token.getSessionId()));
+    }
+
+    /**
+     * Revokes all sessions of a user, apart from the session with the given ID if it isn't null.
+     */
+    @Override
+    @Transactional
+    public void revokeSessions(Long userId, String keptSessionId) {
+        for (String sessionId : refreshTokenRepository.findSessionIdsByUserId(userId)) {
+            if (!Objects.equals(sessionId, keptSessionId)) {
+                revokeSession(sessionId);
+            }
+        }
+    }
+
+    private void revokeSession(String sessionId) {
+        LocalDateTime expiresOn = LocalDateTime.now().plus(AccessTokenSerializer.TOKEN_LIFETIME);
+
+        refreshTokenRepository.deleteBySessionId(sessionId);
+        revokedSessionRepository.save(RevokedSession.builder()
+                .sessionId(sessionId)
+                .expiresOn(expiresOn)
+                .build());
+        revokedSessions.revoke(sessionId, expiresOn.atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    private AccessTokenResponse issueTokens(User user, String sessionId) {
+        byte[] randomBytes = new byte[32];
+        RANDOM.nextBytes(randomBytes);
+        String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(randomBytes);
+
+        LocalDateTime now = LocalDateTime.now();
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(TokenDigest.sha256(refreshToken))
+                .sessionId(sessionId)
+                .user(user)
+                .issuedOn(now)
+                .expiresOn(now.plus(refreshTokenLifetime))
+                .build());
+
+        return new AccessTokenResponse(issueAccessToken(user, sessionId), refreshToken);
+    }
+
+    /**
+     * Issues an access token for a session. With role claims enabled, the token also carries the user's
+     * project memberships stamped with their membership version. The version is read first, so a membership
+     * change that commits while the claims are read leaves the token stale rather than wrong.
+     */
+    @Override
+    public String issueAccessToken(User user, String sessionId) {
+        AccessToken.AccessTokenBuilder accessToken = AccessToken.builder()
+                .subject(user.getEmail())
+                .userId(user.getId())
+                .role(user.getAccessRole())
+                .sessionId(sessionId);
+
+        if (roleClaimsEnabled) {
+            Optional<Long> membershipVersion = membershipVersions.load(user.getId());
+
+            if (membershipVersion.isPresent()) {
+                Map<Long, ProjectMembershipClaim> memberships = memberRepository.findMembershipsByUserId(user.getId())
+                        .stream()
+                        .collect(Collectors.toMap(UserMembershipProjection::getProjectId,
+                                membership -> new ProjectMembershipClaim(membership.getId(), membership.getRole())));
+
+                accessToken.projectMemberships(memberships).membershipVersion(membershipVersion.get());
+            }
+        }
+
+        return accessTokenSerializer.encode(accessToken.build());
+    }
+}
@@ -0,0 +1,81 @@
+package fhict.boards.service;
+
+import fhict.boards.domain.dto.UnreadNotificationCountResponse;
+import fhict.boards.repository.UnreadNotificationCountProjection;
+import fhict.boards.repository.UserRepository;
+import lombok.AllArgsConstructor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Unread notification counts of users, stored with the user and adjusted in the transaction that changes their
+ * notifications. The new counts are pushed to the users over the websocket once that transaction has committed.
+ */
+@Component
+@AllArgsConstructor
+public class UnreadNotificationCounts {
+    static final String DESTINATION = "/queue/unread-notification-count";
+
+    private final UserRepository userRepository;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    /**
+     * Reads the count of a user, counting their unread notifications first if that never happened.
+     */
+    public long get(Long userId) {
+        Long count = userRepository.findUnreadNotificationCountById(userId).orElse(null);
+        if (count != null) {
+            return count;
+        }
+
+        userRepository.countUnreadNotifications(userId);
+        return userRepository.findUnreadNotificationCountById(userId).orElse(0L);
+    }
+
+    /**
+     * Adds to the counts of the users, one statement per distinct amount.
+     */
+    public void add(Map<Long, Long> deltaByUserId) {
+        if (deltaByUserId.isEmpty()) {
+            return;
+        }
+
+        deltaByUserId.keySet()
+                .stream()
+                .collect(Collectors.groupingBy(deltaByUserId::get))
+                .forEach((delta, userIds) -> userRepository.addToUnreadNotificationCounts(userIds, delta));
+        push(deltaByUserId.keySet());
+    }
+
+    /**
+     * Subtracts the counts of unread notifications that are about to be deleted.
+     */
+    public void subtract(List<UnreadNotificationCountProjection> removed) {
+        add(removed.stream().collect(Collectors.toMap(
+                UnreadNotificationCountProjection::getUserId, counted -> -counted.getCount())));
+    }
+
+    public void reset(Long userId) {
+        userRepository.resetUnreadNotificationCount(userId);
+        push(List.of(userId));
+    }
+
+    /**
+     * Reads the counts right after changing them, while the surrounding transaction holds their rows, and sends
+     * them once it commits. Counts that were never counted are left to the first read.
+     */
+    private void push(Collection<Long> userIds) {
+        List<UnreadNotificationCountProjection> counts = userRepository.findUnreadNotificationCounts(userIds);
+        if (counts.isEmpty()) {
+            return;
+        }
+
+        AfterCommit.run(() -> counts.forEach(counted -> messagingTemplate.convertAndSendToUser(
+                counted.getUserId().toString(), DESTINATION, new UnreadNotificationCountResponse(counted.getCount()))));
+    }
+}
@@ -9,19 +9,22 @@ import fhict.boards.exception.EmailAlreadyExistsException;
 import fhict.boards.exception.InvalidCredentialsException;
 import fhict.boards.exception.UnauthorizedAccessException;
 import fhict.boards.exception.UserNotFoundException;
+import fhict.boards.repository.CommentRepository;
 import fhict.boards.repository.IssueRepository;
 import fhict.boards.repository.MemberRepository;
 import fhict.boards.repository.NotificationRepository;
 import fhict.boards.repository.UserRepository;
+import fhict.boards.repository.entity.Member;
 import fhict.boards.repository.entity.User;
 import fhict.boards.security.token.AccessToken;
-import fhict.boards.security.token.AccessTokenSerializer;
 import lombok.AllArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -33,11 +36,16 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final MemberRepository memberRepository;
     private final IssueRepository issueRepository;
+    private final CommentRepository commentRepository;
+    private final IssueChangeTracker issueChangeTracker;
     private final AccessToken requestAccessToken;
     private final PasswordEncoder passwordEncoder;
-    private final AccessTokenSerializer accessTokenSerializer;
     private final DtoMapper dtoMapper;
     private final NotificationRepository notificationRepository;
+    private final UnreadNotificationCounts unreadNotificationCounts;
+    private final MemberRoleCache memberRoleCache;
+    private final SessionService sessionService;
+    private final MembershipVersions membershipVersions;
 
     @Override
     public List<UserResponse> getAllUsers() {
@@ -66,15 +74,30 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional
     public void deleteUser(Long id) {
         if (requestAccessToken.getRole() == AccessRole.USER && !Objects.equals(requestAccessToken.getUserId(), id)) {
             throw new UnauthorizedAccessException("Authenticated user is unauthorized to delete this user.");
         }
 
+        sessionService.revokeSessions(id, null);
+        membershipVersions.bump(List.of(id));
+        unreadNotificationCounts.subtract(notificationRepository.countUnreadByUserId(id));
         notificationRepository.deleteByUserId(id);
-        issueRepository.setAssigneeAndCreatedByToNull(id);
+
+        // Issues the user's members created or were assigned to change, so synced clients pick that up
+        LocalDateTime now = LocalDateTime.now();
+        for (Member member : memberRepository.findByUserId(id)) {
+            Long projectId = member.getProject().getId();
+
+            commentRepository.deleteByCreatedBy_Id(member.getId());
+            issueRepository.markChangedByMember(member.getId(), issueChangeTracker.nextChangeNumber(projectId), now);
+            issueRepository.setAssigneeAndCreatedByToNull(member.getId());
+        }
+
         memberRepository.deleteAllByUserId(id);
         userRepository.deleteById(id);
+        memberRoleCache.evictUser(id);
     }
 
     @Override
@@ -115,14 +138,9 @@ public class UserServiceImpl implements UserService {
         user.setEmail(request.getNewEmail());
 
         userRepository.save(user);
+        sessionService.revokeSessions(id, requestAccessToken.getSessionId());
 
-        AccessToken accessToken = AccessToken.builder()
-                .subject(user.getEmail())
-                .userId(user.getId())
-                .role(user.getAccessRole())
-                .build();
-
-        return accessTokenSerializer.encode(accessToken);
+        return sessionService.issueAccessToken(user, requestAccessToken.getSessionId());
     }
 
     @Override
@@ -141,6 +159,7 @@ public class UserServiceImpl implements UserService {
         user.setPassword(encodedPassword);
 
         userRepository.save(user);
+        sessionService.revokeSessions(id, requestAccessToken.getSessionId());
     }
 
     @Override
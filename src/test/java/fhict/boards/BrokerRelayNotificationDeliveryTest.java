@@ -0,0 +1,164 @@
+package fhict.boards;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import fhict.boards.domain.enums.AccessRole;
+import fhict.boards.security.token.AccessToken;
+import fhict.boards.security.token.AccessTokenSerializer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.AbstractBrokerMessageHandler;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs two instances of the application that relay to the embedded broker started by the first one, and checks
+ * that a notification sent on one instance reaches a user connected to the other.
+ */
+class BrokerRelayNotificationDeliveryTest {
+    private static final String JWT_SECRET = Base64.getEncoder().encodeToString(new byte[64]);
+
+    private static ConfigurableApplicationContext sendingNode;
+    private static ConfigurableApplicationContext receivingNode;
+    private static ThreadPoolTaskScheduler clientScheduler;
+
+    @BeforeAll
+    static void startNodes() throws IOException {
+        int brokerPort = findFreePort();
+
+        // Tracks the receipt of the client's subscription
+        clientScheduler = new ThreadPoolTaskScheduler();
+        clientScheduler.initialize();
+
+        sendingNode = startNode("sending-node", brokerPort, true);
+        receivingNode = startNode("receiving-node", brokerPort, false);
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        clientScheduler.shutdown();
+        if (receivingNode != null) {
+            receivingNode.close();
+        }
+        if (sendingNode != null) {
+            sendingNode.close();
+        }
+    }
+
+    @Test
+    void convertAndSendToUser_WhenUserIsConnectedToAnotherNode_ShouldDeliverThroughBroker() throws Exception {
+        // Arrange
+        awaitBrokerAvailable(sendingNode);
+        awaitBrokerAvailable(receivingNode);
+
+        BlockingQueue<JsonNode> received = new LinkedBlockingQueue<>();
+        StompSession session = connect(receivingNode, 42L);
+        session.setAutoReceipt(true);
+
+        CompletableFuture<Void> subscribed = new CompletableFuture<>();
+        session.subscribe("/user/queue/notifications", new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return JsonNode.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                received.add((JsonNode) payload);
+            }
+        }).addReceiptTask(() -> subscribed.complete(null));
+        subscribed.get(10, TimeUnit.SECONDS);
+
+        JsonNode notification = JsonNodeFactory.instance.objectNode().put("id", 7);
+
+        // Act
+        sendingNode.getBean(SimpMessagingTemplate.class).convertAndSendToUser("42", "/queue/notifications", notification);
+
+        // Assert
+        assertEquals(notification, received.poll(10, TimeUnit.SECONDS));
+        session.disconnect();
+    }
+
+    private static ConfigurableApplicationContext startNode(String name, int brokerPort, boolean embeddedBroker)
+            throws IOException {
+        return SpringApplication.run(BoardsApplication.class,
+                "--embedded.mysql.enabled=false",
+                "--spring.datasource.url=jdbc:h2:mem:" + name + ";MODE=MSSQLServer;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                "--jwt.secret=" + JWT_SECRET,
+                "--search.index.path=" + Files.createTempDirectory(name + "-index"),
+                "--server.port=0",
+                "--websocket.broker.relay.enabled=true",
+                "--websocket.broker.relay.port=" + brokerPort,
+                "--websocket.broker.embedded.enabled=" + embeddedBroker);
+    }
+
+    private static StompSession connect(ConfigurableApplicationContext node, Long userId) throws Exception {
+        String accessToken = node.getBean(AccessTokenSerializer.class).encode(AccessToken.builder()
+                .subject("user" + userId + "@boards.dev")
+                .userId(userId)
+                .role(AccessRole.USER)
+                .sessionId("session-" + userId)
+                .build());
+        int port = ((WebServerApplicationContext) node).getWebServer().getPort();
+
+        WebSocketStompClient client = new WebSocketStompClient(new StandardWebSocketClient());
+        client.setMessageConverter(new MappingJackson2MessageConverter());
+        client.setTaskScheduler(clientScheduler);
+
+        WebSocketHttpHeaders handshakeHeaders = new WebSocketHttpHeaders();
+        handshakeHeaders.setOrigin("https://eduard-cc.github.io");
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add("Authorization", "Bearer " + accessToken);
+
+        return client.connectAsync("ws://localhost:" + port + "/ws", handshakeHeaders, connectHeaders,
+                new StompSessionHandlerAdapter() {
+                }).get(10, TimeUnit.SECONDS);
+    }
+
+    private static void awaitBrokerAvailable(ConfigurableApplicationContext node) throws InterruptedException {
+        AbstractBrokerMessageHandler relay = node.getBean("stompBrokerRelayMessageHandler", AbstractBrokerMessageHandler.class);
+        Instant deadline = Instant.now().plusSeconds(10);
+
+        while (!relay.isBrokerAvailable() && Instant.now().isBefore(deadline)) {
+            Thread.sleep(50);
+        }
+        assertTrue(relay.isBrokerAvailable(), "Relay of the node did not connect to the broker");
+    }
+
+    private static int findFreePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package fhict.boards;
+
+import fhict.boards.domain.enums.AccessRole;
+import fhict.boards.domain.enums.MemberRole;
+import fhict.boards.repository.UserRepository;
+import fhict.boards.repository.entity.Member;
+import fhict.boards.repository.entity.User;
+import fhict.boards.service.ClusterEvents;
+import fhict.boards.service.MemberRoleCache;
+import fhict.boards.service.MembershipVersions;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs two instances of the application on one database and broker, and checks that a membership change made on
+ * one instance evicts the cached roles and membership versions of the other.
+ */
+class ClusterCacheEvictionTest {
+    private static final String JWT_SECRET = Base64.getEncoder().encodeToString(new byte[64]);
+    private static final String DATABASE = "cluster-" + UUID.randomUUID();
+
+    private static ConfigurableApplicationContext changingNode;
+    private static ConfigurableApplicationContext cachingNode;
+
+    @BeforeAll
+    static void startNodes() throws IOException {
+        int brokerPort = findFreePort();
+
+        changingNode = startNode("changing-node", brokerPort, true, "create-drop");
+        cachingNode = startNode("caching-node", brokerPort, false, "none");
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        if (cachingNode != null) {
+            cachingNode.close();
+        }
+        if (changingNode != null) {
+            changingNode.close();
+        }
+    }
+
+    @Test
+    void evict_WhenRoleIsCachedOnAnotherNode_ShouldEvictItThere() throws InterruptedException {
+        // Arrange
+        awaitConnected(changingNode);
+        awaitConnected(cachingNode);
+
+        MemberRoleCache cache = cachingNode.getBean(MemberRoleCache.class);
+        AtomicInteger loads = new AtomicInteger();
+        Member member = Member.builder().id(7L).role(MemberRole.ADMIN).build();
+
+        // A resync of the node right after it connected clears the cache, so only start once the role stays cached
+        await(() -> {
+            loads.set(0);
+            cache.get(3L, 5L, () -> loadCounted(loads, member));
+            cache.get(3L, 5L, () -> loadCounted(loads, member));
+            return loads.get() == 1;
+        }, "Role did not stay cached");
+
+        // Act
+        changingNode.getBean(MemberRoleCache.class).evict(3L, 5L);
+
+        // Assert
+        await(() -> {
+            loads.set(0);
+            cache.get(3L, 5L, () -> loadCounted(loads, member));
+            return loads.get() == 1;
+        }, "Role was not evicted on the other node");
+    }
+
+    @Test
+    void bump_WhenVersionIsCachedOnAnotherNode_ShouldEvictItThere() throws InterruptedException {
+        // Arrange
+        awaitConnected(changingNode);
+        awaitConnected(cachingNode);
+
+        User user = changingNode.getBean(UserRepository.class).save(User.builder()
+                .name("Cluster User")
+                .email("cluster-" + UUID.randomUUID() + "@boards.dev")
+                .password("hash")
+                .accessRole(AccessRole.USER)
+                .build());
+        MembershipVersions versions = cachingNode.getBean(MembershipVersions.class);
+        assertTrue(versions.isCurrent(user.getId(), 0L));
+
+        // Act
+        changingNode.getBean(MembershipVersions.class).bump(List.of(user.getId()));
+
+        // Assert
+        await(() -> !versions.isCurrent(user.getId(), 0L), "Version was not evicted on the other node");
+    }
+
+    private static Optional<Member> loadCounted(AtomicInteger loads, Member member) {
+        loads.incrementAndGet();
+        return Optional.of(member);
+    }
+
+    private static ConfigurableApplicationContext startNode(String name, int brokerPort, boolean embeddedBroker,
+                                                            String ddlAuto) throws IOException {
+        return SpringApplication.run(BoardsApplication.class,
+                "--embedded.mysql.enabled=false",
+                "--spring.datasource.url=jdbc:h2:mem:" + DATABASE + ";MODE=MSSQLServer;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=" + ddlAuto,
+                "--spring.jpa.show-sql=false",
+                "--jwt.secret=" + JWT_SECRET,
+                "--search.index.path=" + Files.createTempDirectory(name + "-index"),
+                "--server.port=0",
+                "--cluster.events.reconnect-interval-ms=100",
+                "--websocket.broker.relay.enabled=true",
+                "--websocket.broker.relay.port=" + brokerPort,
+                "--websocket.broker.embedded.enabled=" + embeddedBroker);
+    }
+
+    private static void awaitConnected(ConfigurableApplicationContext node) throws InterruptedException {
+        ClusterEvents clusterEvents = node.getBean(ClusterEvents.class);
+        await(clusterEvents::isConnected, "Node did not connect to the broker for cluster events");
+    }
+
+    private static void await(BooleanSupplier condition, String message) throws InterruptedException {
+        Instant deadline = Instant.now().plusSeconds(10);
+
+        boolean met = condition.getAsBoolean();
+        while (!met && Instant.now().isBefore(deadline)) {
+            Thread.sleep(50);
+            met = condition.getAsBoolean();
+        }
+        assertTrue(met, message);
+    }
+
+    private static int findFreePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
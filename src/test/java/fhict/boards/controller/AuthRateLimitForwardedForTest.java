@@ -0,0 +1,74 @@
+package fhict.boards.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Sends login requests through the embedded server the way the load balancer does, so the client IP that the rate
+ * limiter keys on is resolved from {@code X-Forwarded-For} by Tomcat. The requests come from localhost, which is
+ * a trusted proxy by default.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(locations = "classpath:h2.properties", properties = {
+        "server.forward-headers-strategy=native",
+        "auth.rate-limit.ip.capacity=1",
+        "auth.rate-limit.ip.refill-period=PT1H"
+})
+class AuthRateLimitForwardedForTest {
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void login_WhenClientsShareProxy_ShouldLimitEachForwardedClientSeparately() throws Exception {
+        // Arrange
+        login("203.0.113.10");
+
+        // Act
+        int sameClient = login("203.0.113.10");
+        int otherClient = login("203.0.113.20");
+
+        // Assert
+        assertEquals(TOO_MANY_REQUESTS, sameClient);
+        assertNotEquals(TOO_MANY_REQUESTS, otherClient);
+    }
+
+    @Test
+    void login_WhenForwardedForHasSeveralHops_ShouldLimitOriginalClient() throws Exception {
+        // Arrange
+        login("198.51.100.10, 10.0.0.5");
+
+        // Act
+        int sameClient = login("198.51.100.10, 10.0.0.6");
+
+        // Assert
+        assertEquals(TOO_MANY_REQUESTS, sameClient);
+    }
+
+    private int login(String forwardedFor) throws IOException, InterruptedException {
+        // A new email every time, so only the IP limit applies
+        String body = "{\"email\":\"user-" + UUID.randomUUID() + "@boards.dev\",\"password\":\"password123\"}";
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/auth/login"))
+                .header("Content-Type", "application/json")
+                .header("X-Forwarded-For", forwardedFor)
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
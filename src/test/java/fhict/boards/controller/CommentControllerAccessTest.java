@@ -0,0 +1,193 @@
+package fhict.boards.controller;
+
+import fhict.boards.domain.enums.AccessRole;
+import fhict.boards.domain.enums.IssuePriority;
+import fhict.boards.domain.enums.IssueStatus;
+import fhict.boards.domain.enums.IssueType;
+import fhict.boards.domain.enums.MemberRole;
+import fhict.boards.repository.CommentRepository;
+import fhict.boards.repository.IssueRepository;
+import fhict.boards.repository.MemberRepository;
+import fhict.boards.repository.ProjectRepository;
+import fhict.boards.repository.UserRepository;
+import fhict.boards.repository.entity.Comment;
+import fhict.boards.repository.entity.Issue;
+import fhict.boards.repository.entity.Member;
+import fhict.boards.repository.entity.Project;
+import fhict.boards.repository.entity.User;
+import fhict.boards.security.token.AccessToken;
+import fhict.boards.security.token.AccessTokenSerializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+/**
+ * Sends comment requests through the project role interceptor as a user who is a member of one project only, and
+ * checks that the comments and issues of another project can't be read or changed.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(locations = "classpath:h2.properties")
+class CommentControllerAccessTest {
+    private static final AtomicInteger PROJECT_COUNT = new AtomicInteger();
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private AccessTokenSerializer accessTokenSerializer;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private IssueRepository issueRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private Project ownProject;
+    private Project otherProject;
+    private Issue otherIssue;
+    private Comment otherComment;
+    private String authorization;
+
+    @BeforeEach
+    void setUp() {
+        User user = saveUser();
+        ownProject = saveProject();
+        saveMember(user, ownProject);
+
+        otherProject = saveProject();
+        Member otherMember = saveMember(saveUser(), otherProject);
+        otherIssue = issueRepository.save(Issue.builder()
+                .project(otherProject)
+                .key(otherProject.getKey() + "-1")
+                .keyNumber(1L)
+                .title("Title")
+                .type(IssueType.TASK)
+                .status(IssueStatus.TO_DO)
+                .priority(IssuePriority.LOW)
+                .createdOn(LocalDateTime.now())
+                .createdBy(otherMember)
+                .rank("m")
+                .build());
+        otherComment = commentRepository.save(Comment.builder()
+                .body("Comment")
+                .issue(otherIssue)
+                .createdBy(otherMember)
+                .createdOn(LocalDateTime.now())
+                .build());
+
+        authorization = "Bearer " + accessTokenSerializer.encode(AccessToken.builder()
+                .subject(user.getEmail())
+                .userId(user.getId())
+                .role(AccessRole.USER)
+                .sessionId("session-" + user.getId())
+                .build());
+    }
+
+    @Test
+    void createComment_WhenUserIsNotMember_ShouldReturnNotFound() throws Exception {
+        // Act
+        int status = perform(post("/projects/{projectId}/issues/{issueId}/comments",
+                otherProject.getId(), otherIssue.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"body\":\"Comment\"}"));
+
+        // Assert
+        assertEquals(404, status);
+        assertEquals(1, commentRepository.findBodiesByIssueIdIn(List.of(otherIssue.getId())).size());
+    }
+
+    @Test
+    void getComments_WhenUserIsNotMember_ShouldReturnNotFound() throws Exception {
+        // Act
+        int status = perform(get("/projects/{projectId}/issues/{issueId}/comments",
+                otherProject.getId(), otherIssue.getId()));
+
+        // Assert
+        assertEquals(404, status);
+    }
+
+    @Test
+    void deleteComment_WhenUserIsNotMember_ShouldReturnNotFound() throws Exception {
+        // Act
+        int status = perform(delete("/projects/{projectId}/issues/{issueId}/comments/{commentId}",
+                otherProject.getId(), otherIssue.getId(), otherComment.getId()));
+
+        // Assert
+        assertEquals(404, status);
+        assertTrue(commentRepository.existsById(otherComment.getId()));
+    }
+
+    @Test
+    void createComment_WhenIssueBelongsToOtherProject_ShouldReturnNotFound() throws Exception {
+        // Act
+        int status = perform(post("/projects/{projectId}/issues/{issueId}/comments",
+                ownProject.getId(), otherIssue.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"body\":\"Comment\"}"));
+
+        // Assert
+        assertEquals(404, status);
+        assertEquals(1, commentRepository.findBodiesByIssueIdIn(List.of(otherIssue.getId())).size());
+    }
+
+    @Test
+    void getComments_WhenIssueBelongsToOtherProject_ShouldReturnNotFound() throws Exception {
+        // Act
+        int status = perform(get("/projects/{projectId}/issues/{issueId}/comments",
+                ownProject.getId(), otherIssue.getId()));
+
+        // Assert
+        assertEquals(404, status);
+    }
+
+    private User saveUser() {
+        int number = PROJECT_COUNT.incrementAndGet();
+        return userRepository.save(User.builder()
+                .name("John")
+                .email("john.comments" + number + "@example.com")
+                .password("password")
+                .accessRole(AccessRole.USER)
+                .build());
+    }
+
+    private Project saveProject() {
+        int number = PROJECT_COUNT.incrementAndGet();
+        return projectRepository.save(Project.builder()
+                .name("Comment project " + number)
+                .key("CA" + number)
+                .lastIssueNumber(1L)
+                .lastChangeNumber(0L)
+                .build());
+    }
+
+    private Member saveMember(User user, Project project) {
+        return memberRepository.save(Member.builder()
+                .user(user)
+                .project(project)
+                .role(MemberRole.OWNER)
+                .joinedOn(LocalDate.now())
+                .build());
+    }
+
+    private int perform(MockHttpServletRequestBuilder request) throws Exception {
+        return mockMvc.perform(request.header("Authorization", authorization)).andReturn().getResponse().getStatus();
+    }
+}
@@ -0,0 +1,213 @@
+package fhict.boards.controller;
+
+import fhict.boards.domain.enums.AccessRole;
+import fhict.boards.domain.enums.IssuePriority;
+import fhict.boards.domain.enums.IssueStatus;
+import fhict.boards.domain.enums.IssueType;
+import fhict.boards.domain.enums.MemberRole;
+import fhict.boards.repository.CommentRepository;
+import fhict.boards.repository.IssueRepository;
+import fhict.boards.repository.MemberRepository;
+import fhict.boards.repository.ProjectRepository;
+import fhict.boards.repository.UserRepository;
+import fhict.boards.repository.entity.Comment;
+import fhict.boards.repository.entity.Issue;
+import fhict.boards.repository.entity.Member;
+import fhict.boards.repository.entity.Project;
+import fhict.boards.repository.entity.User;
+import fhict.boards.security.token.AccessToken;
+import fhict.boards.security.token.AccessTokenSerializer;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+/**
+ * Counts the SQL statements the endpoints annotated with {@code @RequiresProjectRole} prepare, so a lookup of the
+ * project or the caller's membership that the interceptor already resolved shows up as an extra statement.
+ * Every test runs as a new member, so the membership is never cached and is looked up once.
+ * <p>
+ * The entity manager stays open for the whole request as in production, and the scheduled jobs that query the
+ * database are pushed out of the way, as the statistics count all sessions.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(locations = "classpath:h2.properties", properties = {
+        "spring.jpa.open-in-view=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "notification.outbox.poll-interval-ms=3600000",
+        "auth.revocation.sync-interval-ms=3600000",
+        "issue.rank.rebalance-interval-ms=3600000"
+})
+class ProjectAccessStatementCountTest {
+    private static final AtomicInteger PROJECT_COUNT = new AtomicInteger();
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private AccessTokenSerializer accessTokenSerializer;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private IssueRepository issueRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private Statistics statistics;
+    private User user;
+    private Project project;
+    private Member member;
+    private String authorization;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        int number = PROJECT_COUNT.incrementAndGet();
+        user = userRepository.save(User.builder()
+                .name("John")
+                .email("john.statements" + number + "@example.com")
+                .password("password")
+                .accessRole(AccessRole.USER)
+                .build());
+        project = projectRepository.save(Project.builder()
+                .name("Project " + number)
+                .key("SC" + number)
+                .lastIssueNumber(0L)
+                .lastChangeNumber(0L)
+                .build());
+        member = memberRepository.save(Member.builder()
+                .user(user)
+                .project(project)
+                .role(MemberRole.OWNER)
+                .joinedOn(LocalDate.now())
+                .build());
+
+        authorization = "Bearer " + accessTokenSerializer.encode(AccessToken.builder()
+                .subject(user.getEmail())
+                .userId(user.getId())
+                .role(AccessRole.USER)
+                .sessionId("session-" + number)
+                .build());
+    }
+
+    @Test
+    void createIssue_ShouldLookUpMembershipOnce() throws Exception {
+        // Arrange
+        String body = "{\"title\":\"Title\",\"type\":\"TASK\",\"status\":\"TO_DO\",\"priority\":\"LOW\"," +
+                "\"assigneeMemberId\":" + member.getId() + ",\"createdByUserId\":" + user.getId() + "}";
+
+        // Act
+        long statements = countStatements(post("/projects/{projectId}/issues", project.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body), 201);
+
+        // Assert
+        // Membership, issue number, project key, change number, rank, insert,
+        // and the issue and comments read back for the search index
+        assertEquals(10, statements);
+    }
+
+    @Test
+    void createComment_ShouldLookUpMembershipOnce() throws Exception {
+        // Arrange
+        Issue issue = saveIssue();
+
+        // Act
+        long statements = countStatements(post("/projects/{projectId}/issues/{issueId}/comments",
+                project.getId(), issue.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"body\":\"Comment\"}"), 201);
+
+        // Assert
+        // Membership, issue, insert, and the issue and comments read back for the search index
+        assertEquals(5, statements);
+    }
+
+    @Test
+    void getComments_ShouldLookUpMembershipOnce() throws Exception {
+        // Arrange
+        Issue issue = saveIssue();
+        commentRepository.save(Comment.builder()
+                .body("Comment")
+                .issue(issue)
+                .createdBy(member)
+                .createdOn(LocalDateTime.now())
+                .build());
+
+        // Act
+        long statements = countStatements(get("/projects/{projectId}/issues/{issueId}/comments",
+                project.getId(), issue.getId()), 200);
+
+        // Assert
+        // Membership, issue, comments with their members
+        assertEquals(3, statements);
+    }
+
+    @Test
+    void updateProjectDetails_ShouldLookUpMembershipOnce() throws Exception {
+        // Act
+        long statements = countStatements(patch("/projects/{id}", project.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Renamed " + project.getKey() + "\",\"key\":\"R" + project.getKey() + "\"}"), 200);
+
+        // Assert
+        // Membership, duplicate name check, project, update
+        assertEquals(4, statements);
+    }
+
+    @Test
+    void deleteProjectIcon_ShouldLookUpMembershipOnce() throws Exception {
+        // Act
+        long statements = countStatements(delete("/projects/{id}/icon", project.getId()), 204);
+
+        // Assert
+        // Membership, project
+        assertEquals(2, statements);
+    }
+
+    private Issue saveIssue() {
+        return issueRepository.save(Issue.builder()
+                .project(project)
+                .key(project.getKey() + "-1")
+                .keyNumber(1L)
+                .title("Title")
+                .type(IssueType.TASK)
+                .status(IssueStatus.TO_DO)
+                .priority(IssuePriority.LOW)
+                .createdOn(LocalDateTime.now())
+                .createdBy(member)
+                .rank("m")
+                .build());
+    }
+
+    private long countStatements(MockHttpServletRequestBuilder request, int expectedStatus) throws Exception {
+        long before = statistics.getPrepareStatementCount();
+        int status = mockMvc.perform(request.header("Authorization", authorization)).andReturn().getResponse().getStatus();
+        long statements = statistics.getPrepareStatementCount() - before;
+
+        assertEquals(expectedStatus, status);
+        return statements;
+    }
+}
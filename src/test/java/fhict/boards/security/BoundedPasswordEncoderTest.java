@@ -0,0 +1,123 @@
+package fhict.boards.security;
+
+import fhict.boards.exception.GlobalExceptionHandler;
+import fhict.boards.exception.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedPasswordEncoderTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final ExecutorService callers = Executors.newFixedThreadPool(2);
+
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+        if (encoder != null) {
+            encoder.destroy();
+        }
+    }
+
+    @Test
+    void matches_WhenAllThreadsAndQueueSlotsAreTaken_ShouldFailFastWithServiceUnavailable() throws Exception {
+        // Arrange
+        CountDownLatch hashing = new CountDownLatch(1);
+        encoder = new BoundedPasswordEncoder(blockingEncoder(hashing), 1, 1, 3, meterRegistry);
+
+        Future<String> running = callers.submit(() -> encoder.encode("first"));
+        assertTrue(hashing.await(5, TimeUnit.SECONDS));
+        Future<String> queued = callers.submit(() -> encoder.encode("second"));
+        awaitQueued(1);
+
+        // Act
+        PasswordHashingUnavailableException exception = assertTimeoutPreemptively(Duration.ofSeconds(1),
+                () -> assertThrows(PasswordHashingUnavailableException.class, () -> encoder.matches("third", "hash")));
+
+        // Assert
+        ResponseEntity<String> response = new GlobalExceptionHandler().handlePasswordHashingUnavailableException(exception);
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("3", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+
+        release.countDown();
+        assertEquals("hashed", running.get(5, TimeUnit.SECONDS));
+        assertEquals("hashed", queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void encode_WhenDelegateThrows_ShouldRethrowAndFreeItsThread() {
+        // Arrange
+        encoder = new BoundedPasswordEncoder(new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                throw new IllegalArgumentException("Password is too long");
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return true;
+            }
+        }, 1, 1, 3, meterRegistry);
+
+        // Act & Assert
+        for (int i = 0; i < 3; i++) {
+            assertThrows(IllegalArgumentException.class, () -> encoder.encode("password"));
+        }
+        assertTrue(encoder.matches("password", "hash"));
+    }
+
+    @Test
+    void createBCryptPasswordEncoder_WhenThreadsAreNotSet_ShouldHashOnBoundedPool() {
+        // Arrange
+        PasswordEncoderConfig config = new PasswordEncoderConfig();
+
+        // Act
+        PasswordEncoder passwordEncoder = config.createBCryptPasswordEncoder(meterRegistry, 4, 0, 1, 2);
+
+        // Assert
+        assertInstanceOf(BoundedPasswordEncoder.class, passwordEncoder);
+        assertTrue(passwordEncoder.matches("password", passwordEncoder.encode("password")));
+        assertEquals(2, meterRegistry.get("password.hashing").timer().count());
+        ((BoundedPasswordEncoder) passwordEncoder).destroy();
+    }
+
+    private PasswordEncoder blockingEncoder(CountDownLatch hashing) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                hashing.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "hashed";
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return true;
+            }
+        };
+    }
+
+    private void awaitQueued(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("executor.queued").gauge().value() < count && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(count, meterRegistry.get("executor.queued").gauge().value());
+    }
+}
@@ -0,0 +1,96 @@
+package fhict.boards.security.auth;
+
+import fhict.boards.MutableClock;
+import fhict.boards.exception.GlobalExceptionHandler;
+import fhict.boards.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthRateLimiterTest {
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AuthRateLimiter rateLimiter = new AuthRateLimiter(meterRegistry, clock,
+            3, Duration.ofSeconds(10), 2, Duration.ofSeconds(30));
+
+    @Test
+    void acquire_WhenBucketsAreFull_ShouldPass() {
+        // Act & Assert
+        assertDoesNotThrow(() -> {
+            rateLimiter.acquire("login", "10.0.0.1", "user@boards.dev");
+            rateLimiter.acquire("login", "10.0.0.1", "user@boards.dev");
+        });
+    }
+
+    @Test
+    void acquire_WhenIpBucketIsEmpty_ShouldRespondTooManyRequestsWithRetryAfter() {
+        // Arrange
+        rateLimiter.acquire("login", "10.0.0.1", null);
+        rateLimiter.acquire("login", "10.0.0.1", null);
+        rateLimiter.acquire("login", "10.0.0.1", null);
+        clock.advance(Duration.ofSeconds(4));
+
+        // Act
+        TooManyRequestsException exception = assertThrows(TooManyRequestsException.class,
+                () -> rateLimiter.acquire("login", "10.0.0.1", null));
+
+        // Assert
+        ResponseEntity<String> response = new GlobalExceptionHandler().handleTooManyRequestsException(exception);
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode());
+        assertEquals("6", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals(1, meterRegistry.get("auth.rate-limit.rejected")
+                .tag("endpoint", "login")
+                .tag("limit", "ip")
+                .counter()
+                .count());
+    }
+
+    @Test
+    void acquire_WhenEmailBucketIsEmpty_ShouldRejectRegardlessOfCaseAndIp() {
+        // Arrange
+        rateLimiter.acquire("login", "10.0.0.1", "user@boards.dev");
+        rateLimiter.acquire("login", "10.0.0.2", " User@Boards.dev ");
+
+        // Act
+        TooManyRequestsException exception = assertThrows(TooManyRequestsException.class,
+                () -> rateLimiter.acquire("login", "10.0.0.3", "USER@boards.dev"));
+
+        // Assert
+        assertEquals(30, exception.getRetryAfterSeconds());
+    }
+
+    @Test
+    void acquire_WhenRefillPeriodPassed_ShouldPassAgain() {
+        // Arrange
+        rateLimiter.acquire("login", "10.0.0.1", null);
+        rateLimiter.acquire("login", "10.0.0.1", null);
+        rateLimiter.acquire("login", "10.0.0.1", null);
+        assertThrows(TooManyRequestsException.class, () -> rateLimiter.acquire("login", "10.0.0.1", null));
+
+        // Act
+        clock.advance(Duration.ofSeconds(10));
+
+        // Assert
+        assertDoesNotThrow(() -> rateLimiter.acquire("login", "10.0.0.1", null));
+        assertThrows(TooManyRequestsException.class, () -> rateLimiter.acquire("login", "10.0.0.1", null));
+    }
+
+    @Test
+    void acquire_WhenAnotherKeyIsLimited_ShouldNotAffectThisKey() {
+        // Arrange
+        rateLimiter.acquire("login", "10.0.0.1", "user@boards.dev");
+        rateLimiter.acquire("login", "10.0.0.1", "user@boards.dev");
+        rateLimiter.acquire("login", "10.0.0.1", null);
+        assertThrows(TooManyRequestsException.class, () -> rateLimiter.acquire("login", "10.0.0.1", null));
+
+        // Act & Assert
+        assertDoesNotThrow(() -> rateLimiter.acquire("login", "10.0.0.2", "other@boards.dev"));
+    }
+}
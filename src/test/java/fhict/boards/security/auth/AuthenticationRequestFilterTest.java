@@ -0,0 +1,80 @@
+package fhict.boards.security.auth;
+
+import fhict.boards.domain.enums.AccessRole;
+import fhict.boards.security.token.AccessToken;
+import fhict.boards.security.token.AccessTokenSerializerImpl;
+import fhict.boards.security.token.RevokedSessions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthenticationRequestFilterTest {
+    private static final String SECRET = Base64.getEncoder().encodeToString(new byte[64]);
+
+    private final AccessTokenSerializerImpl accessTokenSerializer = new AccessTokenSerializerImpl(SECRET, 100, Clock.systemUTC());
+    private final RevokedSessions revokedSessions = new RevokedSessions();
+    private final AuthenticationRequestFilter filter = new AuthenticationRequestFilter(accessTokenSerializer, revokedSessions);
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void doFilter_WhenTokenIsValid_ShouldAuthenticateRequest() throws Exception {
+        // Arrange
+        String token = accessTokenSerializer.encode(accessToken("session-1"));
+        MockFilterChain chain = new MockFilterChain();
+
+        // Act
+        filter.doFilter(request(token), new MockHttpServletResponse(), chain);
+
+        // Assert
+        assertNotNull(chain.getRequest());
+        assertNotNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void doFilter_WhenSessionOfCachedTokenIsRevoked_ShouldRejectRequest() throws Exception {
+        // Arrange
+        String token = accessTokenSerializer.encode(accessToken("session-1"));
+        filter.doFilter(request(token), new MockHttpServletResponse(), new MockFilterChain());
+        SecurityContextHolder.clearContext();
+
+        revokedSessions.revoke("session-1", Instant.now().plus(AccessTokenSerializerImpl.TOKEN_LIFETIME));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // Act
+        filter.doFilter(request(token), response, chain);
+
+        // Assert
+        assertEquals(401, response.getStatus());
+        assertNull(chain.getRequest());
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    private static MockHttpServletRequest request(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/projects");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+
+    private static AccessToken accessToken(String sessionId) {
+        return AccessToken.builder()
+                .subject("user@boards.dev")
+                .userId(1L)
+                .role(AccessRole.USER)
+                .sessionId(sessionId)
+                .build();
+    }
+}
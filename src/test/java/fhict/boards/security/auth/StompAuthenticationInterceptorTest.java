@@ -0,0 +1,170 @@
+package fhict.boards.security.auth;
+
+import fhict.boards.MutableClock;
+import fhict.boards.domain.enums.AccessRole;
+import fhict.boards.security.token.AccessToken;
+import fhict.boards.security.token.AccessTokenSerializer;
+import fhict.boards.security.token.AccessTokenSerializerImpl;
+import fhict.boards.security.token.RevokedSessions;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.security.Principal;
+import java.time.Instant;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StompAuthenticationInterceptorTest {
+    private static final String SECRET = Base64.getEncoder().encodeToString(new byte[64]);
+    private static final String SESSION_ID = "session-1";
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+    private final AccessTokenSerializerImpl accessTokenSerializer = new AccessTokenSerializerImpl(SECRET, 100, clock);
+    private final RevokedSessions revokedSessions = new RevokedSessions();
+    private final WebSocketSessions webSocketSessions = new WebSocketSessions(revokedSessions, new SimpleMeterRegistry(), clock);
+    private final StompAuthenticationInterceptor interceptor = new StompAuthenticationInterceptor(accessTokenSerializer,
+            revokedSessions, webSocketSessions, clock);
+
+    @Test
+    void preSend_WhenConnectHasValidToken_ShouldSetPrincipal() {
+        // Arrange
+        Message<byte[]> connect = frame(StompCommand.CONNECT, null, "Bearer " + encodeToken(), null);
+
+        // Act
+        interceptor.preSend(connect, null);
+
+        // Assert
+        Principal user = StompHeaderAccessor.getUser(connect.getHeaders());
+        assertInstanceOf(StompPrincipal.class, user);
+        assertEquals("7", user.getName());
+    }
+
+    @Test
+    void preSend_WhenConnectHasNoToken_ShouldReject() {
+        // Arrange
+        Message<byte[]> connect = frame(StompCommand.CONNECT, null, null, null);
+
+        // Act & Assert
+        assertThrows(MessageDeliveryException.class, () -> interceptor.preSend(connect, null));
+        assertNull(StompHeaderAccessor.getUser(connect.getHeaders()));
+    }
+
+    @Test
+    void preSend_WhenConnectHasExpiredToken_ShouldReject() {
+        // Arrange
+        String token = encodeToken();
+        clock.advance(AccessTokenSerializer.TOKEN_LIFETIME);
+        Message<byte[]> connect = frame(StompCommand.CONNECT, null, "Bearer " + token, null);
+
+        // Act & Assert
+        assertThrows(MessageDeliveryException.class, () -> interceptor.preSend(connect, null));
+    }
+
+    @Test
+    void preSend_WhenConnectHasTokenOfRevokedSession_ShouldReject() {
+        // Arrange
+        String token = encodeToken();
+        revokedSessions.revoke(SESSION_ID, clock.instant().plus(AccessTokenSerializer.TOKEN_LIFETIME));
+        Message<byte[]> connect = frame(StompCommand.CONNECT, null, "Bearer " + token, null);
+
+        // Act & Assert
+        assertThrows(MessageDeliveryException.class, () -> interceptor.preSend(connect, null));
+    }
+
+    @Test
+    void preSend_WhenSubscribingToOwnUserQueue_ShouldPass() {
+        // Arrange
+        Message<byte[]> subscribe = frame(StompCommand.SUBSCRIBE, "/user/queue/notifications", null, connect());
+
+        // Act & Assert
+        assertSame(subscribe, interceptor.preSend(subscribe, null));
+    }
+
+    @Test
+    void preSend_WhenSubscribingToAnotherUsersDestination_ShouldReject() {
+        // Arrange
+        StompPrincipal principal = connect();
+
+        // Act & Assert
+        assertThrows(MessageDeliveryException.class, () -> interceptor.preSend(
+                frame(StompCommand.SUBSCRIBE, "/user/8/queue/notifications", null, principal), null));
+        assertThrows(MessageDeliveryException.class, () -> interceptor.preSend(
+                frame(StompCommand.SUBSCRIBE, "/queue/notifications-user8", null, principal), null));
+    }
+
+    @Test
+    void preSend_WhenSubscribingWithoutConnect_ShouldReject() {
+        // Arrange
+        Message<byte[]> subscribe = frame(StompCommand.SUBSCRIBE, "/user/queue/notifications", null, null);
+
+        // Act & Assert
+        assertThrows(MessageDeliveryException.class, () -> interceptor.preSend(subscribe, null));
+    }
+
+    @Test
+    void preSend_WhenSubscribingAfterTokenExpired_ShouldReject() {
+        // Arrange
+        StompPrincipal principal = connect();
+        clock.advance(AccessTokenSerializer.TOKEN_LIFETIME);
+
+        // Act & Assert
+        assertThrows(MessageDeliveryException.class, () -> interceptor.preSend(
+                frame(StompCommand.SUBSCRIBE, "/user/queue/notifications", null, principal), null));
+    }
+
+    @Test
+    void preSend_WhenSubscribingAfterSessionWasRevoked_ShouldReject() {
+        // Arrange
+        StompPrincipal principal = connect();
+        revokedSessions.revoke(SESSION_ID, clock.instant().plus(AccessTokenSerializer.TOKEN_LIFETIME));
+
+        // Act & Assert
+        assertThrows(MessageDeliveryException.class, () -> interceptor.preSend(
+                frame(StompCommand.SUBSCRIBE, "/user/queue/notifications", null, principal), null));
+    }
+
+    @Test
+    void preSend_WhenClientSendsMessage_ShouldReject() {
+        // Arrange
+        Message<byte[]> send = frame(StompCommand.SEND, "/queue/notifications", null, connect());
+
+        // Act & Assert
+        assertThrows(MessageDeliveryException.class, () -> interceptor.preSend(send, null));
+    }
+
+    private StompPrincipal connect() {
+        Message<byte[]> connect = frame(StompCommand.CONNECT, null, "Bearer " + encodeToken(), null);
+        interceptor.preSend(connect, null);
+        return (StompPrincipal) StompHeaderAccessor.getUser(connect.getHeaders());
+    }
+
+    private String encodeToken() {
+        return accessTokenSerializer.encode(AccessToken.builder()
+                .subject("user7@boards.dev")
+                .userId(7L)
+                .role(AccessRole.USER)
+                .sessionId(SESSION_ID)
+                .build());
+    }
+
+    private static Message<byte[]> frame(StompCommand command, String destination, String authorization,
+                                         Principal user) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId("ws-1");
+        if (destination != null) {
+            accessor.setDestination(destination);
+        }
+        if (authorization != null) {
+            accessor.addNativeHeader("Authorization", authorization);
+        }
+        accessor.setUser(user);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,48 @@
+package fhict.boards.security.auth;
+
+import fhict.boards.security.token.AccessToken;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StompPrincipalTest {
+    private static final Instant EXPIRES_AT = Instant.parse("2024-01-01T01:00:00Z");
+
+    @Test
+    void getName_ShouldReturnUserId() {
+        // Arrange
+        StompPrincipal principal = new StompPrincipal(AccessToken.builder().userId(7L).build());
+
+        // Act & Assert
+        assertEquals("7", principal.getName());
+    }
+
+    @Test
+    void isExpired_WhenBeforeExpiry_ShouldReturnFalse() {
+        // Arrange
+        StompPrincipal principal = new StompPrincipal(AccessToken.builder().userId(7L).expiresAt(EXPIRES_AT).build());
+
+        // Act & Assert
+        assertFalse(principal.isExpired(EXPIRES_AT.minusMillis(1)));
+    }
+
+    @Test
+    void isExpired_WhenExpiryIsReached_ShouldReturnTrue() {
+        // Arrange
+        StompPrincipal principal = new StompPrincipal(AccessToken.builder().userId(7L).expiresAt(EXPIRES_AT).build());
+
+        // Act & Assert
+        assertTrue(principal.isExpired(EXPIRES_AT));
+    }
+
+    @Test
+    void isExpired_WhenTokenHasNoExpiry_ShouldReturnFalse() {
+        // Arrange
+        StompPrincipal principal = new StompPrincipal(AccessToken.builder().userId(7L).build());
+
+        // Act & Assert
+        assertFalse(principal.isExpired(Instant.MAX));
+    }
+}
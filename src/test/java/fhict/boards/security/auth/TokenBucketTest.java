@@ -0,0 +1,63 @@
+package fhict.boards.security.auth;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+    private static final long REFILL_PERIOD_NANOS = 1_000;
+
+    @Test
+    void tryConsume_WhenBucketIsFull_ShouldTakeEveryToken() {
+        // Arrange
+        TokenBucket bucket = new TokenBucket(3, REFILL_PERIOD_NANOS, 0);
+
+        // Act & Assert
+        assertEquals(0, bucket.tryConsume(0));
+        assertEquals(0, bucket.tryConsume(0));
+        assertEquals(0, bucket.tryConsume(0));
+    }
+
+    @Test
+    void tryConsume_WhenBucketIsEmpty_ShouldReturnTimeUntilNextToken() {
+        // Arrange
+        TokenBucket bucket = new TokenBucket(1, REFILL_PERIOD_NANOS, 0);
+        bucket.tryConsume(0);
+
+        // Act
+        long waitNanos = bucket.tryConsume(400);
+
+        // Assert
+        assertEquals(600, waitNanos);
+    }
+
+    @Test
+    void tryConsume_WhenRefillPeriodsPassed_ShouldAddOneTokenPerPeriodUpToCapacity() {
+        // Arrange
+        TokenBucket bucket = new TokenBucket(2, REFILL_PERIOD_NANOS, 0);
+        bucket.tryConsume(0);
+        bucket.tryConsume(0);
+
+        // Act & Assert
+        assertEquals(0, bucket.tryConsume(1_000));
+        assertTrue(bucket.tryConsume(1_000) > 0);
+        assertEquals(0, bucket.tryConsume(10_000));
+        assertEquals(0, bucket.tryConsume(10_000));
+        assertTrue(bucket.tryConsume(10_000) > 0);
+    }
+
+    @Test
+    void tryConsume_WhenPartOfAPeriodPassed_ShouldKeepItForTheNextToken() {
+        // Arrange
+        TokenBucket bucket = new TokenBucket(2, REFILL_PERIOD_NANOS, 0);
+        bucket.tryConsume(0);
+        bucket.tryConsume(0);
+        bucket.tryConsume(1_500);
+
+        // Act
+        long waitNanos = bucket.tryConsume(1_500);
+
+        // Assert
+        assertEquals(500, waitNanos);
+    }
+}
@@ -0,0 +1,100 @@
+package fhict.boards.security.auth;
+
+import fhict.boards.MutableClock;
+import fhict.boards.security.token.AccessToken;
+import fhict.boards.security.token.RevokedSessions;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class WebSocketSessionsTest {
+    private static final String SESSION_ID = "session-1";
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+    private final RevokedSessions revokedSessions = new RevokedSessions();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final WebSocketSessions webSocketSessions = new WebSocketSessions(revokedSessions, meterRegistry, clock);
+    private final WebSocketSession session = mock(WebSocketSession.class);
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(session.getId()).thenReturn("ws-1");
+        WebSocketHandler handler = webSocketSessions.decorate(new TextWebSocketHandler());
+        handler.afterConnectionEstablished(session);
+    }
+
+    @Test
+    void closeExpiredSessions_WhenSessionIsValid_ShouldKeepItOpen() throws Exception {
+        // Arrange
+        webSocketSessions.authenticate("ws-1", principal());
+
+        // Act
+        webSocketSessions.closeExpiredSessions();
+
+        // Assert
+        verify(session, never()).close(any());
+        assertEquals(1.0, meterRegistry.get("websocket.sessions").tag("state", "authenticated").gauge().value());
+    }
+
+    @Test
+    void closeExpiredSessions_WhenLoginSessionWasRevoked_ShouldCloseIt() throws Exception {
+        // Arrange
+        webSocketSessions.authenticate("ws-1", principal());
+        revokedSessions.revoke(SESSION_ID, clock.instant().plus(Duration.ofHours(1)));
+
+        // Act
+        webSocketSessions.closeExpiredSessions();
+
+        // Assert
+        verify(session).close(argThat(status -> status.getCode() == CloseStatus.POLICY_VIOLATION.getCode()
+                && "Session was revoked".equals(status.getReason())));
+        assertEquals(1.0, meterRegistry.get("websocket.sessions.closed").tag("reason", "revoked").counter().count());
+        assertEquals(0.0, meterRegistry.get("websocket.sessions").tag("state", "authenticated").gauge().value());
+    }
+
+    @Test
+    void closeExpiredSessions_WhenAccessTokenExpired_ShouldCloseIt() throws Exception {
+        // Arrange
+        webSocketSessions.authenticate("ws-1", principal());
+        clock.advance(Duration.ofHours(1));
+
+        // Act
+        webSocketSessions.closeExpiredSessions();
+
+        // Assert
+        verify(session).close(argThat(status -> "Access token expired".equals(status.getReason())));
+        assertEquals(1.0, meterRegistry.get("websocket.sessions.closed").tag("reason", "expired").counter().count());
+    }
+
+    @Test
+    void closeExpiredSessions_WhenSessionDidNotConnectYet_ShouldLeaveItToSpring() throws Exception {
+        // Arrange
+        clock.advance(Duration.ofHours(1));
+
+        // Act
+        webSocketSessions.closeExpiredSessions();
+
+        // Assert
+        verify(session, never()).close(any());
+        assertEquals(1.0, meterRegistry.get("websocket.sessions").tag("state", "connecting").gauge().value());
+    }
+
+    private StompPrincipal principal() {
+        return new StompPrincipal(AccessToken.builder()
+                .userId(7L)
+                .sessionId(SESSION_ID)
+                .expiresAt(clock.instant().plus(Duration.ofHours(1)))
+                .build());
+    }
+}
@@ -0,0 +1,77 @@
+package fhict.boards.security.token;
+
+import fhict.boards.MutableClock;
+import fhict.boards.domain.enums.AccessRole;
+import fhict.boards.exception.InvalidAccessTokenException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AccessTokenSerializerImplTest {
+    private static final String SECRET = Base64.getEncoder().encodeToString(new byte[64]);
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-01-01T10:00:00Z"));
+    private AccessTokenSerializerImpl serializer;
+
+    @BeforeEach
+    void setUp() {
+        serializer = spy(new AccessTokenSerializerImpl(SECRET, 100, clock));
+    }
+
+    @Test
+    void decode_WhenTokenWasVerifiedBefore_ShouldServeItFromCacheWithoutVerifyingAgain() {
+        // Arrange
+        String token = serializer.encode(accessToken("session-1"));
+
+        // Act
+        AccessToken first = serializer.decode(token);
+        AccessToken second = serializer.decode(token);
+
+        // Assert
+        assertEquals(first, second);
+        assertEquals("session-1", second.getSessionId());
+        verify(serializer, times(1)).verify(token);
+    }
+
+    @Test
+    void decode_WhenCachedTokenHasExpired_ShouldVerifyAgainAndThrowException() {
+        // Arrange
+        String token = serializer.encode(accessToken("session-1"));
+        serializer.decode(token);
+
+        clock.advance(AccessTokenSerializer.TOKEN_LIFETIME.plus(Duration.ofSeconds(1)));
+
+        // Act & Assert
+        assertThrows(InvalidAccessTokenException.class, () -> serializer.decode(token));
+        verify(serializer, times(2)).verify(token);
+    }
+
+    @Test
+    void decode_WhenSignatureOfCachedTokenIsTampered_ShouldVerifyAndRejectIt() {
+        // Arrange
+        String token = serializer.encode(accessToken("session-1"));
+        serializer.decode(token);
+
+        int index = token.length() - 10;
+        String tampered = token.substring(0, index) + (token.charAt(index) == 'A' ? 'B' : 'A') + token.substring(index + 1);
+
+        // Act & Assert
+        assertThrows(InvalidAccessTokenException.class, () -> serializer.decode(tampered));
+        verify(serializer).verify(tampered);
+    }
+
+    private static AccessToken accessToken(String sessionId) {
+        return AccessToken.builder()
+                .subject("user@boards.dev")
+                .userId(1L)
+                .role(AccessRole.USER)
+                .sessionId(sessionId)
+                .build();
+    }
+}
@@ -0,0 +1,60 @@
+package fhict.boards.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AfterCompletionTest {
+    private final AtomicInteger runs = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void runNowAndAgain_WhenNoTransactionIsActive_ShouldRunOnce() {
+        // Act
+        AfterCompletion.runNowAndAgain(runs::incrementAndGet);
+
+        // Assert
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void runNowAndAgain_WhenTransactionRollsBack_ShouldRunAgain() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        AfterCompletion.runNowAndAgain(runs::incrementAndGet);
+
+        // Assert
+        assertEquals(1, runs.get());
+        TransactionSynchronizationManager.getSynchronizations().forEach(synchronization ->
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        assertEquals(2, runs.get());
+    }
+
+    @Test
+    void run_WhenTransactionIsActive_ShouldRunOnlyAfterCompletion() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        AfterCompletion.run(runs::incrementAndGet);
+
+        // Assert
+        assertEquals(0, runs.get());
+        TransactionSynchronizationManager.getSynchronizations().forEach(synchronization ->
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        assertEquals(1, runs.get());
+    }
+}
@@ -2,6 +2,7 @@ package fhict.boards.service;
 
 import fhict.boards.domain.dto.AccessTokenResponse;
 import fhict.boards.domain.dto.LoginRequest;
+import fhict.boards.domain.dto.RefreshTokenRequest;
 import fhict.boards.domain.dto.SignupRequest;
 import fhict.boards.exception.EmailAlreadyExistsException;
 import fhict.boards.exception.InvalidCredentialsException;
@@ -9,11 +10,8 @@ import fhict.boards.exception.UserNotFoundException;
 import fhict.boards.repository.UserRepository;
 import fhict.boards.domain.enums.AccessRole;
 import fhict.boards.repository.entity.User;
-import fhict.boards.security.token.AccessToken;
-import fhict.boards.security.token.AccessTokenSerializer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -33,7 +31,7 @@ class AuthServiceImplTest {
     @Mock
     private PasswordEncoder passwordEncoder;
     @Mock
-    private AccessTokenSerializer accessTokenSerializer;
+    private SessionService sessionService;
     @InjectMocks
     private AuthServiceImpl authService;
 
@@ -56,16 +54,16 @@ class AuthServiceImplTest {
 
         when(passwordEncoder.encode(request.getPassword())).thenReturn("hashedPassword");
         when(userRepository.save(any(User.class))).thenReturn(user);
-        when(accessTokenSerializer.encode(ArgumentMatchers.any(AccessToken.class))).thenReturn("encoded_token");
+        when(sessionService.startSession(any(User.class))).thenReturn(new AccessTokenResponse("encoded_token", "refresh_token"));
 
         AccessTokenResponse result = authService.createUser(request);
 
         verify(userRepository).existsByEmail(request.getEmail());
         verify(passwordEncoder).encode(request.getPassword());
         verify(userRepository).save(any(User.class));
-        verify(accessTokenSerializer).encode(ArgumentMatchers.any(AccessToken.class));
+        verify(sessionService).startSession(any(User.class));
 
-        assertEquals(new AccessTokenResponse("encoded_token"), result);
+        assertEquals(new AccessTokenResponse("encoded_token", "refresh_token"), result);
     }
 
     @Test
@@ -81,7 +79,7 @@ class AuthServiceImplTest {
         assertThrows(EmailAlreadyExistsException.class, () -> authService.createUser(request));
 
         verify(userRepository).existsByEmail(request.getEmail());
-        verifyNoMoreInteractions(passwordEncoder, userRepository, accessTokenSerializer);
+        verifyNoMoreInteractions(passwordEncoder, userRepository, sessionService);
     }
 
     @Test
@@ -100,21 +98,15 @@ class AuthServiceImplTest {
         when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(user));
         when(passwordEncoder.matches(password, user.getPassword())).thenReturn(true);
 
-        AccessToken expectedAccessToken = AccessToken.builder()
-                .subject(userEmail)
-                .userId(user.getId())
-                .role(user.getAccessRole())
-                .build();
-
-        when(accessTokenSerializer.encode(expectedAccessToken)).thenReturn("encoded_token");
+        when(sessionService.startSession(user)).thenReturn(new AccessTokenResponse("encoded_token", "refresh_token"));
 
         AccessTokenResponse result = authService.loginUser(request);
 
         verify(userRepository).findByEmail(userEmail);
         verify(passwordEncoder).matches(password, user.getPassword());
-        verify(accessTokenSerializer).encode(expectedAccessToken);
+        verify(sessionService).startSession(user);
 
-        assertEquals(new AccessTokenResponse("encoded_token"), result);
+        assertEquals(new AccessTokenResponse("encoded_token", "refresh_token"), result);
     }
 
     @Test
@@ -128,7 +120,7 @@ class AuthServiceImplTest {
         assertThrows(UserNotFoundException.class, () -> authService.loginUser(request));
 
         verify(userRepository).findByEmail(userEmail);
-        verifyNoInteractions(passwordEncoder, accessTokenSerializer);
+        verifyNoInteractions(passwordEncoder, sessionService);
     }
 
     @Test
@@ -151,6 +143,23 @@ class AuthServiceImplTest {
 
         verify(userRepository).findByEmail(userEmail);
         verify(passwordEncoder).matches(password, user.getPassword());
-        verifyNoInteractions(accessTokenSerializer);
+        verifyNoInteractions(sessionService);
+    }
+
+    @Test
+    void refreshAccessToken_WhenCalled_ShouldRefreshSession() {
+        AccessTokenResponse response = new AccessTokenResponse("encoded_token", "new_refresh_token");
+        when(sessionService.refreshSession("refresh_token")).thenReturn(response);
+
+        AccessTokenResponse result = authService.refreshAccessToken(new RefreshTokenRequest("refresh_token"));
+
+        assertEquals(response, result);
+    }
+
+    @Test
+    void logoutUser_WhenCalled_ShouldEndSession() {
+        authService.logoutUser(new RefreshTokenRequest("refresh_token"));
+
+        verify(sessionService).endSession("refresh_token");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,96 @@
+package fhict.boards.service;
+
+import fhict.boards.domain.dto.BoardColumnResponse;
+import fhict.boards.domain.dto.BoardResponse;
+import fhict.boards.domain.enums.IssuePriority;
+import fhict.boards.domain.enums.IssueStatus;
+import fhict.boards.domain.enums.IssueType;
+import fhict.boards.domain.enums.MemberRole;
+import fhict.boards.exception.MemberNotFoundException;
+import fhict.boards.repository.*;
+import fhict.boards.security.token.AccessToken;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BoardServiceImplTest {
+    private final SpelAwareProxyProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
+    @InjectMocks
+    private BoardServiceImpl boardService;
+    @Mock
+    private ProjectRepository projectRepository;
+    @Mock
+    private MemberRepository memberRepository;
+    @Mock
+    private IssueRepository issueRepository;
+    @Mock
+    private AccessToken requestAccessToken;
+
+    @Test
+    void getBoard_WhenUserIsMember_ShouldGroupIssuesByStatus() {
+        // Arrange
+        Long projectId = 1L;
+
+        when(requestAccessToken.getUserId()).thenReturn(10L);
+        when(memberRepository.findBoardMembersByProjectId(projectId)).thenReturn(List.of(member(1L, 10L), member(2L, 20L)));
+        when(projectRepository.findBoardProjectById(projectId)).thenReturn(Optional.of(projectionFactory.createProjection(
+                BoardProjectProjection.class, Map.of("id", projectId, "name", "Project", "projectKey", "PRJ"))));
+        when(issueRepository.findBoardIssuesByProjectId(projectId)).thenReturn(List.of(
+                issue(1L, IssueStatus.TO_DO, 2L), issue(2L, IssueStatus.DONE, 1L), issue(3L, IssueStatus.TO_DO, 1L)));
+
+        // Act
+        BoardResponse board = boardService.getBoard(projectId);
+
+        // Assert
+        assertEquals("PRJ", board.getProject().getKey());
+        assertEquals(List.of(IssueStatus.values()), board.getColumns().stream().map(BoardColumnResponse::getStatus).toList());
+
+        BoardColumnResponse toDo = board.getColumns().get(0);
+        assertEquals(2, toDo.getCount());
+        assertEquals("PRJ-1", toDo.getIssues().get(0).getKey());
+        assertEquals(2L, toDo.getIssues().get(0).getAssigneeId());
+        assertEquals(3L, toDo.getIssues().get(1).getId());
+
+        assertEquals(0, board.getColumns().get(1).getCount());
+        assertEquals(1, board.getColumns().get(2).getCount());
+
+        assertEquals(2, board.getMembers().size());
+        assertEquals(20L, board.getMembers().get(2L).getUser().getId());
+    }
+
+    @Test
+    void getBoard_WhenUserIsNotMember_ShouldThrowMemberNotFoundException() {
+        // Arrange
+        Long projectId = 1L;
+
+        when(requestAccessToken.getUserId()).thenReturn(30L);
+        when(memberRepository.findBoardMembersByProjectId(projectId)).thenReturn(List.of(member(1L, 10L)));
+
+        // Act & Assert
+        assertThrows(MemberNotFoundException.class, () -> boardService.getBoard(projectId));
+        verifyNoInteractions(projectRepository, issueRepository);
+    }
+
+    private BoardMemberProjection member(Long id, Long userId) {
+        return projectionFactory.createProjection(BoardMemberProjection.class,
+                Map.of("id", id, "role", MemberRole.DEVELOPER, "userId", userId, "userName", "User " + userId));
+    }
+
+    private BoardIssueProjection issue(Long id, IssueStatus status, Long assigneeId) {
+        return projectionFactory.createProjection(BoardIssueProjection.class, Map.of("id", id, "issueKey", "PRJ-" + id,
+                "title", "Issue " + id, "type", IssueType.TASK, "status", status, "priority", IssuePriority.MEDIUM,
+                "assigneeId", assigneeId));
+    }
+}
@@ -2,17 +2,16 @@ package fhict.boards.service;
 
 import fhict.boards.domain.dto.CommentRequest;
 import fhict.boards.domain.dto.CommentResponse;
+import fhict.boards.domain.enums.MemberRole;
 import fhict.boards.exception.CommentNotFoundException;
 import fhict.boards.exception.IssueNotFoundException;
-import fhict.boards.exception.MemberNotFoundException;
 import fhict.boards.exception.ProjectUnauthorizedAccessException;
 import fhict.boards.repository.CommentRepository;
-import fhict.boards.repository.MemberRepository;
 import fhict.boards.repository.entity.Comment;
 import fhict.boards.repository.entity.Issue;
 import fhict.boards.repository.entity.Member;
+import fhict.boards.repository.entity.Project;
 import fhict.boards.repository.entity.User;
-import fhict.boards.security.token.AccessToken;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -33,11 +32,9 @@ class CommentServiceImplTest {
     @Mock
     private IssueService issueService;
     @Mock
-    private MemberRepository memberRepository;
-    @Mock
-    private AccessToken requestAccessToken;
-    @Mock
     private DtoMapper dtoMapper;
+    @Mock
+    private SearchService searchService;
     @InjectMocks
     private CommentServiceImpl commentService;
 
@@ -54,35 +51,19 @@ class CommentServiceImplTest {
         Comment savedComment = Comment.builder().id(1L).createdBy(commenter).issue(issue).build();
         CommentResponse expectedResponse = CommentResponse.builder().id(1L).build();
 
-        when(memberRepository.findByUserIdAndProjectId(any(), any())).thenReturn(Optional.of(commenter));
-        when(issueService.getIssueByIdOrThrowNotFound(issueId)).thenReturn(issue);
+        ProjectAccess projectAccess = new ProjectAccess(commenter, Project.builder().id(projectId).build(), MemberRole.DEVELOPER);
+        when(issueService.getIssueInProjectOrThrowNotFound(issueId, projectId)).thenReturn(issue);
         when(commentRepository.save(any(Comment.class))).thenReturn(savedComment);
         when(dtoMapper.mapToCommentResponse(savedComment)).thenReturn(expectedResponse);
-        when(requestAccessToken.getUserId()).thenReturn(123L);
 
         // Act
-        CommentResponse result = commentService.createComment(projectId, issueId, commentRequest);
+        CommentResponse result = commentService.createComment(projectAccess, issueId, commentRequest);
 
         // Assert
         assertEquals(expectedResponse, result);
         verify(commentRepository, times(1)).save(any(Comment.class));
     }
 
-    @Test
-    void createComment_WhenCommenterNotFound_ShouldThrowMemberNotFoundException() {
-        // Arrange
-        Long projectId = 1L;
-        Long issueId = 1L;
-        CommentRequest commentRequest = new CommentRequest();
-        commentRequest.setBody("Test Comment Body");
-
-        when(memberRepository.findByUserIdAndProjectId(any(), any())).thenReturn(Optional.empty());
-
-        // Act & Assert
-        assertThrows(MemberNotFoundException.class, () -> commentService.createComment(projectId, issueId, commentRequest));
-        verify(commentRepository, never()).save(any(Comment.class));
-    }
-
     @Test
     void createComment_WhenIssueNotFound_ShouldThrowIssueNotFoundException() {
         // Arrange
@@ -93,27 +74,14 @@ class CommentServiceImplTest {
 
         Member commenter = Member.builder().id(1L).user(new User()).build();
 
-        when(memberRepository.findByUserIdAndProjectId(any(), any())).thenReturn(Optional.of(commenter));
-        when(issueService.getIssueByIdOrThrowNotFound(issueId)).thenThrow(new IssueNotFoundException(issueId));
+        ProjectAccess projectAccess = new ProjectAccess(commenter, Project.builder().id(projectId).build(), MemberRole.DEVELOPER);
+        when(issueService.getIssueInProjectOrThrowNotFound(issueId, projectId)).thenThrow(new IssueNotFoundException(issueId));
 
         // Act & Assert
-        assertThrows(IssueNotFoundException.class, () -> commentService.createComment(projectId, issueId, commentRequest));
+        assertThrows(IssueNotFoundException.class, () -> commentService.createComment(projectAccess, issueId, commentRequest));
         verify(commentRepository, never()).save(any(Comment.class));
     }
 
-    @Test
-    void getComments_WhenMemberNotFound_ShouldThrowMemberNotFoundException() {
-        // Arrange
-        Long projectId = 1L;
-        Long issueId = 1L;
-
-        when(memberRepository.findByUserIdAndProjectId(any(), any())).thenReturn(Optional.empty());
-
-        // Act & Assert
-        assertThrows(MemberNotFoundException.class, () -> commentService.getComments(projectId, issueId));
-        verify(commentRepository, never()).findAll();
-    }
-
     @Test
     void getComments_WhenIssueNotFound_ShouldThrowIssueNotFoundException() {
         // Arrange
@@ -121,11 +89,11 @@ class CommentServiceImplTest {
         Long issueId = 1L;
         Member member = Member.builder().id(1L).user(new User()).build();
 
-        when(memberRepository.findByUserIdAndProjectId(any(), any())).thenReturn(Optional.of(member));
-        when(issueService.getIssueByIdOrThrowNotFound(issueId)).thenThrow(new IssueNotFoundException(issueId));
+        ProjectAccess projectAccess = new ProjectAccess(member, Project.builder().id(projectId).build(), MemberRole.DEVELOPER);
+        when(issueService.getIssueInProjectOrThrowNotFound(issueId, projectId)).thenThrow(new IssueNotFoundException(issueId));
 
         // Act & Assert
-        assertThrows(IssueNotFoundException.class, () -> commentService.getComments(projectId, issueId));
+        assertThrows(IssueNotFoundException.class, () -> commentService.getComments(projectAccess, issueId));
         verify(commentRepository, never()).findAll();
     }
 
@@ -137,12 +105,12 @@ class CommentServiceImplTest {
         Member member = Member.builder().id(1L).user(new User()).build();
         Issue issue = Issue.builder().id(issueId).comments(List.of(Comment.builder().id(1L).body("Test Comment").build())).build();
 
-        when(memberRepository.findByUserIdAndProjectId(any(), any())).thenReturn(Optional.of(member));
-        when(issueService.getIssueByIdOrThrowNotFound(issueId)).thenReturn(issue);
+        ProjectAccess projectAccess = new ProjectAccess(member, Project.builder().id(projectId).build(), MemberRole.DEVELOPER);
+        when(issueService.getIssueInProjectOrThrowNotFound(issueId, projectId)).thenReturn(issue);
         when(dtoMapper.mapToCommentResponse(any(Comment.class))).thenReturn(CommentResponse.builder().id(1L).body("Test Comment").build());
 
         // Act
-        List<CommentResponse> result = commentService.getComments(projectId, issueId);
+        List<CommentResponse> result = commentService.getComments(projectAccess, issueId);
 
         // Assert
         assertNotNull(result);
@@ -166,13 +134,13 @@ class CommentServiceImplTest {
         Comment editedComment = Comment.builder().id(commentId).createdBy(editor).issue(new Issue()).body(request.getBody()).build();
         CommentResponse expectedResponse = CommentResponse.builder().id(commentId).build();
 
-        when(memberRepository.findByUserIdAndProjectId(any(), any())).thenReturn(Optional.of(editor));
+        ProjectAccess projectAccess = new ProjectAccess(editor, Project.builder().id(projectId).build(), MemberRole.DEVELOPER);
         when(commentRepository.findById(commentId)).thenReturn(Optional.of(comment));
         when(commentRepository.save(any(Comment.class))).thenReturn(editedComment);
         when(dtoMapper.mapToCommentResponse(any(Comment.class))).thenReturn(expectedResponse);
 
         // Act
-        CommentResponse result = commentService.editComment(projectId, issueId, commentId, request);
+        CommentResponse result = commentService.editComment(projectAccess, issueId, commentId, request);
 
         // Assert
         assertEquals(expectedResponse, result);
@@ -192,11 +160,11 @@ class CommentServiceImplTest {
         Member editor = Member.builder().id(1L).user(new User()).build();
         Comment comment = Comment.builder().id(commentId).createdBy(Member.builder().id(2L).user(new User()).build()).issue(new Issue()).build();
 
-        when(memberRepository.findByUserIdAndProjectId(any(), any())).thenReturn(Optional.of(editor));
+        ProjectAccess projectAccess = new ProjectAccess(editor, Project.builder().id(projectId).build(), MemberRole.DEVELOPER);
         when(commentRepository.findById(commentId)).thenReturn(Optional.of(comment));
 
         // Act & Assert
-        assertThrows(ProjectUnauthorizedAccessException.class, () -> commentService.editComment(projectId, issueId, commentId, request));
+        assertThrows(ProjectUnauthorizedAccessException.class, () -> commentService.editComment(projectAccess, issueId, commentId, request));
     }
 
     @Test
@@ -208,28 +176,12 @@ class CommentServiceImplTest {
 
         CommentRequest request = new CommentRequest();
         request.setBody("Edited Comment Body");
+        ProjectAccess projectAccess = new ProjectAccess(Member.builder().id(1L).build(), Project.builder().id(projectId).build(), MemberRole.DEVELOPER);
 
         when(commentRepository.findById(commentId)).thenReturn(Optional.empty());
 
         // Act & Assert
-        assertThrows(CommentNotFoundException.class, () -> commentService.editComment(projectId, issueId, commentId, request));
-    }
-
-    @Test
-    void deleteComment_WhenDeleterIsNotMember_ShouldThrowMemberNotFoundException() {
-        // Arrange
-        Long projectId = 1L;
-        Long issueId = 1L;
-        Long commentId = 1L;
-
-        Comment comment = Comment.builder().id(commentId).createdBy(Member.builder().id(2L).user(new User()).build()).issue(new Issue()).build();
-
-        when(memberRepository.findByUserIdAndProjectId(any(), any())).thenReturn(Optional.empty());
-        when(commentRepository.findById(commentId)).thenReturn(Optional.of(comment));
-
-        // Act & Assert
-        assertThrows(MemberNotFoundException.class, () -> commentService.deleteComment(projectId, issueId, commentId));
-        verifyNoMoreInteractions(commentRepository);
+        assertThrows(CommentNotFoundException.class, () -> commentService.editComment(projectAccess, issueId, commentId, request));
     }
 
     @Test
@@ -240,16 +192,17 @@ class CommentServiceImplTest {
         Long commentId = 1L;
 
         Member deleter = Member.builder().id(1L).user(new User()).build();
-        Comment comment = Comment.builder().id(commentId).createdBy(deleter).build();
+        Comment comment = Comment.builder().id(commentId).createdBy(deleter).issue(Issue.builder().id(issueId).build()).build();
 
-        when(memberRepository.findByUserIdAndProjectId(any(), any())).thenReturn(Optional.of(deleter));
+        ProjectAccess projectAccess = new ProjectAccess(deleter, Project.builder().id(projectId).build(), MemberRole.DEVELOPER);
         when(commentRepository.findById(commentId)).thenReturn(Optional.of(comment));
 
         // Act
-        commentService.deleteComment(projectId, issueId, commentId);
+        commentService.deleteComment(projectAccess, issueId, commentId);
 
         // Assert
         verify(commentRepository).deleteById(commentId);
+        verify(searchService).indexIssue(issueId);
     }
 
     @Test
@@ -263,10 +216,10 @@ class CommentServiceImplTest {
         Member commentCreator = Member.builder().id(2L).user(new User()).build();
         Comment comment = Comment.builder().id(commentId).createdBy(commentCreator).build();
 
-        when(memberRepository.findByUserIdAndProjectId(any(), any())).thenReturn(Optional.of(deleter));
+        ProjectAccess projectAccess = new ProjectAccess(deleter, Project.builder().id(projectId).build(), MemberRole.DEVELOPER);
         when(commentRepository.findById(commentId)).thenReturn(Optional.of(comment));
 
         // Act & Assert
-        assertThrows(ProjectUnauthorizedAccessException.class, () -> commentService.deleteComment(projectId, issueId, commentId));
+        assertThrows(ProjectUnauthorizedAccessException.class, () -> commentService.deleteComment(projectAccess, issueId, commentId));
     }
 }
\ No newline at end of file
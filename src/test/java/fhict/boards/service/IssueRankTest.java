@@ -0,0 +1,88 @@
+package fhict.boards.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IssueRankTest {
+    @Test
+    void between_WhenInsertingRepeatedlyAtRandomPositions_ShouldKeepRanksOrdered() {
+        // Arrange
+        Random random = new Random(42);
+        List<String> ranks = new ArrayList<>(List.of(IssueRank.first()));
+
+        // Act
+        for (int i = 0; i < 2000; i++) {
+            int position = random.nextInt(ranks.size() + 1);
+            String lower = position > 0 ? ranks.get(position - 1) : null;
+            String upper = position < ranks.size() ? ranks.get(position) : null;
+            ranks.add(position, IssueRank.between(lower, upper));
+        }
+
+        // Assert
+        for (int i = 1; i < ranks.size(); i++) {
+            assertTrue(ranks.get(i - 1).compareTo(ranks.get(i)) < 0, ranks.get(i - 1) + " < " + ranks.get(i));
+            assertFalse(ranks.get(i).endsWith("0"));
+        }
+    }
+
+    @Test
+    void between_WhenRanksAreAdjacent_ShouldReturnLongerRankInBetween() {
+        // Act
+        String rank = IssueRank.between("a", "b");
+
+        // Assert
+        assertTrue("a".compareTo(rank) < 0 && rank.compareTo("b") < 0);
+        assertEquals("ai", rank);
+    }
+
+    @Test
+    void between_WhenLowerIsNotBeforeUpper_ShouldThrowException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> IssueRank.between("b", "a"));
+    }
+
+    @Test
+    void after_WhenAppendingManyIssues_ShouldNotGrowRanks() {
+        // Arrange
+        String rank = IssueRank.first();
+
+        // Act & Assert
+        for (int i = 0; i < 10000; i++) {
+            String next = IssueRank.after(rank);
+            assertTrue(rank.compareTo(next) < 0);
+            assertTrue(next.length() <= 6);
+            rank = next;
+        }
+    }
+
+    @Test
+    void before_WhenPrependingManyIssues_ShouldKeepRanksOrdered() {
+        // Arrange
+        String rank = IssueRank.first();
+
+        // Act & Assert
+        for (int i = 0; i < 10000; i++) {
+            String previous = IssueRank.before(rank);
+            assertTrue(previous.compareTo(rank) < 0);
+            assertTrue(previous.length() <= IssueRank.MAX_LENGTH);
+            rank = previous;
+        }
+    }
+
+    @Test
+    void evenlySpaced_WhenCalled_ShouldReturnAscendingRanksWithRoomBetweenThem() {
+        // Act
+        String[] ranks = IssueRank.evenlySpaced(50000);
+
+        // Assert
+        for (int i = 1; i < ranks.length; i++) {
+            assertTrue(ranks[i - 1].compareTo(ranks[i]) < 0);
+            assertTrue(IssueRank.between(ranks[i - 1], ranks[i]).length() <= 8);
+        }
+    }
+}
@@ -1,19 +1,35 @@
 package fhict.boards.service;
 
+import fhict.boards.domain.dto.IssueBulkChangeRequest;
+import fhict.boards.domain.dto.IssueBulkUpdateRequest;
+import fhict.boards.domain.dto.IssueChangesResponse;
 import fhict.boards.domain.dto.IssueCreateRequest;
+import fhict.boards.domain.dto.IssueFilter;
+import fhict.boards.domain.dto.IssuePageResponse;
+import fhict.boards.domain.dto.IssueRankRequest;
 import fhict.boards.domain.dto.IssueResponse;
 import fhict.boards.domain.dto.IssueUpdateRequest;
+import fhict.boards.domain.enums.IssuePriority;
 import fhict.boards.domain.enums.IssueStatus;
 import fhict.boards.domain.enums.MemberRole;
+import fhict.boards.domain.enums.NotificationType;
+import fhict.boards.exception.InvalidCursorException;
+import fhict.boards.exception.InvalidIssueRankException;
+import fhict.boards.exception.InvalidPageLimitException;
+import fhict.boards.exception.InvalidSortPropertyException;
 import fhict.boards.exception.IssueNotFoundException;
+import fhict.boards.exception.IssueVersionConflictException;
 import fhict.boards.exception.MemberNotFoundException;
-import fhict.boards.exception.ProjectNotFoundException;
 import fhict.boards.exception.UnauthorizedAccessException;
 import fhict.boards.repository.IssueRepository;
+import fhict.boards.repository.IssueTombstoneRepository;
+import fhict.boards.repository.IssueVersionProjection;
 import fhict.boards.repository.MemberRepository;
 import fhict.boards.repository.NotificationRepository;
 import fhict.boards.repository.entity.Issue;
+import fhict.boards.repository.entity.IssueTombstone;
 import fhict.boards.repository.entity.Member;
+import fhict.boards.repository.entity.Notification;
 import fhict.boards.repository.entity.Project;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -22,14 +38,20 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -46,12 +68,24 @@ class IssueServiceImplTest {
     private DtoMapper dtoMapper;
     @Captor
     private ArgumentCaptor<Issue> issueCaptor;
+    @Captor
+    private ArgumentCaptor<List<Notification>> notificationsCaptor;
     @Mock
     private NotificationRepository notificationRepository;
     @Mock
+    private UnreadNotificationCounts unreadNotificationCounts;
+    @Mock
     private NotificationService notificationService;
     @Mock
     private MemberRepository memberRepository;
+    @Mock
+    private SearchService searchService;
+    @Mock
+    private IssueChangeTracker issueChangeTracker;
+    @Mock
+    private IssueTombstoneRepository issueTombstoneRepository;
+    @Mock
+    private IssueRankRebalancer issueRankRebalancer;
 
     @Test
     void createIssue_WhenProjectExists_ShouldReturnIssueResponse() {
@@ -73,15 +107,14 @@ class IssueServiceImplTest {
                 .createdBy(creator)
                 .build();
         IssueResponse issueResponse = new IssueResponse();
+        ProjectAccess projectAccess = new ProjectAccess(creator, project, MemberRole.DEVELOPER);
 
-        when(projectService.getProjectByIdOrThrowNotFound(projectId)).thenReturn(project);
-        when(memberService.assertMemberIsAuthorized(projectId, EnumSet.of(MemberRole.OWNER, MemberRole.ADMIN, MemberRole.DEVELOPER))).thenReturn(creator);
-        when(issueRepository.findLatestIssueNumberByProjectId(projectId)).thenReturn(Optional.of(100L));
+        when(projectService.reserveIssueNumbers(projectId, 1)).thenReturn(101L);
         when(issueRepository.save(any(Issue.class))).thenReturn(issue);
         when(dtoMapper.mapToIssueResponse(issue)).thenReturn(issueResponse);
 
         // Act
-        IssueResponse result = issueService.createIssue(projectId, createRequest);
+        IssueResponse result = issueService.createIssue(projectAccess, createRequest);
 
         // Assert
         assertEquals(issueResponse, result);
@@ -89,68 +122,177 @@ class IssueServiceImplTest {
         Issue savedIssue = issueCaptor.getValue();
         assertNotNull(savedIssue);
         assertEquals("PROJ-101", savedIssue.getKey());
+        assertEquals(101L, savedIssue.getKeyNumber());
+        verify(searchService).indexIssue(issue.getId());
         assertEquals(creator, savedIssue.getCreatedBy());
     }
 
     @Test
-    void createIssue_WhenProjectDoesNotExist_ShouldThrowException() {
+    void createIssue_WhenProjectAccessIsResolved_ShouldNotLookUpProjectOrCreatorAgain() {
         // Arrange
         Long projectId = 1L;
         IssueCreateRequest createRequest = new IssueCreateRequest();
+        createRequest.setAssigneeMemberId(2L);
 
-        when(projectService.getProjectByIdOrThrowNotFound(projectId)).thenThrow(new ProjectNotFoundException(1L));
+        Project project = Project.builder().id(projectId).key("PROJ").build();
+        Member creator = Member.builder().id(1L).build();
+        Member assignee = Member.builder().id(2L).build();
+        Issue issue = Issue.builder().project(project).createdBy(creator).assignee(assignee).build();
+        ProjectAccess projectAccess = new ProjectAccess(creator, project, MemberRole.DEVELOPER);
 
-        // Act & Assert
-        assertThrows(ProjectNotFoundException.class, () -> issueService.createIssue(projectId, createRequest));
+        when(memberRepository.findByIdAndProjectId(2L, projectId)).thenReturn(Optional.of(assignee));
+        when(projectService.reserveIssueNumbers(projectId, 1)).thenReturn(1L);
+        when(issueRepository.save(any(Issue.class))).thenReturn(issue);
+
+        // Act
+        issueService.createIssue(projectAccess, createRequest);
+
+        // Assert
+        verify(memberRepository, times(1)).findByIdAndProjectId(2L, projectId);
+        verify(projectService, never()).getProjectByIdOrThrowNotFound(any());
+        verifyNoInteractions(memberService);
+        verify(notificationService).createAndSendNotification(any(Notification.class));
     }
 
     @Test
-    void createIssue_WhenUserIsNotAuthorized_ShouldThrowException() {
+    void createIssue_WhenAssignedToCaller_ShouldNotLookUpAssignee() {
         // Arrange
         Long projectId = 1L;
         IssueCreateRequest createRequest = new IssueCreateRequest();
+        createRequest.setAssigneeMemberId(1L);
 
-        when(projectService.getProjectByIdOrThrowNotFound(projectId)).thenReturn(new Project());
-        when(memberService.assertMemberIsAuthorized(projectId, EnumSet.of(MemberRole.OWNER, MemberRole.ADMIN, MemberRole.DEVELOPER)))
-                .thenThrow(new UnauthorizedAccessException("User is not authorized to create an issue"));
+        Project project = Project.builder().id(projectId).key("PROJ").build();
+        Member creator = Member.builder().id(1L).build();
+        Issue issue = Issue.builder().project(project).createdBy(creator).assignee(creator).build();
+        ProjectAccess projectAccess = new ProjectAccess(creator, project, MemberRole.DEVELOPER);
 
-        // Act & Assert
-        assertThrows(UnauthorizedAccessException.class, () -> issueService.createIssue(projectId, createRequest));
+        when(projectService.reserveIssueNumbers(projectId, 1)).thenReturn(1L);
+        when(issueRepository.save(any(Issue.class))).thenReturn(issue);
+
+        // Act
+        issueService.createIssue(projectAccess, createRequest);
+
+        // Assert
+        verify(issueRepository).save(issueCaptor.capture());
+        assertEquals(creator, issueCaptor.getValue().getAssignee());
+        verify(memberRepository, never()).findByIdAndProjectId(any(), any());
+        verifyNoInteractions(notificationService);
     }
 
     @Test
-    void getIssuesByProjectId_WhenProjectExistsAndUserIsAuthorized_ShouldReturnIssues() {
+    void getIssuesByProjectId_WhenFirstPageIsNotFull_ShouldReturnIssuesWithoutNextCursor() {
         // Arrange
         Long projectId = 1L;
-        Issue issue = new Issue();
+        Issue issue = Issue.builder().id(5L).build();
         IssueResponse issueResponse = new IssueResponse();
-        List<Issue> issues = Collections.singletonList(issue);
-        List<IssueResponse> issueResponses = Collections.singletonList(issueResponse);
-
-        Project project = new Project();
-        project.setId(projectId);
-        project.setIssues(issues);
 
-        when(projectService.getProjectByIdOrThrowNotFound(projectId)).thenReturn(project);
         when(memberService.assertMemberIsAuthorized(projectId, EnumSet.of(MemberRole.OWNER, MemberRole.ADMIN, MemberRole.DEVELOPER, MemberRole.VIEWER))).thenReturn(new Member());
+        when(issueRepository.findPage(any(), eq(Sort.by("id")), isNull(), eq(3))).thenReturn(List.of(issue));
         when(dtoMapper.mapToIssueResponse(issue)).thenReturn(issueResponse);
 
         // Act
-        List<IssueResponse> result = issueService.getIssuesByProjectId(projectId);
+        IssuePageResponse result = issueService.getIssuesByProjectId(projectId, null, Sort.unsorted(), null, 2);
+
+        // Assert
+        assertEquals(List.of(issueResponse), result.getIssues());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void getIssuesByProjectId_WhenMoreIssuesThanLimit_ShouldReturnCursorOfLastIssue() {
+        // Arrange
+        Long projectId = 1L;
+        Issue first = Issue.builder().id(5L).build();
+        Issue second = Issue.builder().id(8L).build();
+        Issue third = Issue.builder().id(9L).build();
+
+        when(memberService.assertMemberIsAuthorized(projectId, EnumSet.of(MemberRole.OWNER, MemberRole.ADMIN, MemberRole.DEVELOPER, MemberRole.VIEWER))).thenReturn(new Member());
+        when(issueRepository.findPage(any(), eq(Sort.by("id")), isNull(), eq(3))).thenReturn(List.of(first, second, third));
+        when(dtoMapper.mapToIssueResponse(any(Issue.class))).thenReturn(new IssueResponse());
+
+        // Act
+        IssuePageResponse result = issueService.getIssuesByProjectId(projectId, null, Sort.unsorted(), null, 2);
+
+        // Assert
+        assertEquals(2, result.getIssues().size());
+        assertEquals(8L, CursorCodec.decodeId(result.getNextCursor()));
+        verify(dtoMapper, never()).mapToIssueResponse(third);
+    }
+
+    @Test
+    void getIssuesByProjectId_WhenCursorGiven_ShouldFetchIssuesAfterCursor() {
+        // Arrange
+        Long projectId = 1L;
+        String cursor = CursorCodec.encode(8L);
+
+        when(memberService.assertMemberIsAuthorized(projectId, EnumSet.of(MemberRole.OWNER, MemberRole.ADMIN, MemberRole.DEVELOPER, MemberRole.VIEWER))).thenReturn(new Member());
+        when(issueRepository.findPage(any(), eq(Sort.by("id")), eq(List.of(8L)), eq(IssueServiceImpl.MAX_PAGE_SIZE + 1)))
+                .thenReturn(Collections.emptyList());
+
+        // Act
+        IssuePageResponse result = issueService.getIssuesByProjectId(projectId, null, Sort.unsorted(), cursor, 10_000);
+
+        // Assert
+        assertTrue(result.getIssues().isEmpty());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void getIssuesByProjectId_WhenSortedByPriority_ShouldBreakTiesByIdAndEncodeBothInCursor() {
+        // Arrange
+        Long projectId = 1L;
+        Sort sort = Sort.by(Sort.Direction.DESC, "priority");
+        Issue first = Issue.builder().id(3L).priority(IssuePriority.HIGH).build();
+        Issue second = Issue.builder().id(1L).priority(IssuePriority.LOW).build();
+
+        when(memberService.assertMemberIsAuthorized(projectId, EnumSet.of(MemberRole.OWNER, MemberRole.ADMIN, MemberRole.DEVELOPER, MemberRole.VIEWER))).thenReturn(new Member());
+        when(issueRepository.findPage(any(), eq(sort.and(Sort.by("id"))), isNull(), eq(2))).thenReturn(List.of(first, second));
+        when(dtoMapper.mapToIssueResponse(first)).thenReturn(new IssueResponse());
+
+        // Act
+        IssuePageResponse result = issueService.getIssuesByProjectId(projectId, new IssueFilter(), sort, null, 1);
 
         // Assert
-        assertEquals(issueResponses, result);
+        assertArrayEquals(new String[]{String.valueOf(IssuePriority.HIGH.ordinal()), "3"},
+                CursorCodec.decode(result.getNextCursor(), 2));
+    }
+
+    @Test
+    void getIssuesByProjectId_WhenSortPropertyIsNotSupported_ShouldThrowException() {
+        // Arrange
+        Long projectId = 1L;
+
+        when(memberService.assertMemberIsAuthorized(projectId, EnumSet.of(MemberRole.OWNER, MemberRole.ADMIN, MemberRole.DEVELOPER, MemberRole.VIEWER))).thenReturn(new Member());
+
+        // Act & Assert
+        assertThrows(InvalidSortPropertyException.class,
+                () -> issueService.getIssuesByProjectId(projectId, null, Sort.by("description"), null, 10));
+        verifyNoInteractions(issueRepository);
     }
 
     @Test
-    void getIssuesByProjectId_WhenProjectDoesntExist_ShouldThrowException() {
+    void getIssuesByProjectId_WhenCursorIsInvalid_ShouldThrowException() {
         // Arrange
         Long projectId = 1L;
 
-        when(projectService.getProjectByIdOrThrowNotFound(projectId)).thenThrow(new ProjectNotFoundException(1L));
+        when(memberService.assertMemberIsAuthorized(projectId, EnumSet.of(MemberRole.OWNER, MemberRole.ADMIN, MemberRole.DEVELOPER, MemberRole.VIEWER))).thenReturn(new Member());
 
         // Act & Assert
-        assertThrows(ProjectNotFoundException.class, () -> issueService.getIssuesByProjectId(projectId));
+        assertThrows(InvalidCursorException.class,
+                () -> issueService.getIssuesByProjectId(projectId, null, Sort.unsorted(), "not a cursor", 10));
+    }
+
+    @Test
+    void getIssuesByProjectId_WhenLimitIsNotPositive_ShouldThrowException() {
+        // Arrange
+        Long projectId = 1L;
+
+        when(memberService.assertMemberIsAuthorized(projectId, EnumSet.of(MemberRole.OWNER, MemberRole.ADMIN, MemberRole.DEVELOPER, MemberRole.VIEWER))).thenReturn(new Member());
+
+        // Act & Assert
+        assertThrows(InvalidPageLimitException.class,
+                () -> issueService.getIssuesByProjectId(projectId, null, Sort.unsorted(), null, -1));
+        verifyNoInteractions(issueRepository);
     }
 
     @Test
@@ -162,33 +304,35 @@ class IssueServiceImplTest {
                 .thenThrow(new UnauthorizedAccessException("User is not authorized to view issues"));
 
         // Act & Assert
-        assertThrows(UnauthorizedAccessException.class, () -> issueService.getIssuesByProjectId(projectId));
+        assertThrows(UnauthorizedAccessException.class, () -> issueService.getIssuesByProjectId(projectId, null, Sort.unsorted(), null, 10));
     }
 
     @Test
-    void getIssueByIdOrThrowNotFound_WhenIssueExists_ShouldReturnIssue() {
+    void getIssueInProjectOrThrowNotFound_WhenIssueExists_ShouldReturnIssue() {
         // Arrange
         Long issueId = 1L;
+        Long projectId = 1L;
 
         Issue issue = new Issue();
-        when(issueRepository.findById(issueId)).thenReturn(Optional.of(issue));
+        when(issueRepository.findByIdAndProjectId(issueId, projectId)).thenReturn(Optional.of(issue));
 
         // Act
-        Issue result = issueService.getIssueByIdOrThrowNotFound(issueId);
+        Issue result = issueService.getIssueInProjectOrThrowNotFound(issueId, projectId);
 
         // Assert
         assertEquals(issue, result);
     }
 
     @Test
-    void getIssueByIdOrThrowNotFound_WhenIssueDoesNotExist_ShouldThrowException() {
+    void getIssueInProjectOrThrowNotFound_WhenIssueIsNotInProject_ShouldThrowException() {
         // Arrange
         Long issueId = 1L;
+        Long projectId = 1L;
 
-        when(issueRepository.findById(issueId)).thenReturn(Optional.empty());
+        when(issueRepository.findByIdAndProjectId(issueId, projectId)).thenReturn(Optional.empty());
 
         // Act & Assert
-        assertThrows(IssueNotFoundException.class, () -> issueService.getIssueByIdOrThrowNotFound(issueId));
+        assertThrows(IssueNotFoundException.class, () -> issueService.getIssueInProjectOrThrowNotFound(issueId, projectId));
     }
 
     @Test
@@ -202,15 +346,35 @@ class IssueServiceImplTest {
                 .role(MemberRole.OWNER)
                 .build();
 
+        Issue issue = Issue.builder().id(issueId).build();
+
         when(memberService.assertMemberIsAuthorized(projectId, EnumSet.of(MemberRole.OWNER, MemberRole.ADMIN, MemberRole.DEVELOPER)))
                 .thenReturn(authorizedMember);
+        when(issueRepository.findByIdAndProjectId(issueId, projectId)).thenReturn(Optional.of(issue));
 
         // Act
         issueService.deleteIssue(issueId, projectId);
 
         // Assert
         verify(notificationRepository).deleteByIssueId(issueId);
-        verify(issueRepository).deleteById(issueId);
+        verify(issueRepository).delete(issue);
+        verify(issueChangeTracker).recordDeletion(projectId, issueId);
+        verify(searchService).removeIssue(issueId);
+    }
+
+    @Test
+    void deleteIssue_WhenIssueIsNotInProject_ShouldThrowExceptionWithoutRecordingDeletion() {
+        // Arrange
+        Long issueId = 1L;
+        Long projectId = 2L;
+
+        when(memberService.assertMemberIsAuthorized(projectId, EnumSet.of(MemberRole.OWNER, MemberRole.ADMIN, MemberRole.DEVELOPER)))
+                .thenReturn(Member.builder().id(1L).build());
+        when(issueRepository.findByIdAndProjectId(issueId, projectId)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(IssueNotFoundException.class, () -> issueService.deleteIssue(issueId, projectId));
+        verifyNoInteractions(notificationRepository, issueChangeTracker, searchService);
     }
 
     @Test
@@ -241,12 +405,12 @@ class IssueServiceImplTest {
         IssueResponse issueResponse = new IssueResponse();
 
         when(memberService.assertMemberIsAuthorized(projectId, EnumSet.of(MemberRole.OWNER, MemberRole.ADMIN, MemberRole.DEVELOPER))).thenReturn(updater);
-        when(issueRepository.findById(issueId)).thenReturn(Optional.of(issue));
+        when(issueRepository.findByIdAndProjectId(issueId, projectId)).thenReturn(Optional.of(issue));
         when(issueRepository.save(any(Issue.class))).thenReturn(issue);
         when(dtoMapper.mapToIssueResponse(issue)).thenReturn(issueResponse);
 
         // Act
-        IssueResponse result = issueService.updateIssue(issueId, projectId, updateRequest);
+        IssueResponse result = issueService.updateIssue(issueId, projectId, updateRequest, null);
 
         // Assert
         assertEquals(issueResponse, result);
@@ -261,11 +425,11 @@ class IssueServiceImplTest {
         Long issueId = 1L;
         Long projectId = 1L;
 
-        when(issueRepository.findById(issueId)).thenReturn(Optional.empty());
+        when(issueRepository.findByIdAndProjectId(issueId, projectId)).thenReturn(Optional.empty());
 
         // Act & Assert
         IssueUpdateRequest request = new IssueUpdateRequest();
-        assertThrows(IssueNotFoundException.class, () -> issueService.updateIssue(issueId, projectId, request));
+        assertThrows(IssueNotFoundException.class, () -> issueService.updateIssue(issueId, projectId, request, null));
     }
 
     @Test
@@ -279,7 +443,7 @@ class IssueServiceImplTest {
 
         // Act & Assert
         IssueUpdateRequest request = new IssueUpdateRequest();
-        assertThrows(UnauthorizedAccessException.class, () -> issueService.updateIssue(issueId, projectId, request));
+        assertThrows(UnauthorizedAccessException.class, () -> issueService.updateIssue(issueId, projectId, request, null));
     }
 
     @Test
@@ -289,10 +453,10 @@ class IssueServiceImplTest {
         Long projectId = 1L;
         IssueUpdateRequest updateRequest = new IssueUpdateRequest();
 
-        when(issueRepository.findById(issueId)).thenReturn(Optional.empty());
+        when(issueRepository.findByIdAndProjectId(issueId, projectId)).thenReturn(Optional.empty());
 
         // Act & Assert
-        assertThrows(IssueNotFoundException.class, () -> issueService.updateIssue(issueId, projectId, updateRequest));
+        assertThrows(IssueNotFoundException.class, () -> issueService.updateIssue(issueId, projectId, updateRequest, null));
     }
 
     @Test
@@ -306,7 +470,7 @@ class IssueServiceImplTest {
                 .thenThrow(new UnauthorizedAccessException("User is not authorized to update the issue"));
 
         // Act & Assert
-        assertThrows(UnauthorizedAccessException.class, () -> issueService.updateIssue(issueId, projectId, updateRequest));
+        assertThrows(UnauthorizedAccessException.class, () -> issueService.updateIssue(issueId, projectId, updateRequest, null));
     }
 
     @Test
@@ -318,7 +482,7 @@ class IssueServiceImplTest {
         IssueResponse expectedResponse = IssueResponse.builder().id(issueId).build();
 
         when(memberService.assertMemberIsAuthorized(projectId, EnumSet.of(MemberRole.OWNER, MemberRole.ADMIN, MemberRole.DEVELOPER, MemberRole.VIEWER))).thenReturn(new Member());
-        when(issueRepository.findById(issueId)).thenReturn(Optional.of(issue));
+        when(issueRepository.findByIdAndProjectId(issueId, projectId)).thenReturn(Optional.of(issue));
         when(dtoMapper.mapToIssueResponse(issue)).thenReturn(expectedResponse);
 
         // Act
@@ -335,12 +499,111 @@ class IssueServiceImplTest {
         Long projectId = 1L;
 
         when(memberService.assertMemberIsAuthorized(projectId, EnumSet.of(MemberRole.OWNER, MemberRole.ADMIN, MemberRole.DEVELOPER, MemberRole.VIEWER))).thenReturn(new Member());
-        when(issueRepository.findById(issueId)).thenReturn(Optional.empty());
+        when(issueRepository.findByIdAndProjectId(issueId, projectId)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(IssueNotFoundException.class, () -> issueService.getIssueById(issueId, projectId));
     }
 
+    @Test
+    void getIssueByKey_WhenIssueExists_ShouldReturnIssueResponse() {
+        // Arrange
+        Long projectId = 1L;
+        Issue issue = Issue.builder().id(7L).key("PROJ-12").keyNumber(12L).build();
+        IssueResponse expectedResponse = IssueResponse.builder().id(7L).build();
+
+        when(memberService.assertMemberIsAuthorized(projectId, EnumSet.of(MemberRole.OWNER, MemberRole.ADMIN, MemberRole.DEVELOPER, MemberRole.VIEWER))).thenReturn(new Member());
+        when(issueRepository.findByProjectIdAndKeyNumber(projectId, 12L)).thenReturn(Optional.of(issue));
+        when(dtoMapper.mapToIssueResponse(issue)).thenReturn(expectedResponse);
+
+        // Act
+        IssueResponse result = issueService.getIssueByKey("proj-12", projectId);
+
+        // Assert
+        assertEquals(expectedResponse, result);
+    }
+
+    @Test
+    void getIssueVersion_WhenIssueExists_ShouldReturnVersionWithoutLoadingIssue() {
+        // Arrange
+        Long projectId = 1L;
+
+        when(memberService.assertMemberIsAuthorized(projectId, EnumSet.of(MemberRole.OWNER, MemberRole.ADMIN, MemberRole.DEVELOPER, MemberRole.VIEWER))).thenReturn(new Member());
+        when(issueRepository.findVersionByIdAndProjectId(7L, projectId)).thenReturn(Optional.of(3L));
+
+        // Act
+        long result = issueService.getIssueVersion(7L, projectId);
+
+        // Assert
+        assertEquals(3L, result);
+        verify(issueRepository, never()).findById(any());
+        verifyNoInteractions(dtoMapper);
+    }
+
+    @Test
+    void getIssueVersion_WhenIssueNotFound_ShouldThrowIssueNotFoundException() {
+        // Arrange
+        Long projectId = 1L;
+
+        when(memberService.assertMemberIsAuthorized(projectId, EnumSet.of(MemberRole.OWNER, MemberRole.ADMIN, MemberRole.DEVELOPER, MemberRole.VIEWER))).thenReturn(new Member());
+        when(issueRepository.findVersionByIdAndProjectId(7L, projectId)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(IssueNotFoundException.class, () -> issueService.getIssueVersion(7L, projectId));
+    }
+
+    @Test
+    void getIssueVersion_WhenIssueBelongsToOtherProject_ShouldThrowIssueNotFoundException() {
+        // Arrange
+        Long projectId = 2L;
+
+        when(memberService.assertMemberIsAuthorized(projectId, EnumSet.of(MemberRole.OWNER, MemberRole.ADMIN, MemberRole.DEVELOPER, MemberRole.VIEWER))).thenReturn(new Member());
+        when(issueRepository.findVersionByIdAndProjectId(7L, projectId)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(IssueNotFoundException.class, () -> issueService.getIssueVersion(7L, projectId));
+    }
+
+    @Test
+    void getIssueVersionByKey_WhenIssueHasNumber_ShouldOnlyMatchItsKeyIgnoringCase() {
+        // Arrange
+        Long projectId = 1L;
+        IssueVersionProjection issue = new SpelAwareProxyProjectionFactory().createProjection(IssueVersionProjection.class,
+                Map.of("issueKey", "PROJ-12", "version", 3L));
+
+        when(memberService.assertMemberIsAuthorized(projectId, EnumSet.of(MemberRole.OWNER, MemberRole.ADMIN, MemberRole.DEVELOPER, MemberRole.VIEWER))).thenReturn(new Member());
+        when(issueRepository.findVersionByProjectIdAndKeyNumber(projectId, 12L)).thenReturn(Optional.of(issue));
+
+        // Act & Assert
+        assertEquals(3L, issueService.getIssueVersionByKey("proj-12", projectId));
+        assertThrows(IssueNotFoundException.class, () -> issueService.getIssueVersionByKey("OTHER-12", projectId));
+    }
+
+    @Test
+    void getIssueByKey_WhenKeyPrefixDoesNotMatch_ShouldThrowIssueNotFoundException() {
+        // Arrange
+        Long projectId = 1L;
+        Issue issue = Issue.builder().id(7L).key("PROJ-12").keyNumber(12L).build();
+
+        when(memberService.assertMemberIsAuthorized(projectId, EnumSet.of(MemberRole.OWNER, MemberRole.ADMIN, MemberRole.DEVELOPER, MemberRole.VIEWER))).thenReturn(new Member());
+        when(issueRepository.findByProjectIdAndKeyNumber(projectId, 12L)).thenReturn(Optional.of(issue));
+
+        // Act & Assert
+        assertThrows(IssueNotFoundException.class, () -> issueService.getIssueByKey("OTHER-12", projectId));
+    }
+
+    @Test
+    void getIssueByKey_WhenKeyHasNoNumber_ShouldThrowIssueNotFoundExceptionWithoutQuerying() {
+        // Arrange
+        Long projectId = 1L;
+
+        when(memberService.assertMemberIsAuthorized(projectId, EnumSet.of(MemberRole.OWNER, MemberRole.ADMIN, MemberRole.DEVELOPER, MemberRole.VIEWER))).thenReturn(new Member());
+
+        // Act & Assert
+        assertThrows(IssueNotFoundException.class, () -> issueService.getIssueByKey("PROJ-abc", projectId));
+        verifyNoInteractions(issueRepository);
+    }
+
     @Test
     void updateStatus_WithProperAuthorization_ShouldUpdateIssueStatus() {
         // Arrange
@@ -351,17 +614,20 @@ class IssueServiceImplTest {
         issue.setStatus(IssueStatus.DONE);
 
         when(memberService.assertMemberIsAuthorized(projectId, EnumSet.of(MemberRole.OWNER, MemberRole.ADMIN, MemberRole.DEVELOPER))).thenReturn(null);
-        when(issueRepository.findById(issueId)).thenReturn(Optional.of(issue));
+        when(issueRepository.findByIdAndProjectId(issueId, projectId)).thenReturn(Optional.of(issue));
         when(issueRepository.save(any(Issue.class))).thenReturn(issue);
         when(dtoMapper.mapToIssueResponse(any(Issue.class))).thenReturn(new IssueResponse());
+        when(issueChangeTracker.nextChangeNumber(projectId)).thenReturn(5L);
 
         // Act
-        IssueResponse response = issueService.updateStatus(issueId, projectId, newStatus);
+        IssueResponse response = issueService.updateStatus(issueId, projectId, newStatus, null);
 
         // Assert
         verify(issueRepository).save(issueCaptor.capture());
         Issue capturedIssue = issueCaptor.getValue();
         assertEquals(newStatus, capturedIssue.getStatus());
+        assertNotNull(capturedIssue.getUpdatedOn());
+        assertEquals(5L, capturedIssue.getChangeNumber());
         assertNotNull(response);
     }
 
@@ -376,7 +642,7 @@ class IssueServiceImplTest {
                 .thenThrow(new UnauthorizedAccessException("User is not authorized to update status"));
 
         // Act & Assert
-        assertThrows(UnauthorizedAccessException.class, () -> issueService.updateStatus(issueId, projectId, newStatus));
+        assertThrows(UnauthorizedAccessException.class, () -> issueService.updateStatus(issueId, projectId, newStatus, null));
     }
 
     @Test
@@ -387,10 +653,26 @@ class IssueServiceImplTest {
         IssueStatus newStatus = IssueStatus.TO_DO;
 
         when(memberService.assertMemberIsAuthorized(projectId, EnumSet.of(MemberRole.OWNER, MemberRole.ADMIN, MemberRole.DEVELOPER))).thenReturn(null);
-        when(issueRepository.findById(issueId)).thenReturn(Optional.empty());
+        when(issueRepository.findByIdAndProjectId(issueId, projectId)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(IssueNotFoundException.class, () -> issueService.updateStatus(issueId, projectId, newStatus, null));
+    }
+
+    @Test
+    void updateStatus_WhenIssueBelongsToOtherProject_ShouldThrowNotFoundException() {
+        // Arrange
+        Long issueId = 1L;
+        Long projectId = 2L;
+
+        when(memberService.assertMemberIsAuthorized(projectId, EnumSet.of(MemberRole.OWNER, MemberRole.ADMIN, MemberRole.DEVELOPER))).thenReturn(null);
+        when(issueRepository.findByIdAndProjectId(issueId, projectId)).thenReturn(Optional.empty());
 
         // Act & Assert
-        assertThrows(IssueNotFoundException.class, () -> issueService.updateStatus(issueId, projectId, newStatus));
+        assertThrows(IssueNotFoundException.class, () -> issueService.updateStatus(issueId, projectId, IssueStatus.DONE, null));
+        verify(issueRepository, never()).findById(any());
+        verify(issueChangeTracker, never()).nextChangeNumber(any());
+        verify(issueRepository, never()).save(any(Issue.class));
     }
 
     @Test
@@ -403,11 +685,11 @@ class IssueServiceImplTest {
         issue.setStatus(IssueStatus.DONE);
 
         when(memberService.assertMemberIsAuthorized(projectId, EnumSet.of(MemberRole.OWNER, MemberRole.ADMIN, MemberRole.DEVELOPER))).thenReturn(null);
-        when(issueRepository.findById(issueId)).thenReturn(Optional.of(issue));
+        when(issueRepository.findByIdAndProjectId(issueId, projectId)).thenReturn(Optional.of(issue));
         when(issueRepository.save(any(Issue.class))).thenReturn(issue);
 
         // Act
-        issueService.updateStatus(issueId, projectId, newStatus);
+        issueService.updateStatus(issueId, projectId, newStatus, null);
 
         // Assert
         verify(issueRepository).save(issueCaptor.capture());
@@ -415,6 +697,43 @@ class IssueServiceImplTest {
         assertEquals(newStatus, savedIssue.getStatus());
     }
 
+    @Test
+    void updateStatus_WhenVersionDoesNotMatch_ShouldThrowIssueVersionConflictException() {
+        // Arrange
+        Long issueId = 1L;
+        Long projectId = 1L;
+        Issue issue = new Issue();
+        issue.setId(issueId);
+        issue.setVersion(3L);
+        issue.setStatus(IssueStatus.DONE);
+
+        when(memberService.assertMemberIsAuthorized(projectId, EnumSet.of(MemberRole.OWNER, MemberRole.ADMIN, MemberRole.DEVELOPER))).thenReturn(null);
+        when(issueRepository.findByIdAndProjectId(issueId, projectId)).thenReturn(Optional.of(issue));
+
+        // Act & Assert
+        assertThrows(IssueVersionConflictException.class, () -> issueService.updateStatus(issueId, projectId, IssueStatus.TO_DO, 2L));
+        assertEquals(IssueStatus.DONE, issue.getStatus());
+        verify(issueRepository, never()).save(any(Issue.class));
+    }
+
+    @Test
+    void updateIssue_WhenVersionDoesNotMatch_ShouldThrowIssueVersionConflictException() {
+        // Arrange
+        Long issueId = 1L;
+        Long projectId = 1L;
+        Issue issue = new Issue();
+        issue.setId(issueId);
+        issue.setVersion(3L);
+
+        when(memberService.assertMemberIsAuthorized(projectId, EnumSet.of(MemberRole.OWNER, MemberRole.ADMIN, MemberRole.DEVELOPER))).thenReturn(null);
+        when(issueRepository.findByIdAndProjectId(issueId, projectId)).thenReturn(Optional.of(issue));
+
+        // Act & Assert
+        assertThrows(IssueVersionConflictException.class,
+                () -> issueService.updateIssue(issueId, projectId, new IssueUpdateRequest(), 2L));
+        verify(issueRepository, never()).save(any(Issue.class));
+    }
+
     @Test
     void getMemberOrThrowNotFound_WhenMemberNotFound_ShouldThrowMemberNotFoundException() {
         // Arrange
@@ -442,4 +761,212 @@ class IssueServiceImplTest {
         // Assert
         assertEquals(member, result);
     }
-}
\ No newline at end of file
+
+    @Test
+    void getIssueChanges_WhenIssuesChangedAndDeleted_ShouldReturnThemInChangeOrder() {
+        // Arrange
+        Long projectId = 1L;
+        Issue first = Issue.builder().id(10L).changeNumber(3L).build();
+        Issue second = Issue.builder().id(11L).changeNumber(6L).build();
+        IssueTombstone tombstone = IssueTombstone.builder().issueId(12L).changeNumber(4L).build();
+
+        when(memberService.assertMemberIsAuthorized(projectId, EnumSet.of(MemberRole.OWNER, MemberRole.ADMIN, MemberRole.DEVELOPER, MemberRole.VIEWER)))
+                .thenReturn(new Member());
+        when(issueChangeTracker.getLastChangeNumber(projectId)).thenReturn(6L);
+        when(issueRepository.findChangedAfter(projectId, 2L, 0L, 6L, PageRequest.of(0, 3))).thenReturn(List.of(first, second));
+        when(issueTombstoneRepository.findDeletedAfter(projectId, 2L, 6L, PageRequest.of(0, 3))).thenReturn(List.of(tombstone));
+        when(dtoMapper.mapToIssueResponse(first)).thenReturn(IssueResponse.builder().id(10L).build());
+
+        // Act
+        IssueChangesResponse result = issueService.getIssueChanges(projectId, CursorCodec.encode(2L, 0L), 2);
+
+        // Assert
+        assertEquals(1, result.getChanged().size());
+        assertEquals(10L, result.getChanged().get(0).getId());
+        assertEquals(1, result.getDeleted().size());
+        assertEquals(12L, result.getDeleted().get(0).getIssueId());
+        assertTrue(result.isHasMore());
+        assertArrayEquals(new String[]{"4", "12"}, CursorCodec.decode(result.getSyncToken(), 2));
+    }
+
+    @Test
+    void getIssueChanges_WhenNothingChanged_ShouldReturnSameToken() {
+        // Arrange
+        Long projectId = 1L;
+        String since = CursorCodec.encode(6L, 11L);
+
+        when(memberService.assertMemberIsAuthorized(projectId, EnumSet.of(MemberRole.OWNER, MemberRole.ADMIN, MemberRole.DEVELOPER, MemberRole.VIEWER)))
+                .thenReturn(new Member());
+        when(issueChangeTracker.getLastChangeNumber(projectId)).thenReturn(6L);
+        when(issueRepository.findChangedAfter(eq(projectId), eq(6L), eq(11L), eq(6L), any())).thenReturn(Collections.emptyList());
+        when(issueTombstoneRepository.findDeletedAfter(eq(projectId), eq(6L), eq(6L), any())).thenReturn(Collections.emptyList());
+
+        // Act
+        IssueChangesResponse result = issueService.getIssueChanges(projectId, since, 100);
+
+        // Assert
+        assertTrue(result.getChanged().isEmpty());
+        assertTrue(result.getDeleted().isEmpty());
+        assertFalse(result.isHasMore());
+        assertEquals(since, result.getSyncToken());
+    }
+
+    @Test
+    void getIssueChanges_WhenTokenIsInvalid_ShouldThrowInvalidCursorException() {
+        // Arrange
+        Long projectId = 1L;
+
+        when(memberService.assertMemberIsAuthorized(projectId, EnumSet.of(MemberRole.OWNER, MemberRole.ADMIN, MemberRole.DEVELOPER, MemberRole.VIEWER)))
+                .thenReturn(new Member());
+
+        // Act & Assert
+        assertThrows(InvalidCursorException.class, () -> issueService.getIssueChanges(projectId, CursorCodec.encode("a", "b"), 100));
+        verifyNoInteractions(issueRepository, issueTombstoneRepository);
+    }
+
+    @Test
+    void updateIssues_WhenAuthorized_ShouldApplyChangesAndNotifyNewAssigneesInOneBatch() {
+        // Arrange
+        Long projectId = 1L;
+        Member updater = Member.builder().id(1L).build();
+        Member assignee = Member.builder().id(2L).build();
+        Issue first = Issue.builder().id(10L).status(IssueStatus.TO_DO).priority(IssuePriority.LOW).build();
+        Issue second = Issue.builder().id(11L).status(IssueStatus.TO_DO).priority(IssuePriority.LOW).assignee(updater).build();
+
+        IssueBulkUpdateRequest request = new IssueBulkUpdateRequest(List.of(
+                new IssueBulkChangeRequest(10L, IssueStatus.DONE, null, 2L, false),
+                new IssueBulkChangeRequest(11L, null, IssuePriority.HIGH, null, true)));
+
+        when(memberService.assertMemberIsAuthorized(projectId, EnumSet.of(MemberRole.OWNER, MemberRole.ADMIN, MemberRole.DEVELOPER)))
+                .thenReturn(updater);
+        when(issueRepository.findByProjectIdAndIdIn(eq(projectId), any())).thenReturn(List.of(first, second));
+        when(memberRepository.findByProjectIdAndIdIn(eq(projectId), any())).thenReturn(List.of(assignee));
+        when(issueChangeTracker.nextChangeNumber(projectId)).thenReturn(8L);
+        when(dtoMapper.mapToIssueResponse(any(Issue.class))).thenReturn(new IssueResponse());
+
+        // Act
+        List<IssueResponse> result = issueService.updateIssues(projectId, request);
+
+        // Assert
+        assertEquals(2, result.size());
+        assertEquals(IssueStatus.DONE, first.getStatus());
+        assertEquals(IssuePriority.LOW, first.getPriority());
+        assertEquals(assignee, first.getAssignee());
+        assertEquals(IssueStatus.TO_DO, second.getStatus());
+        assertEquals(IssuePriority.HIGH, second.getPriority());
+        assertNull(second.getAssignee());
+        assertEquals(8L, first.getChangeNumber());
+        assertEquals(8L, second.getChangeNumber());
+
+        verify(notificationService).createAndSendNotifications(notificationsCaptor.capture());
+        assertEquals(1, notificationsCaptor.getValue().size());
+        assertEquals(NotificationType.ASSIGNED_TO_ISSUE, notificationsCaptor.getValue().get(0).getType());
+        assertEquals(assignee, notificationsCaptor.getValue().get(0).getReceiver());
+        verify(issueRepository, never()).save(any(Issue.class));
+    }
+
+    @Test
+    void updateIssues_WhenIssueIsNotInProject_ShouldThrowIssueNotFoundException() {
+        // Arrange
+        Long projectId = 1L;
+        IssueBulkUpdateRequest request = new IssueBulkUpdateRequest(List.of(
+                new IssueBulkChangeRequest(10L, IssueStatus.DONE, null, null, false)));
+
+        when(memberService.assertMemberIsAuthorized(projectId, EnumSet.of(MemberRole.OWNER, MemberRole.ADMIN, MemberRole.DEVELOPER)))
+                .thenReturn(new Member());
+        when(issueRepository.findByProjectIdAndIdIn(eq(projectId), any())).thenReturn(List.of());
+        when(memberRepository.findByProjectIdAndIdIn(eq(projectId), any())).thenReturn(List.of());
+
+        // Act & Assert
+        assertThrows(IssueNotFoundException.class, () -> issueService.updateIssues(projectId, request));
+        verifyNoInteractions(notificationService);
+    }
+
+    @Test
+    void rankIssue_WhenPlacedAfterIssue_ShouldRankBetweenIssueAndNextRank() {
+        // Arrange
+        Long projectId = 1L;
+        Issue issue = Issue.builder().id(1L).rank("a").status(IssueStatus.TO_DO).build();
+        Issue neighbour = Issue.builder().id(2L).rank("m").build();
+
+        when(memberService.assertMemberIsAuthorized(projectId, EnumSet.of(MemberRole.OWNER, MemberRole.ADMIN, MemberRole.DEVELOPER)))
+                .thenReturn(new Member());
+        when(issueChangeTracker.nextChangeNumber(projectId)).thenReturn(3L);
+        when(issueRepository.findByIdAndProjectId(1L, projectId)).thenReturn(Optional.of(issue));
+        when(issueRepository.findByIdAndProjectId(2L, projectId)).thenReturn(Optional.of(neighbour));
+        when(issueRepository.findNextRank(projectId, "m", 1L)).thenReturn(Optional.of("n"));
+        when(issueRepository.save(issue)).thenReturn(issue);
+        when(dtoMapper.mapToIssueResponse(issue)).thenReturn(new IssueResponse());
+
+        // Act
+        issueService.rankIssue(1L, projectId, new IssueRankRequest(2L, null, IssueStatus.DONE));
+
+        // Assert
+        assertEquals("mi", issue.getRank());
+        assertEquals(IssueStatus.DONE, issue.getStatus());
+        assertEquals(3L, issue.getChangeNumber());
+        verifyNoInteractions(issueRankRebalancer);
+    }
+
+    @Test
+    void rankIssue_WhenPlacedBeforeFirstIssue_ShouldRankBeforeIt() {
+        // Arrange
+        Long projectId = 1L;
+        Issue issue = Issue.builder().id(1L).rank("z").build();
+        Issue neighbour = Issue.builder().id(2L).rank("i").build();
+
+        when(memberService.assertMemberIsAuthorized(projectId, EnumSet.of(MemberRole.OWNER, MemberRole.ADMIN, MemberRole.DEVELOPER)))
+                .thenReturn(new Member());
+        when(issueRepository.findByIdAndProjectId(1L, projectId)).thenReturn(Optional.of(issue));
+        when(issueRepository.findByIdAndProjectId(2L, projectId)).thenReturn(Optional.of(neighbour));
+        when(issueRepository.findPreviousRank(projectId, "i", 1L)).thenReturn(Optional.empty());
+        when(issueRepository.save(issue)).thenReturn(issue);
+
+        // Act
+        issueService.rankIssue(1L, projectId, new IssueRankRequest(null, 2L, null));
+
+        // Assert
+        assertTrue(issue.getRank().compareTo("i") < 0);
+    }
+
+    @Test
+    void rankIssue_WhenNeighbourIsNotRanked_ShouldRebalanceProjectFirst() {
+        // Arrange
+        Long projectId = 1L;
+        Issue issue = Issue.builder().id(1L).build();
+        Issue neighbour = Issue.builder().id(2L).build();
+
+        when(memberService.assertMemberIsAuthorized(projectId, EnumSet.of(MemberRole.OWNER, MemberRole.ADMIN, MemberRole.DEVELOPER)))
+                .thenReturn(new Member());
+        when(issueRepository.findByIdAndProjectId(1L, projectId)).thenReturn(Optional.of(issue));
+        when(issueRepository.findByIdAndProjectId(2L, projectId)).thenReturn(Optional.of(neighbour));
+        doAnswer(invocation -> {
+            neighbour.setRank("b");
+            issue.setRank("c");
+            return null;
+        }).when(issueRankRebalancer).rebalance(projectId);
+        when(issueRepository.findNextRank(projectId, "b", 1L)).thenReturn(Optional.empty());
+        when(issueRepository.save(issue)).thenReturn(issue);
+
+        // Act
+        issueService.rankIssue(1L, projectId, new IssueRankRequest(2L, null, null));
+
+        // Assert
+        verify(issueRankRebalancer).rebalance(projectId);
+        assertTrue(issue.getRank().compareTo("b") > 0);
+    }
+
+    @Test
+    void rankIssue_WhenNoNeighbourIsGiven_ShouldThrowInvalidIssueRankException() {
+        // Arrange
+        Long projectId = 1L;
+
+        when(memberService.assertMemberIsAuthorized(projectId, EnumSet.of(MemberRole.OWNER, MemberRole.ADMIN, MemberRole.DEVELOPER)))
+                .thenReturn(new Member());
+
+        // Act & Assert
+        assertThrows(InvalidIssueRankException.class,
+                () -> issueService.rankIssue(1L, projectId, new IssueRankRequest(null, null, IssueStatus.DONE)));
+        verifyNoInteractions(issueRepository);
+    }
+}
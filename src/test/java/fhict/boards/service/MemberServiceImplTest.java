@@ -11,18 +11,25 @@ import fhict.boards.repository.entity.Member;
 import fhict.boards.repository.entity.Project;
 import fhict.boards.repository.entity.User;
 import fhict.boards.security.token.AccessToken;
+import fhict.boards.security.token.ProjectMembershipClaim;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,6 +43,8 @@ class MemberServiceImplTest {
     @Mock
     private NotificationRepository notificationRepository;
     @Mock
+    private UnreadNotificationCounts unreadNotificationCounts;
+    @Mock
     private IssueRepository issueRepository;
     @Mock
     private DtoMapper dtoMapper;
@@ -43,6 +52,14 @@ class MemberServiceImplTest {
     private AccessToken requestAccessToken;
     @Mock
     private CommentRepository commentRepository;
+    @Mock
+    private IssueTombstoneRepository issueTombstoneRepository;
+    @Mock
+    private IssueChangeTracker issueChangeTracker;
+    @Mock
+    private MembershipVersions membershipVersions;
+    @Spy
+    private MemberRoleCache memberRoleCache = new MemberRoleCache(new SimpleMeterRegistry(), mock(ClusterEvents.class), 100, Duration.ofMinutes(1));
     @Test
     void getMemberById_WhenMemberExists_ShouldReturnMemberResponse() {
         // Arrange
@@ -129,6 +146,7 @@ class MemberServiceImplTest {
         when(requestAccessToken.getUserId()).thenReturn(authenticatedUserId);
         doNothing().when(notificationRepository).deleteByMemberId(anyLong());
         doNothing().when(issueRepository).setAssigneeAndCreatedByToNull(anyLong());
+        when(issueChangeTracker.nextChangeNumber(projectId)).thenReturn(7L);
 
         // Act
         memberService.removeMember(memberId);
@@ -136,6 +154,7 @@ class MemberServiceImplTest {
         // Assert
         verify(memberRepository, times(1)).deleteById(memberId);
         verify(notificationRepository, times(1)).deleteByMemberId(memberId);
+        verify(issueRepository).markChangedByMember(eq(memberId), eq(7L), any());
     }
 
     @Test
@@ -273,6 +292,7 @@ class MemberServiceImplTest {
         verify(memberRepository, times(1)).deleteById(memberId);
         verify(notificationRepository, times(1)).deleteByMemberId(memberId);
         verify(notificationRepository, times(1)).deleteByProjectId(projectId);
+        verify(issueTombstoneRepository, times(1)).deleteByProjectId(projectId);
         verify(projectRepository, times(1)).deleteById(projectId);
     }
 
@@ -451,6 +471,237 @@ class MemberServiceImplTest {
         assertThrows(MemberNotFoundException.class, () -> memberService.assertMemberIsAuthorized(projectId, rolesAllowed));
     }
 
+    @Test
+    void assertMemberIsAuthorized_WhenMembershipIsCached_ShouldNotQueryMember() {
+        // Arrange
+        Long projectId = 1L;
+        EnumSet<MemberRole> rolesAllowed = EnumSet.of(MemberRole.ADMIN, MemberRole.DEVELOPER);
+
+        Member member = Member.builder()
+                .id(1L)
+                .user(User.builder().id(2L).build())
+                .role(MemberRole.DEVELOPER)
+                .build();
+        Member reference = Member.builder().id(1L).build();
+
+        when(requestAccessToken.getUserId()).thenReturn(2L);
+        when(memberRepository.findByUserIdAndProjectId(2L, projectId)).thenReturn(Optional.of(member));
+        when(memberRepository.getReferenceById(1L)).thenReturn(reference);
+
+        // Act
+        Member first = memberService.assertMemberIsAuthorized(projectId, rolesAllowed);
+        Member second = memberService.assertMemberIsAuthorized(projectId, rolesAllowed);
+
+        // Assert
+        assertSame(member, first);
+        assertSame(reference, second);
+        verify(memberRepository, times(1)).findByUserIdAndProjectId(2L, projectId);
+    }
+
+    @Test
+    void assertMemberIsAuthorized_WhenRoleWasUpdated_ShouldUseNewRole() {
+        // Arrange
+        Long projectId = 1L;
+        Project project = Project.builder().id(projectId).build();
+        Member target = Member.builder()
+                .id(1L)
+                .user(User.builder().id(2L).build())
+                .project(project)
+                .role(MemberRole.DEVELOPER)
+                .build();
+        Member owner = Member.builder()
+                .id(3L)
+                .user(User.builder().id(4L).build())
+                .project(project)
+                .role(MemberRole.OWNER)
+                .build();
+
+        when(requestAccessToken.getUserId()).thenReturn(2L, 4L, 2L);
+        when(memberRepository.findByUserIdAndProjectId(2L, projectId)).thenReturn(Optional.of(target));
+        when(memberRepository.findByUserIdAndProjectId(4L, projectId)).thenReturn(Optional.of(owner));
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(target));
+
+        memberService.assertMemberIsAuthorized(projectId, EnumSet.of(MemberRole.DEVELOPER));
+
+        // Act
+        memberService.updateMemberRole(1L, new MemberRoleUpdateRequest(MemberRole.VIEWER));
+
+        // Assert
+        assertThrows(ProjectUnauthorizedAccessException.class,
+                () -> memberService.assertMemberIsAuthorized(projectId, EnumSet.of(MemberRole.DEVELOPER)));
+        verify(memberRepository, times(2)).findByUserIdAndProjectId(2L, projectId);
+    }
+
+    @Test
+    void assertMemberIsAuthorized_WhenTokenClaimIsCurrent_ShouldNotQueryMember() {
+        // Arrange
+        Long projectId = 1L;
+        Member reference = Member.builder().id(7L).build();
+
+        when(requestAccessToken.getUserId()).thenReturn(2L);
+        when(requestAccessToken.getProjectMemberships())
+                .thenReturn(Map.of(projectId, new ProjectMembershipClaim(7L, MemberRole.DEVELOPER)));
+        when(requestAccessToken.getMembershipVersion()).thenReturn(4L);
+        when(membershipVersions.isCurrent(2L, 4L)).thenReturn(true);
+        when(memberRepository.getReferenceById(7L)).thenReturn(reference);
+
+        // Act
+        Member result = memberService.assertMemberIsAuthorized(projectId, EnumSet.of(MemberRole.DEVELOPER));
+
+        // Assert
+        assertSame(reference, result);
+        verify(memberRepository, never()).findByUserIdAndProjectId(any(), any());
+    }
+
+    @Test
+    void assertMemberIsAuthorized_WhenTokenClaimIsCurrentButRoleIsNotAllowed_ShouldThrowException() {
+        // Arrange
+        Long projectId = 1L;
+
+        when(requestAccessToken.getUserId()).thenReturn(2L);
+        when(requestAccessToken.getProjectMemberships())
+                .thenReturn(Map.of(projectId, new ProjectMembershipClaim(7L, MemberRole.VIEWER)));
+        when(requestAccessToken.getMembershipVersion()).thenReturn(4L);
+        when(membershipVersions.isCurrent(2L, 4L)).thenReturn(true);
+
+        // Act & Assert
+        assertThrows(ProjectUnauthorizedAccessException.class,
+                () -> memberService.assertMemberIsAuthorized(projectId, EnumSet.of(MemberRole.DEVELOPER)));
+        verifyNoInteractions(memberRepository);
+    }
+
+    @Test
+    void assertMemberIsAuthorized_WhenTokenClaimIsStale_ShouldCheckMembership() {
+        // Arrange
+        Long projectId = 1L;
+        Member member = Member.builder().id(7L).role(MemberRole.VIEWER).build();
+
+        when(requestAccessToken.getUserId()).thenReturn(2L);
+        when(requestAccessToken.getProjectMemberships())
+                .thenReturn(Map.of(projectId, new ProjectMembershipClaim(7L, MemberRole.DEVELOPER)));
+        when(requestAccessToken.getMembershipVersion()).thenReturn(3L);
+        when(membershipVersions.isCurrent(2L, 3L)).thenReturn(false);
+        when(memberRepository.findByUserIdAndProjectId(2L, projectId)).thenReturn(Optional.of(member));
+
+        // Act & Assert
+        assertThrows(ProjectUnauthorizedAccessException.class,
+                () -> memberService.assertMemberIsAuthorized(projectId, EnumSet.of(MemberRole.DEVELOPER)));
+    }
+
+    @Test
+    void resolveProjectAccess_WhenMembershipIsLoaded_ShouldReturnMemberAndProjectWithoutFurtherQueries() {
+        // Arrange
+        Long projectId = 1L;
+        AccessToken accessToken = AccessToken.builder().userId(2L).build();
+        Project project = Project.builder().id(projectId).build();
+        Member member = Member.builder().id(7L).project(project).role(MemberRole.DEVELOPER).build();
+
+        when(memberRepository.findByUserIdAndProjectId(2L, projectId)).thenReturn(Optional.of(member));
+
+        // Act
+        ProjectAccess result = memberService.resolveProjectAccess(accessToken, projectId, EnumSet.of(MemberRole.DEVELOPER));
+
+        // Assert
+        assertSame(member, result.member());
+        assertSame(project, result.project());
+        assertEquals(MemberRole.DEVELOPER, result.role());
+        verify(memberRepository, times(1)).findByUserIdAndProjectId(2L, projectId);
+        verifyNoMoreInteractions(memberRepository);
+        verifyNoInteractions(projectRepository, requestAccessToken);
+    }
+
+    @Test
+    void resolveProjectAccess_WhenTokenClaimIsCurrent_ShouldNotQueryMemberOrProject() {
+        // Arrange
+        Long projectId = 1L;
+        AccessToken accessToken = AccessToken.builder()
+                .userId(2L)
+                .projectMemberships(Map.of(projectId, new ProjectMembershipClaim(7L, MemberRole.ADMIN)))
+                .membershipVersion(4L)
+                .build();
+        Member memberReference = Member.builder().id(7L).build();
+        Project projectReference = Project.builder().id(projectId).build();
+
+        when(membershipVersions.isCurrent(2L, 4L)).thenReturn(true);
+        when(memberRepository.getReferenceById(7L)).thenReturn(memberReference);
+        when(projectRepository.getReferenceById(projectId)).thenReturn(projectReference);
+
+        // Act
+        ProjectAccess result = memberService.resolveProjectAccess(accessToken, projectId, EnumSet.of(MemberRole.ADMIN));
+
+        // Assert
+        assertSame(memberReference, result.member());
+        assertSame(projectReference, result.project());
+        assertEquals(MemberRole.ADMIN, result.role());
+        verify(memberRepository, never()).findByUserIdAndProjectId(any(), any());
+        verify(projectRepository, never()).findById(any());
+    }
+
+    @Test
+    void resolveProjectAccess_WhenUserIsNotAMember_ShouldThrowMemberNotFoundException() {
+        // Arrange
+        Long projectId = 1L;
+        AccessToken accessToken = AccessToken.builder().userId(2L).build();
+
+        when(memberRepository.findByUserIdAndProjectId(2L, projectId)).thenReturn(Optional.empty());
+        when(projectRepository.existsById(projectId)).thenReturn(true);
+
+        // Act & Assert
+        assertThrows(MemberNotFoundException.class,
+                () -> memberService.resolveProjectAccess(accessToken, projectId, EnumSet.of(MemberRole.VIEWER)));
+    }
+
+    @Test
+    void resolveProjectAccess_WhenProjectDoesNotExist_ShouldThrowProjectNotFoundException() {
+        // Arrange
+        Long projectId = 1L;
+        AccessToken accessToken = AccessToken.builder().userId(2L).build();
+
+        when(memberRepository.findByUserIdAndProjectId(2L, projectId)).thenReturn(Optional.empty());
+        when(projectRepository.existsById(projectId)).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(ProjectNotFoundException.class,
+                () -> memberService.resolveProjectAccess(accessToken, projectId, EnumSet.of(MemberRole.VIEWER)));
+    }
+
+    @Test
+    void resolveProjectAccess_WhenRoleIsNotAllowed_ShouldThrowException() {
+        // Arrange
+        Long projectId = 1L;
+        AccessToken accessToken = AccessToken.builder().userId(2L).build();
+        Member member = Member.builder().id(7L).role(MemberRole.VIEWER).build();
+
+        when(memberRepository.findByUserIdAndProjectId(2L, projectId)).thenReturn(Optional.of(member));
+
+        // Act & Assert
+        assertThrows(ProjectUnauthorizedAccessException.class,
+                () -> memberService.resolveProjectAccess(accessToken, projectId, EnumSet.of(MemberRole.OWNER, MemberRole.ADMIN, MemberRole.DEVELOPER)));
+    }
+
+    @Test
+    void removeMember_WhenMemberIsRemoved_ShouldEvictCachedMembership() {
+        // Arrange
+        Long projectId = 1L;
+        Member target = Member.builder()
+                .id(1L)
+                .user(User.builder().id(2L).build())
+                .project(Project.builder().id(projectId).build())
+                .role(MemberRole.DEVELOPER)
+                .build();
+
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(target));
+        when(memberRepository.countByProjectId(projectId)).thenReturn(2L);
+        when(requestAccessToken.getUserId()).thenReturn(2L);
+
+        // Act
+        memberService.removeMember(1L);
+
+        // Assert
+        verify(membershipVersions).bump(List.of(2L));
+        verify(memberRoleCache).evict(2L, projectId);
+    }
+
 
     @Test
     void getCurrentMember_WhenMemberExists_ShouldReturnMemberResponse() {
@@ -0,0 +1,154 @@
+package fhict.boards.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import fhict.boards.repository.NotificationOutboxRepository;
+import fhict.boards.repository.entity.NotificationOutboxMessage;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationOutboxDispatcherTest {
+    @Mock
+    private NotificationOutboxRepository notificationOutboxRepository;
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    private MeterRegistry meterRegistry;
+    private NotificationOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dispatcher = new NotificationOutboxDispatcher(notificationOutboxRepository, messagingTemplate,
+                new ObjectMapper(), meterRegistry, 100, 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.destroy();
+    }
+
+    @Test
+    void dispatch_WhenMessagesAreDue_ShouldSendAndDeleteThem() {
+        // Arrange
+        NotificationOutboxMessage first = message(1L, 2L, 0);
+        NotificationOutboxMessage second = message(2L, 3L, 0);
+
+        when(notificationOutboxRepository.findDueIds(any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(1L, 2L));
+        when(notificationOutboxRepository.findByClaimIdOrderById(anyString())).thenReturn(List.of(first, second));
+        when(notificationOutboxRepository.findOldestCreatedOn()).thenReturn(Optional.empty());
+
+        // Act
+        dispatcher.dispatch();
+
+        // Assert
+        verify(notificationOutboxRepository).claim(eq(List.of(1L, 2L)), anyString(), any(LocalDateTime.class), any(LocalDateTime.class));
+        verify(messagingTemplate).convertAndSendToUser("2", NotificationOutboxDispatcher.DESTINATION, JsonNodeFactory.instance.objectNode().put("id", 1));
+        verify(messagingTemplate).convertAndSendToUser("3", NotificationOutboxDispatcher.DESTINATION, JsonNodeFactory.instance.objectNode().put("id", 2));
+        verify(notificationOutboxRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        assertEquals(2, meterRegistry.get("notification.outbox.lag").timer().count());
+    }
+
+    @Test
+    void dispatch_WhenNothingIsDue_ShouldNotClaimOrSend() {
+        // Arrange
+        when(notificationOutboxRepository.findDueIds(any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of());
+        when(notificationOutboxRepository.findOldestCreatedOn()).thenReturn(Optional.empty());
+
+        // Act
+        dispatcher.dispatch();
+
+        // Assert
+        verify(notificationOutboxRepository, never()).claim(any(), any(), any(), any());
+        verifyNoInteractions(messagingTemplate);
+    }
+
+    @Test
+    void dispatch_WhenSendFails_ShouldReleaseClaimAndRetryLater() {
+        // Arrange
+        NotificationOutboxMessage message = message(1L, 2L, 0);
+        message.setClaimId("claim");
+        message.setClaimedUntil(LocalDateTime.now().plusMinutes(1));
+
+        when(notificationOutboxRepository.findDueIds(any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(1L));
+        when(notificationOutboxRepository.findByClaimIdOrderById(anyString())).thenReturn(List.of(message));
+        when(notificationOutboxRepository.findOldestCreatedOn()).thenReturn(Optional.of(message.getCreatedOn()));
+        doThrow(new MessageDeliveryException("Broker unavailable"))
+                .when(messagingTemplate).convertAndSendToUser(anyString(), anyString(), any(Object.class));
+
+        // Act
+        dispatcher.dispatch();
+
+        // Assert
+        verify(notificationOutboxRepository).save(message);
+        verify(notificationOutboxRepository, never()).deleteAllByIdInBatch(any());
+        assertEquals(1, message.getAttempts());
+        assertTrue(message.getNextAttemptOn().isAfter(LocalDateTime.now()));
+        assertNull(message.getClaimId());
+        assertNull(message.getClaimedUntil());
+        assertEquals(1, meterRegistry.get("notification.outbox.failures").tag("outcome", "retried").counter().count());
+        assertTrue(meterRegistry.get("notification.outbox.oldest.age").gauge().value() >= 0);
+    }
+
+    @Test
+    void dispatch_WhenLastAttemptFails_ShouldDropMessage() {
+        // Arrange
+        NotificationOutboxMessage message = message(1L, 2L, 2);
+
+        when(notificationOutboxRepository.findDueIds(any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(1L));
+        when(notificationOutboxRepository.findByClaimIdOrderById(anyString())).thenReturn(List.of(message));
+        when(notificationOutboxRepository.findOldestCreatedOn()).thenReturn(Optional.empty());
+        doThrow(new MessageDeliveryException("Broker unavailable"))
+                .when(messagingTemplate).convertAndSendToUser(anyString(), anyString(), any(Object.class));
+
+        // Act
+        dispatcher.dispatch();
+
+        // Assert
+        verify(notificationOutboxRepository).delete(message);
+        verify(notificationOutboxRepository, never()).save(any());
+        assertEquals(1, meterRegistry.get("notification.outbox.failures").tag("outcome", "dropped").counter().count());
+    }
+
+    @Test
+    void retryDelay_WhenAttemptsGrow_ShouldDoubleUpToMaximum() {
+        // Act & Assert
+        assertEquals(Duration.ofSeconds(1), NotificationOutboxDispatcher.retryDelay(1));
+        assertEquals(Duration.ofSeconds(8), NotificationOutboxDispatcher.retryDelay(4));
+        assertEquals(NotificationOutboxDispatcher.MAX_RETRY_DELAY, NotificationOutboxDispatcher.retryDelay(30));
+    }
+
+    private NotificationOutboxMessage message(Long id, Long receiverUserId, int attempts) {
+        LocalDateTime now = LocalDateTime.now();
+
+        return NotificationOutboxMessage.builder()
+                .id(id)
+                .receiverUserId(receiverUserId)
+                .payload("{\"id\":" + id + "}")
+                .createdOn(now.minusSeconds(1))
+                .attempts(attempts)
+                .nextAttemptOn(now.minusSeconds(1))
+                .build();
+    }
+}
@@ -1,22 +1,39 @@
 package fhict.boards.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fhict.boards.domain.dto.NotificationPageResponse;
 import fhict.boards.domain.dto.NotificationResponse;
+import fhict.boards.domain.dto.NotificationSummaryResponse;
+import fhict.boards.domain.dto.UnreadNotificationCountResponse;
+import fhict.boards.domain.enums.NotificationType;
+import fhict.boards.exception.InvalidCursorException;
+import fhict.boards.exception.InvalidPageLimitException;
 import fhict.boards.exception.NotificationNotFoundException;
 import fhict.boards.exception.UnauthorizedAccessException;
+import fhict.boards.repository.NotificationFeedProjection;
+import fhict.boards.repository.NotificationOutboxRepository;
 import fhict.boards.repository.NotificationRepository;
 import fhict.boards.repository.entity.Member;
 import fhict.boards.repository.entity.Notification;
+import fhict.boards.repository.entity.NotificationOutboxMessage;
 import fhict.boards.repository.entity.User;
 import fhict.boards.security.token.AccessToken;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Sort;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -29,36 +46,87 @@ class NotificationServiceImplTest {
     @Mock
     private NotificationRepository notificationRepository;
     @Mock
+    private UnreadNotificationCounts unreadNotificationCounts;
+    @Mock
     private DtoMapper dtoMapper;
     @Mock
-    private SimpMessagingTemplate messagingTemplate;
+    private NotificationOutboxRepository notificationOutboxRepository;
+    @Mock
+    private NotificationOutboxDispatcher notificationOutboxDispatcher;
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    @Captor
+    private ArgumentCaptor<List<NotificationOutboxMessage>> messagesCaptor;
     @InjectMocks
     private NotificationServiceImpl notificationService;
 
+    private final SpelAwareProxyProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
     @Test
-    void getNotificationsByUserId_WhenValidInput_ShouldReturnListOfNotificationResponses() {
+    void getNotificationsByUserId_WhenNoCursor_ShouldReturnFirstPageWithNextCursor() {
         // Arrange
         Long userId = 1L;
+        LocalDateTime timestamp = LocalDateTime.of(2024, 1, 1, 12, 0, 0, 123_456_000);
+
+        NotificationFeedProjection first = feedItem(3L, timestamp);
+        NotificationFeedProjection second = feedItem(2L, timestamp);
+        NotificationFeedProjection extra = feedItem(1L, timestamp.minusMinutes(1));
 
-        Notification notification1 = Notification.builder().id(1L).build();
-        Notification notification2 = Notification.builder().id(2L).build();
+        when(requestAccessToken.getUserId()).thenReturn(userId);
+        when(notificationRepository.findFeedByUserId(userId, PageRequest.of(0, 3))).thenReturn(List.of(first, second, extra));
 
-        List<Notification> notifications = List.of(notification1, notification2);
+        // Act
+        NotificationPageResponse result = notificationService.getNotificationsByUserId(userId, null, 2);
 
-        NotificationResponse response1 = NotificationResponse.builder().id(1L).build();
-        NotificationResponse response2 = NotificationResponse.builder().id(2L).build();
+        // Assert
+        assertEquals(List.of(3L, 2L), result.getNotifications().stream().map(NotificationSummaryResponse::getId).toList());
+        assertEquals("Sender", result.getNotifications().get(0).getSenderName());
+        assertEquals("PA-3", result.getNotifications().get(0).getIssueKey());
+        assertEquals(CursorCodec.encode(timestamp, 2L), result.getNextCursor());
+        verifyNoInteractions(dtoMapper);
+    }
+
+    @Test
+    void getNotificationsByUserId_WhenCursorIsGiven_ShouldContinueAfterItAndEndWithoutCursor() {
+        // Arrange
+        Long userId = 1L;
+        LocalDateTime timestamp = LocalDateTime.of(2024, 1, 1, 12, 0, 0, 123_456_000);
+        NotificationFeedProjection last = feedItem(1L, timestamp.minusMinutes(1));
 
         when(requestAccessToken.getUserId()).thenReturn(userId);
-        when(notificationRepository.findAllByReceiverUserId(eq(userId), any(Sort.class))).thenReturn(notifications);
-        when(dtoMapper.mapToNotificationResponse(notification1)).thenReturn(response1);
-        when(dtoMapper.mapToNotificationResponse(notification2)).thenReturn(response2);
+        when(notificationRepository.findFeedByUserIdBefore(userId, timestamp, 2L, PageRequest.of(0, 3))).thenReturn(List.of(last));
 
         // Act
-        List<NotificationResponse> result = notificationService.getNotificationsByUserId(userId);
+        NotificationPageResponse result = notificationService.getNotificationsByUserId(userId, CursorCodec.encode(timestamp, 2L), 2);
 
         // Assert
-        assertEquals(List.of(response1, response2), result);
-        verify(dtoMapper, times(2)).mapToNotificationResponse(any(Notification.class));
+        assertEquals(List.of(1L), result.getNotifications().stream().map(NotificationSummaryResponse::getId).toList());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void getNotificationsByUserId_WhenCursorIsInvalid_ShouldThrowInvalidCursorException() {
+        // Arrange
+        Long userId = 1L;
+
+        when(requestAccessToken.getUserId()).thenReturn(userId);
+
+        // Act & Assert
+        assertThrows(InvalidCursorException.class,
+                () -> notificationService.getNotificationsByUserId(userId, CursorCodec.encode("yesterday", 2L), 50));
+        verifyNoInteractions(notificationRepository);
+    }
+
+    @Test
+    void getNotificationsByUserId_WhenLimitIsNotPositive_ShouldThrowInvalidPageLimitException() {
+        // Arrange
+        Long userId = 1L;
+
+        when(requestAccessToken.getUserId()).thenReturn(userId);
+
+        // Act & Assert
+        assertThrows(InvalidPageLimitException.class, () -> notificationService.getNotificationsByUserId(userId, null, 0));
+        verifyNoInteractions(notificationRepository);
     }
 
     @Test
@@ -70,7 +138,35 @@ class NotificationServiceImplTest {
 
         // Act & Assert
         assertThrows(UnauthorizedAccessException.class,
-                () -> notificationService.getNotificationsByUserId(userId));
+                () -> notificationService.getNotificationsByUserId(userId, null, 50));
+    }
+
+    @Test
+    void getUnreadNotificationCount_WhenValidInput_ShouldReturnStoredCount() {
+        // Arrange
+        Long userId = 1L;
+
+        when(requestAccessToken.getUserId()).thenReturn(userId);
+        when(unreadNotificationCounts.get(userId)).thenReturn(3L);
+
+        // Act
+        UnreadNotificationCountResponse response = notificationService.getUnreadNotificationCount(userId);
+
+        // Assert
+        assertEquals(3L, response.getCount());
+        verifyNoInteractions(notificationRepository);
+    }
+
+    @Test
+    void getUnreadNotificationCount_WhenUnauthorized_ShouldThrowUnauthorizedAccessException() {
+        // Arrange
+        Long userId = 1L;
+
+        when(requestAccessToken.getUserId()).thenReturn(userId + 1);
+
+        // Act & Assert
+        assertThrows(UnauthorizedAccessException.class, () -> notificationService.getUnreadNotificationCount(userId));
+        verifyNoInteractions(unreadNotificationCounts);
     }
 
     @Test
@@ -79,14 +175,34 @@ class NotificationServiceImplTest {
         Long userId = 1L;
         Long notificationId = 1L;
 
+        Notification notification = Notification.builder().id(notificationId).receiver(Member.builder().user(User.builder().id(userId).build()).build()).read(false).build();
         when(requestAccessToken.getUserId()).thenReturn(userId);
-        lenient().when(notificationRepository.findById(notificationId)).thenReturn(Optional.of(new Notification()));
+        when(notificationRepository.findById(notificationId)).thenReturn(Optional.of(notification));
 
         // Act
         notificationService.deleteNotification(userId, notificationId);
 
         // Assert
         verify(notificationRepository).deleteById(notificationId);
+        verify(unreadNotificationCounts).add(Map.of(userId, -1L));
+    }
+
+    @Test
+    void deleteNotification_WhenNotificationIsRead_ShouldNotChangeUnreadCount() {
+        // Arrange
+        Long userId = 1L;
+        Long notificationId = 1L;
+
+        Notification notification = Notification.builder().id(notificationId).receiver(Member.builder().user(User.builder().id(userId).build()).build()).read(true).build();
+        when(requestAccessToken.getUserId()).thenReturn(userId);
+        when(notificationRepository.findById(notificationId)).thenReturn(Optional.of(notification));
+
+        // Act
+        notificationService.deleteNotification(userId, notificationId);
+
+        // Assert
+        verify(notificationRepository).deleteById(notificationId);
+        verifyNoInteractions(unreadNotificationCounts);
     }
 
     @Test
@@ -116,6 +232,7 @@ class NotificationServiceImplTest {
 
         // Assert
         verify(notificationRepository).deleteAllByReceiverUserId(userId);
+        verify(unreadNotificationCounts).reset(userId);
     }
 
     @Test
@@ -147,6 +264,7 @@ class NotificationServiceImplTest {
         // Assert
         assertTrue(notification.isRead());
         verify(notificationRepository).save(notification);
+        verify(unreadNotificationCounts).add(Map.of(userId, -1L));
     }
 
     @Test
@@ -178,7 +296,7 @@ class NotificationServiceImplTest {
     }
 
     @Test
-    void createAndSendNotification_WhenValidInput_ShouldSaveAndSendMessage() {
+    void createAndSendNotification_WhenValidInput_ShouldSaveNotificationAndOutboxMessage() throws Exception {
         // Arrange
         Long receiverUserId = 2L;
         Long senderUserId = 1L;
@@ -191,16 +309,120 @@ class NotificationServiceImplTest {
 
         NotificationResponse notificationResponse = NotificationResponse.builder().id(1L).build();
 
-        lenient().when(requestAccessToken.getUserId()).thenReturn(senderUserId);
-        lenient().when(notificationRepository.save(any(Notification.class))).thenReturn(notification);
-        lenient().when(dtoMapper.mapToNotificationResponse(notification)).thenReturn(notificationResponse);
+        when(dtoMapper.mapToNotificationResponse(notification)).thenReturn(notificationResponse);
 
         // Act
         notificationService.createAndSendNotification(notification);
 
         // Assert
-        verify(notificationRepository).save(notification);
-        verify(dtoMapper).mapToNotificationResponse(notification);
-        verify(messagingTemplate).convertAndSendToUser((receiverUserId.toString()), "/queue/notifications", notificationResponse);
+        verify(notificationRepository).saveAll(List.of(notification));
+        verify(notificationOutboxRepository).saveAll(messagesCaptor.capture());
+        NotificationOutboxMessage message = messagesCaptor.getValue().get(0);
+        assertEquals(receiverUserId, message.getReceiverUserId());
+        assertEquals(notificationResponse, objectMapper.readValue(message.getPayload(), NotificationResponse.class));
+        assertEquals(message.getCreatedOn(), message.getNextAttemptOn());
+        verify(notificationOutboxDispatcher).wakeUp();
+    }
+
+    @Test
+    void createAndSendNotifications_WhenNoTransactionIsActive_ShouldSaveAllAndWakeUpDispatcherOnce() {
+        // Arrange
+        Notification first = Notification.builder()
+                .id(1L)
+                .receiver(Member.builder().user(User.builder().id(2L).build()).build())
+                .build();
+        Notification second = Notification.builder()
+                .id(2L)
+                .receiver(Member.builder().user(User.builder().id(3L).build()).build())
+                .build();
+        List<Notification> notifications = List.of(first, second);
+
+        when(dtoMapper.mapToNotificationResponse(first)).thenReturn(NotificationResponse.builder().id(1L).build());
+        when(dtoMapper.mapToNotificationResponse(second)).thenReturn(NotificationResponse.builder().id(2L).build());
+
+        // Act
+        notificationService.createAndSendNotifications(notifications);
+
+        // Assert
+        verify(notificationRepository).saveAll(notifications);
+        verify(notificationOutboxRepository).saveAll(messagesCaptor.capture());
+        assertEquals(List.of(2L, 3L), messagesCaptor.getValue().stream().map(NotificationOutboxMessage::getReceiverUserId).toList());
+        verify(unreadNotificationCounts).add(Map.of(2L, 1L, 3L, 1L));
+        verify(notificationOutboxDispatcher).wakeUp();
+    }
+
+    @Test
+    void createAndSendNotifications_WhenTransactionIsActive_ShouldWakeUpDispatcherAfterCommit() {
+        // Arrange
+        Notification notification = Notification.builder()
+                .id(1L)
+                .receiver(Member.builder().user(User.builder().id(2L).build()).build())
+                .build();
+
+        when(dtoMapper.mapToNotificationResponse(notification)).thenReturn(NotificationResponse.builder().id(1L).build());
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            // Act
+            notificationService.createAndSendNotifications(List.of(notification));
+
+            // Assert
+            verify(notificationOutboxDispatcher, never()).wakeUp();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(notificationOutboxDispatcher).wakeUp();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void createAndSendNotifications_WhenReceiversAreGiven_ShouldInsertAllWithOneStatementAndWriteOutbox() {
+        // Arrange
+        Member sender = Member.builder().id(1L).build();
+        Member first = Member.builder().id(2L).user(User.builder().id(20L).build()).build();
+        Member second = Member.builder().id(3L).user(User.builder().id(30L).build()).build();
+        Notification firstNotification = Notification.builder().id(7L).sender(sender).receiver(first).build();
+        Notification secondNotification = Notification.builder().id(8L).sender(sender).receiver(second).build();
+        ArgumentCaptor<String> batchIdCaptor = ArgumentCaptor.forClass(String.class);
+
+        when(notificationRepository.findByBatchId(batchIdCaptor.capture()))
+                .thenReturn(List.of(firstNotification, secondNotification));
+        when(dtoMapper.mapToNotificationResponse(any(Notification.class))).thenReturn(new NotificationResponse());
+
+        // Act
+        notificationService.createAndSendNotifications(NotificationType.ADDED_TO_PROJECT, sender, List.of(first, second));
+
+        // Assert
+        verify(notificationRepository).insertForReceivers(eq(NotificationType.ADDED_TO_PROJECT), eq(1L), eq(List.of(2L, 3L)),
+                any(LocalDateTime.class), eq(batchIdCaptor.getValue()));
+        verify(notificationRepository, never()).saveAll(any());
+        verify(unreadNotificationCounts).add(Map.of(20L, 1L, 30L, 1L));
+        verify(notificationOutboxRepository).saveAll(messagesCaptor.capture());
+        assertEquals(List.of(20L, 30L), messagesCaptor.getValue().stream().map(NotificationOutboxMessage::getReceiverUserId).toList());
+        verify(notificationOutboxDispatcher).wakeUp();
+    }
+
+    @Test
+    void createAndSendNotifications_WhenNoReceivers_ShouldDoNothing() {
+        // Act
+        notificationService.createAndSendNotifications(NotificationType.ADDED_TO_PROJECT, new Member(), List.of());
+
+        // Assert
+        verifyNoInteractions(notificationRepository, notificationOutboxRepository, notificationOutboxDispatcher, unreadNotificationCounts);
+    }
+
+    @Test
+    void createAndSendNotifications_WhenListIsEmpty_ShouldDoNothing() {
+        // Act
+        notificationService.createAndSendNotifications(List.of());
+
+        // Assert
+        verifyNoInteractions(notificationRepository, notificationOutboxRepository, notificationOutboxDispatcher);
+    }
+
+    private NotificationFeedProjection feedItem(Long id, LocalDateTime timestamp) {
+        return projectionFactory.createProjection(NotificationFeedProjection.class, Map.of("id", id,
+                "type", NotificationType.ASSIGNED_TO_ISSUE, "timestamp", timestamp, "read", false,
+                "senderName", "Sender", "issueKey", "PA-" + id));
     }
-}
\ No newline at end of file
+}
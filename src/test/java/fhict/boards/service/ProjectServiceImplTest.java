@@ -2,7 +2,9 @@ package fhict.boards.service;
 
 import fhict.boards.domain.dto.*;
 import fhict.boards.domain.enums.MemberRole;
+import fhict.boards.domain.enums.NotificationType;
 import fhict.boards.exception.*;
+import fhict.boards.repository.IssueTombstoneRepository;
 import fhict.boards.repository.MemberRepository;
 import fhict.boards.repository.NotificationRepository;
 import fhict.boards.repository.ProjectRepository;
@@ -22,13 +24,13 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.util.Collections;
-import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -46,11 +48,19 @@ class ProjectServiceImplTest {
     @Mock
     private MemberRepository memberRepository;
     @Mock
-    private MemberService memberService;
-    @Mock
     private NotificationService notificationService;
     @Mock
     private NotificationRepository notificationRepository;
+    @Mock
+    private UnreadNotificationCounts unreadNotificationCounts;
+    @Mock
+    private SearchService searchService;
+    @Mock
+    private IssueTombstoneRepository issueTombstoneRepository;
+    @Mock
+    private MemberRoleCache memberRoleCache;
+    @Mock
+    private MembershipVersions membershipVersions;
 
     @Test
     void createProject_WhenValidRequest_ShouldCreateAndReturnProjectResponse() throws IOException {
@@ -70,6 +80,33 @@ class ProjectServiceImplTest {
         assertEquals(ProjectResponse.class, result.getClass());
     }
 
+    @Test
+    void createProject_WhenMembersAreRequested_ShouldInsertMembersAndNotifyAllButOwner() throws IOException {
+        // Arrange
+        ProjectCreateRequest request = new ProjectCreateRequest("ProjectName", "PN", List.of(
+                new MemberRequest("owner@example.com", MemberRole.OWNER),
+                new MemberRequest("dev@example.com", MemberRole.DEVELOPER)));
+        User ownerUser = User.builder().id(1L).email("owner@example.com").build();
+        User developerUser = User.builder().id(2L).email("dev@example.com").build();
+        Member developer = Member.builder().id(6L).user(developerUser).role(MemberRole.DEVELOPER).build();
+        Member owner = Member.builder().id(5L).user(ownerUser).role(MemberRole.OWNER).build();
+
+        when(requestAccessToken.getUserId()).thenReturn(1L);
+        when(userRepository.findByEmailIn(any())).thenReturn(List.of(ownerUser, developerUser));
+        when(projectRepository.save(any())).thenReturn(Project.builder().id(10L).build());
+        when(memberRepository.findByProjectIdAndUserIdIn(eq(10L), any())).thenReturn(List.of(developer, owner));
+        when(dtoMapper.mapToProjectResponse(any())).thenReturn(new ProjectResponse());
+
+        // Act
+        projectService.createProject(request, null);
+
+        // Assert
+        verify(memberRepository).insertMembers(eq(10L), eq(List.of(1L)), eq(MemberRole.OWNER), any());
+        verify(memberRepository).insertMembers(eq(10L), eq(List.of(2L)), eq(MemberRole.DEVELOPER), any());
+        verify(notificationService).createAndSendNotifications(NotificationType.ADDED_TO_PROJECT, owner, List.of(developer));
+        verify(notificationService, never()).createAndSendNotification(any());
+    }
+
     @Test
     void createProject_WhenUserNotFound_ShouldThrowException() {
         // Arrange
@@ -78,7 +115,7 @@ class ProjectServiceImplTest {
         MultipartFile icon = null;
 
         when(requestAccessToken.getUserId()).thenReturn(123L);
-        when(userRepository.findByEmail(anyString())).thenReturn(Optional.empty());
+        when(userRepository.findByEmailIn(any())).thenReturn(Collections.emptyList());
 
         // Act & Assert
         assertThrows(UserNotFoundException.class, () -> projectService.createProject(request, icon));
@@ -155,60 +192,68 @@ class ProjectServiceImplTest {
     }
 
     @Test
-    void updateProjectIcon_WhenProjectExists_ShouldUpdateAndReturnIcon() throws IOException {
+    void getProjectById_WhenUserIsMember_ShouldReturnProjectResponse() {
         // Arrange
         Long projectId = 1L;
-        MultipartFile file = new MockMultipartFile("icon", "iconFile".getBytes());
-        Project project = new Project();
+        Project project = Project.builder().id(projectId).build();
+        ProjectResponse projectResponse = new ProjectResponse();
 
-        when(memberService.assertMemberIsAuthorized(eq(projectId), any(EnumSet.class))).thenReturn(new Member());
         when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
+        when(requestAccessToken.getUserId()).thenReturn(2L);
+        when(memberRepository.existsByUserIdAndProjectId(2L, projectId)).thenReturn(true);
+        when(dtoMapper.mapToProjectResponse(project)).thenReturn(projectResponse);
 
         // Act
-        byte[] result = projectService.updateProjectIcon(projectId, file);
+        ProjectResponse result = projectService.getProjectById(projectId);
 
         // Assert
-        assertNotNull(result);
-        assertEquals("iconFile", new String(result));
+        assertEquals(projectResponse, result);
+        verify(memberRepository, never()).findByUserId(any());
     }
 
     @Test
-    void updateProjectIcon_WhenProjectDoesNotExist_ShouldThrowException() {
+    void getProjectById_WhenUserIsNotMember_ShouldThrowProjectNotFoundException() {
         // Arrange
         Long projectId = 1L;
-        MultipartFile file = new MockMultipartFile("icon", "iconFile".getBytes());
 
-        when(projectRepository.findById(projectId)).thenReturn(Optional.empty());
+        when(projectRepository.findById(projectId)).thenReturn(Optional.of(Project.builder().id(projectId).build()));
+        when(requestAccessToken.getUserId()).thenReturn(2L);
+        when(memberRepository.existsByUserIdAndProjectId(2L, projectId)).thenReturn(false);
 
         // Act & Assert
-        assertThrows(ProjectNotFoundException.class, () -> projectService.updateProjectIcon(projectId, file));
+        assertThrows(ProjectNotFoundException.class, () -> projectService.getProjectById(projectId));
+        verifyNoInteractions(dtoMapper);
     }
 
     @Test
-    void deleteProjectIcon_WhenProjectExists_ShouldRemoveIcon() {
+    void updateProjectIcon_WhenProjectExists_ShouldUpdateAndReturnIcon() throws IOException {
         // Arrange
         Long projectId = 1L;
-        Project project = Project.builder().icon(new byte[0]).build();
-
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
+        MultipartFile file = new MockMultipartFile("icon", "iconFile".getBytes());
+        Project project = Project.builder().id(projectId).build();
+        ProjectAccess projectAccess = new ProjectAccess(new Member(), project, MemberRole.ADMIN);
 
         // Act
-        projectService.deleteProjectIcon(projectId);
+        byte[] result = projectService.updateProjectIcon(projectAccess, file);
 
         // Assert
-        assertNull(project.getIcon());
-        verify(projectRepository).save(project);
+        assertNotNull(result);
+        assertEquals("iconFile", new String(result));
     }
 
     @Test
-    void deleteProjectIcon_WhenProjectDoesNotExist_ShouldThrowException() {
+    void deleteProjectIcon_WhenProjectExists_ShouldRemoveIcon() {
         // Arrange
         Long projectId = 1L;
+        Project project = Project.builder().id(projectId).icon(new byte[0]).build();
+        ProjectAccess projectAccess = new ProjectAccess(new Member(), project, MemberRole.ADMIN);
 
-        when(projectRepository.findById(projectId)).thenReturn(Optional.empty());
+        // Act
+        projectService.deleteProjectIcon(projectAccess);
 
-        // Act & Assert
-        assertThrows(ProjectNotFoundException.class, () -> projectService.deleteProjectIcon(projectId));
+        // Assert
+        assertNull(project.getIcon());
+        verify(projectRepository).save(project);
     }
 
     @Test
@@ -216,14 +261,14 @@ class ProjectServiceImplTest {
         // Arrange
         Long projectId = 1L;
         ProjectUpdateRequest request = new ProjectUpdateRequest("NewProjectName", "NewProjectKey");
-        Project project = new Project();
+        Project project = Project.builder().id(projectId).build();
         ProjectResponse projectResponse = new ProjectResponse();
+        ProjectAccess projectAccess = new ProjectAccess(new Member(), project, MemberRole.ADMIN);
 
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
         when(dtoMapper.mapToProjectResponse(project)).thenReturn(projectResponse);
 
         // Act
-        ProjectResponse result = projectService.updateProjectDetails(projectId, request);
+        ProjectResponse result = projectService.updateProjectDetails(projectAccess, request);
 
         // Assert
         assertEquals(projectResponse, result);
@@ -231,18 +276,6 @@ class ProjectServiceImplTest {
         assertEquals(request.getKey(), project.getKey());
     }
 
-    @Test
-    void updateProjectDetails_WhenProjectDoesNotExist_ShouldThrowException() {
-        // Arrange
-        Long projectId = 1L;
-        ProjectUpdateRequest request = new ProjectUpdateRequest("NewProjectName", "NewProjectKey");
-
-        when(projectRepository.findById(projectId)).thenReturn(Optional.empty());
-
-        // Act & Assert
-        assertThrows(ProjectNotFoundException.class, () -> projectService.updateProjectDetails(projectId, request));
-    }
-
     @Test
     void createProject_WhenDuplicateName_ShouldThrowProjectNameAlreadyExistsException() {
         // Arrange
@@ -263,43 +296,132 @@ class ProjectServiceImplTest {
         // Arrange
         Long projectId = 1L;
         Member authorizedMember = Member.builder().id(1L).role(MemberRole.OWNER).build();
+        ProjectAccess projectAccess = new ProjectAccess(authorizedMember, Project.builder().id(projectId).build(), MemberRole.OWNER);
 
-        when(memberService.assertMemberIsAuthorized(projectId, EnumSet.of(MemberRole.OWNER)))
-                .thenReturn(authorizedMember);
+        when(memberRepository.findUserIdsByProjectId(projectId)).thenReturn(List.of(2L, 3L));
 
         // Act
-        projectService.deleteProject(projectId);
+        projectService.deleteProject(projectAccess);
 
         // Assert
+        verify(membershipVersions).bump(List.of(2L, 3L));
         verify(notificationRepository).deleteByProjectId(projectId);
+        verify(issueTombstoneRepository).deleteByProjectId(projectId);
         verify(projectRepository).deleteById(projectId);
+        verify(memberRoleCache).evictProject(projectId);
+        verify(searchService).removeProject(projectId);
+    }
+
+    @Test
+    void inviteUsers_WhenUsersExist_ShouldInsertMembersPerRoleAndNotifyThemTogether() {
+        // Arrange
+        Long projectId = 1L;
+        Project project = Project.builder().id(projectId).build();
+        Member inviter = Member.builder().id(1L).role(MemberRole.OWNER).build();
+        ProjectAccess projectAccess = new ProjectAccess(inviter, project, MemberRole.OWNER);
+        User first = User.builder().id(2L).email("first@example.com").build();
+        User second = User.builder().id(3L).email("second@example.com").build();
+        InviteUsersRequest request = new InviteUsersRequest(List.of(
+                new MemberRequest("first@example.com", MemberRole.ADMIN),
+                new MemberRequest("Second@example.com", MemberRole.VIEWER)));
+        List<Member> members = List.of(
+                Member.builder().id(5L).user(first).role(MemberRole.ADMIN).build(),
+                Member.builder().id(6L).user(second).role(MemberRole.VIEWER).build());
+
+        when(userRepository.findByEmailIn(Set.of("first@example.com", "Second@example.com"))).thenReturn(List.of(first, second));
+        when(memberRepository.findUserIdsByProjectId(projectId)).thenReturn(List.of(1L));
+        when(memberRepository.findByProjectIdAndUserIdIn(eq(projectId), any())).thenReturn(members);
+        when(dtoMapper.mapToMemberResponse(any(Member.class))).thenReturn(new MemberResponse());
+
+        // Act
+        List<MemberResponse> result = projectService.inviteUsers(projectAccess, request);
+
+        // Assert
+        assertEquals(2, result.size());
+        verify(memberRepository).insertMembers(eq(projectId), eq(List.of(2L)), eq(MemberRole.ADMIN), any());
+        verify(memberRepository).insertMembers(eq(projectId), eq(List.of(3L)), eq(MemberRole.VIEWER), any());
+        verify(memberRepository, never()).save(any());
+        verify(memberRoleCache).evictUsers(projectId, List.of(2L, 3L));
+        verify(notificationService).createAndSendNotifications(NotificationType.ADDED_TO_PROJECT, inviter, members);
     }
 
     @Test
-    void deleteProject_WhenNotAuthorized_ShouldThrowException() {
+    void inviteUsers_WhenUserIsAlreadyMember_ShouldThrowMemberAlreadyExistsException() {
         // Arrange
         Long projectId = 1L;
+        ProjectAccess projectAccess = new ProjectAccess(new Member(), Project.builder().id(projectId).build(), MemberRole.OWNER);
+        User user = User.builder().id(2L).email("john@example.com").build();
+        InviteUsersRequest request = new InviteUsersRequest(List.of(new MemberRequest("john@example.com", MemberRole.DEVELOPER)));
 
-        when(memberService.assertMemberIsAuthorized(projectId, EnumSet.of(MemberRole.OWNER)))
-                .thenThrow(new UnauthorizedAccessException("User is not authorized to delete the project"));
+        when(userRepository.findByEmailIn(any())).thenReturn(List.of(user));
+        when(memberRepository.findUserIdsByProjectId(projectId)).thenReturn(List.of(1L, 2L));
+
+        // Act & Assert
+        assertThrows(MemberAlreadyExistsException.class, () -> projectService.inviteUsers(projectAccess, request));
+        verify(memberRepository, never()).insertMembers(any(), any(), any(), any());
+        verifyNoInteractions(notificationService);
+    }
+
+    @Test
+    void inviteUsers_WhenEmailIsRepeated_ShouldThrowMemberAlreadyExistsExceptionWithoutQuerying() {
+        // Arrange
+        ProjectAccess projectAccess = new ProjectAccess(new Member(), Project.builder().id(1L).build(), MemberRole.OWNER);
+        InviteUsersRequest request = new InviteUsersRequest(List.of(
+                new MemberRequest("john@example.com", MemberRole.DEVELOPER),
+                new MemberRequest("john@example.com", MemberRole.VIEWER)));
 
         // Act & Assert
-        assertThrows(UnauthorizedAccessException.class, () -> projectService.deleteProject(projectId));
-        verifyNoInteractions(notificationRepository, projectRepository);
+        assertThrows(MemberAlreadyExistsException.class, () -> projectService.inviteUsers(projectAccess, request));
+        verifyNoInteractions(userRepository, memberRepository);
+    }
+
+    @Test
+    void inviteUsers_WhenUserNotFound_ShouldThrowUserNotFoundException() {
+        // Arrange
+        ProjectAccess projectAccess = new ProjectAccess(new Member(), Project.builder().id(1L).build(), MemberRole.OWNER);
+        InviteUsersRequest request = new InviteUsersRequest(List.of(new MemberRequest("john@example.com", MemberRole.DEVELOPER)));
+
+        when(userRepository.findByEmailIn(any())).thenReturn(Collections.emptyList());
+
+        // Act & Assert
+        assertThrows(UserNotFoundException.class, () -> projectService.inviteUsers(projectAccess, request));
+        verifyNoInteractions(memberRepository);
+    }
+
+    @Test
+    void inviteUsers_WhenInvitedAsOwner_ShouldThrowProjectUnauthorizedAccessException() {
+        // Arrange
+        ProjectAccess projectAccess = new ProjectAccess(new Member(), Project.builder().id(1L).build(), MemberRole.OWNER);
+        InviteUsersRequest request = new InviteUsersRequest(List.of(new MemberRequest("john@example.com", MemberRole.OWNER)));
+
+        // Act & Assert
+        assertThrows(ProjectUnauthorizedAccessException.class, () -> projectService.inviteUsers(projectAccess, request));
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void reserveIssueNumbers_WhenCounterIsInitialized_ShouldReturnFirstNumberOfBlock() {
+        // Arrange
+        Long projectId = 1L;
+
+        when(projectRepository.incrementLastIssueNumber(projectId, 3)).thenReturn(1);
+        when(projectRepository.findLastIssueNumber(projectId)).thenReturn(13L);
+
+        // Act
+        long result = projectService.reserveIssueNumbers(projectId, 3);
+
+        // Assert
+        assertEquals(11L, result);
     }
 
     @Test
-    void inviteUsers_WhenProjectNotFound_ShouldThrowProjectNotFoundException() {
+    void reserveIssueNumbers_WhenProjectDoesNotExist_ShouldThrowException() {
         // Arrange
         Long projectId = 1L;
-        InviteUsersRequest request = new InviteUsersRequest();
 
-        lenient().when(memberService.assertMemberIsAuthorized(projectId, EnumSet.of(MemberRole.OWNER, MemberRole.ADMIN)))
-                .thenReturn(Member.builder().id(1L).role(MemberRole.OWNER).build());
-        lenient().when(projectRepository.findById(projectId)).thenReturn(Optional.empty());
+        when(projectRepository.incrementLastIssueNumber(projectId, 1)).thenReturn(0);
 
         // Act & Assert
-        assertThrows(ProjectNotFoundException.class, () -> projectService.inviteUsers(projectId, request));
-        verifyNoInteractions(memberRepository, notificationService);
+        assertThrows(ProjectNotFoundException.class, () -> projectService.reserveIssueNumbers(projectId, 1));
     }
-}
\ No newline at end of file
+}
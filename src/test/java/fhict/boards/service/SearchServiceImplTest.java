@@ -0,0 +1,288 @@
+package fhict.boards.service;
+
+import fhict.boards.domain.dto.IssueSearchHitResponse;
+import fhict.boards.domain.dto.IssueSearchResponse;
+import fhict.boards.domain.enums.MemberRole;
+import fhict.boards.exception.InvalidCursorException;
+import fhict.boards.exception.ProjectUnauthorizedAccessException;
+import fhict.boards.repository.CommentBodyProjection;
+import fhict.boards.repository.CommentRepository;
+import fhict.boards.repository.IssueRepository;
+import fhict.boards.repository.IssueSearchProjection;
+import fhict.boards.repository.entity.Member;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SearchServiceImplTest {
+    private static final EnumSet<MemberRole> ALL_ROLES =
+            EnumSet.of(MemberRole.OWNER, MemberRole.ADMIN, MemberRole.DEVELOPER, MemberRole.VIEWER);
+
+    @Mock
+    private IssueRepository issueRepository;
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private MemberService memberService;
+    @Mock
+    private ClusterEvents clusterEvents;
+    @Captor
+    private ArgumentCaptor<Consumer<Long>> handlerCaptor;
+
+    private SearchServiceImpl searchService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        searchService = new SearchServiceImpl(new ByteBuffersDirectory(), issueRepository, commentRepository, memberService,
+                clusterEvents);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        searchService.close();
+    }
+
+    @Test
+    void searchIssues_WhenIssuesMatch_ShouldRankTitleMatchesFirst() {
+        // Arrange
+        index(issue(1L, 1L, "Fix login page", "The button on the dashboard is broken"),
+                issue(2L, 1L, "Dashboard is slow", "Loading takes seconds"));
+
+        when(memberService.assertMemberIsAuthorized(1L, ALL_ROLES)).thenReturn(new Member());
+
+        // Act
+        IssueSearchResponse result = searchService.searchIssues(1L, "dashboard", null, 10);
+
+        // Assert
+        assertEquals(List.of(2L, 1L), result.getHits().stream().map(IssueSearchHitResponse::getId).toList());
+        assertEquals("PROJ-2", result.getHits().get(0).getKey());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void searchIssues_WhenCommentMatches_ShouldReturnIssueOfComment() {
+        // Arrange
+        when(commentRepository.findBodiesByIssueIdIn(anyList()))
+                .thenReturn(List.of(comment(1L, "Reproduced on Firefox only")));
+        index(issue(1L, 1L, "Fix login page", null));
+
+        when(memberService.assertMemberIsAuthorized(1L, ALL_ROLES)).thenReturn(new Member());
+
+        // Act
+        IssueSearchResponse result = searchService.searchIssues(1L, "firefox", null, 10);
+
+        // Assert
+        assertEquals(1, result.getHits().size());
+        assertEquals(1L, result.getHits().get(0).getId());
+    }
+
+    @Test
+    void searchIssues_WhenIssueBelongsToOtherProject_ShouldNotReturnIt() {
+        // Arrange
+        index(issue(1L, 2L, "Dashboard is slow", null));
+
+        when(memberService.assertMemberIsAuthorized(1L, ALL_ROLES)).thenReturn(new Member());
+
+        // Act
+        IssueSearchResponse result = searchService.searchIssues(1L, "dashboard", null, 10);
+
+        // Assert
+        assertTrue(result.getHits().isEmpty());
+    }
+
+    @Test
+    void searchIssues_WhenMoreHitsThanLimit_ShouldPageThroughAllHitsWithCursor() {
+        // Arrange
+        index(issue(1L, 1L, "Dashboard one", null),
+                issue(2L, 1L, "Dashboard two", null),
+                issue(3L, 1L, "Dashboard three", null));
+
+        when(memberService.assertMemberIsAuthorized(1L, ALL_ROLES)).thenReturn(new Member());
+
+        // Act
+        IssueSearchResponse firstPage = searchService.searchIssues(1L, "dashboard", null, 2);
+        IssueSearchResponse secondPage = searchService.searchIssues(1L, "dashboard", firstPage.getNextCursor(), 2);
+
+        // Assert
+        assertEquals(2, firstPage.getHits().size());
+        assertNotNull(firstPage.getNextCursor());
+        assertEquals(1, secondPage.getHits().size());
+        assertNull(secondPage.getNextCursor());
+        assertEquals(List.of(1L, 2L, 3L), List.of(firstPage.getHits().get(0).getId(),
+                firstPage.getHits().get(1).getId(), secondPage.getHits().get(0).getId()));
+    }
+
+    @Test
+    void searchIssues_WhenIndexChangesBetweenPages_ShouldContinueFromFirstPageSnapshot() {
+        // Arrange
+        index(issue(1L, 1L, "Dashboard one", null),
+                issue(2L, 1L, "Dashboard two", null),
+                issue(3L, 1L, "Dashboard three", null));
+
+        when(memberService.assertMemberIsAuthorized(1L, ALL_ROLES)).thenReturn(new Member());
+
+        IssueSearchResponse firstPage = searchService.searchIssues(1L, "dashboard", null, 2);
+        index(issue(4L, 1L, "Dashboard", "Dashboard dashboard"));
+        searchService.removeIssue(3L);
+
+        // Act
+        IssueSearchResponse secondPage = searchService.searchIssues(1L, "dashboard", firstPage.getNextCursor(), 2);
+
+        // Assert
+        assertEquals(List.of(3L), secondPage.getHits().stream().map(IssueSearchHitResponse::getId).toList());
+        assertNull(secondPage.getNextCursor());
+    }
+
+    @Test
+    void searchIssues_WhenCursorIsInvalid_ShouldThrowException() {
+        // Arrange
+        when(memberService.assertMemberIsAuthorized(1L, ALL_ROLES)).thenReturn(new Member());
+
+        // Act & Assert
+        assertThrows(InvalidCursorException.class, () -> searchService.searchIssues(1L, "dashboard", "invalid", 10));
+    }
+
+    @Test
+    void searchIssues_WhenUserIsNotMember_ShouldThrowException() {
+        // Arrange
+        when(memberService.assertMemberIsAuthorized(1L, ALL_ROLES))
+                .thenThrow(new ProjectUnauthorizedAccessException("Not a member"));
+
+        // Act & Assert
+        assertThrows(ProjectUnauthorizedAccessException.class, () -> searchService.searchIssues(1L, "dashboard", null, 10));
+    }
+
+    @Test
+    void removeIssue_WhenIssueIsIndexed_ShouldNoLongerBeFound() {
+        // Arrange
+        index(issue(1L, 1L, "Dashboard is slow", null));
+
+        when(memberService.assertMemberIsAuthorized(1L, ALL_ROLES)).thenReturn(new Member());
+
+        // Act
+        searchService.removeIssue(1L);
+
+        // Assert
+        assertTrue(searchService.searchIssues(1L, "dashboard", null, 10).getHits().isEmpty());
+    }
+
+    @Test
+    void indexIssue_WhenIssueIsUpdated_ShouldReplacePreviousDocument() {
+        // Arrange
+        index(issue(1L, 1L, "Dashboard is slow", null));
+        index(issue(1L, 1L, "Login is slow", null));
+
+        when(memberService.assertMemberIsAuthorized(1L, ALL_ROLES)).thenReturn(new Member());
+
+        // Act
+        IssueSearchResponse result = searchService.searchIssues(1L, "slow", null, 10);
+
+        // Assert
+        assertEquals(1, result.getHits().size());
+        assertEquals("Login is slow", result.getHits().get(0).getTitle());
+    }
+
+    @Test
+    void indexIssue_WhenIssueIsIndexed_ShouldPublishToOtherInstances() {
+        // Act
+        index(issue(1L, 1L, "Dashboard is slow", null));
+
+        // Assert
+        verify(clusterEvents).publish(SearchServiceImpl.ISSUE_INDEXED_EVENT, 1L);
+    }
+
+    @Test
+    void issueIndexedEvent_WhenReceived_ShouldIndexIssueFromDatabase() {
+        // Arrange
+        verify(clusterEvents).subscribe(eq(SearchServiceImpl.ISSUE_INDEXED_EVENT), eq(Long.class), handlerCaptor.capture());
+
+        when(issueRepository.findSearchProjectionsByIdIn(List.of(1L)))
+                .thenReturn(List.of(issue(1L, 1L, "Dashboard is slow", null)));
+        when(memberService.assertMemberIsAuthorized(1L, ALL_ROLES)).thenReturn(new Member());
+
+        // Act
+        handlerCaptor.getValue().accept(1L);
+
+        // Assert
+        List<IssueSearchHitResponse> hits = searchService.searchIssues(1L, "dashboard", null, 10).getHits();
+        assertEquals(List.of(1L), hits.stream().map(IssueSearchHitResponse::getId).toList());
+        verify(clusterEvents, never()).publish(any(), any());
+    }
+
+    @Test
+    void projectRemovedEvent_WhenReceived_ShouldRemoveIssuesOfProject() {
+        // Arrange
+        index(issue(1L, 1L, "Dashboard is slow", null));
+        verify(clusterEvents).subscribe(eq(SearchServiceImpl.PROJECT_REMOVED_EVENT), eq(Long.class), handlerCaptor.capture());
+
+        when(memberService.assertMemberIsAuthorized(1L, ALL_ROLES)).thenReturn(new Member());
+
+        // Act
+        handlerCaptor.getValue().accept(1L);
+
+        // Assert
+        assertTrue(searchService.searchIssues(1L, "dashboard", null, 10).getHits().isEmpty());
+    }
+
+    @Test
+    void rebuildIndex_WhenCalled_ShouldIndexAllIssuesFromDatabase() {
+        // Arrange
+        index(issue(9L, 1L, "Stale dashboard issue", null));
+
+        when(issueRepository.findSearchProjectionsAfter(0L, PageRequest.of(0, 500)))
+                .thenReturn(List.of(issue(1L, 1L, "Dashboard is slow", null)));
+        when(memberService.assertMemberIsAuthorized(1L, ALL_ROLES)).thenReturn(new Member());
+
+        // Act
+        int indexed = searchService.rebuildIndex();
+
+        // Assert
+        assertEquals(1, indexed);
+        List<IssueSearchHitResponse> hits = searchService.searchIssues(1L, "dashboard", null, 10).getHits();
+        assertEquals(List.of(1L), hits.stream().map(IssueSearchHitResponse::getId).toList());
+    }
+
+    private void index(IssueSearchProjection... issues) {
+        for (IssueSearchProjection issue : issues) {
+            when(issueRepository.findSearchProjectionsByIdIn(List.of(issue.getId()))).thenReturn(List.of(issue));
+            searchService.indexIssue(issue.getId());
+        }
+    }
+
+    private static IssueSearchProjection issue(Long id, Long projectId, String title, String description) {
+        return new IssueSearchProjection() {
+            public Long getId() { return id; }
+            public Long getProjectId() { return projectId; }
+            public String getIssueKey() { return "PROJ-" + id; }
+            public String getTitle() { return title; }
+            public String getDescription() { return description; }
+        };
+    }
+
+    private static CommentBodyProjection comment(Long issueId, String body) {
+        return new CommentBodyProjection() {
+            public Long getIssueId() { return issueId; }
+            public String getBody() { return body; }
+        };
+    }
+}
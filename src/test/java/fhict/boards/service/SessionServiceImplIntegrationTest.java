@@ -0,0 +1,59 @@
+package fhict.boards.service;
+
+import fhict.boards.domain.dto.AccessTokenResponse;
+import fhict.boards.domain.enums.AccessRole;
+import fhict.boards.exception.InvalidRefreshTokenException;
+import fhict.boards.repository.RefreshTokenRepository;
+import fhict.boards.repository.RevokedSessionRepository;
+import fhict.boards.repository.UserRepository;
+import fhict.boards.repository.entity.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs refresh token rotation against a database, so the transaction that detects a reused token commits
+ * the revocation of its session.
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:h2.properties")
+class SessionServiceImplIntegrationTest {
+    @Autowired
+    private SessionService sessionService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+    @Autowired
+    private RevokedSessionRepository revokedSessionRepository;
+
+    @Test
+    void refreshSession_WhenTokenIsReused_ShouldEndSessionAndRefuseRotatedToken() {
+        // Arrange
+        User user = userRepository.save(User.builder()
+                .name("John")
+                .email("john.reuse@example.com")
+                .password("password")
+                .accessRole(AccessRole.USER)
+                .build());
+
+        AccessTokenResponse started = sessionService.startSession(user);
+        AccessTokenResponse rotated = sessionService.refreshSession(started.getRefreshToken());
+        String sessionId = refreshTokenRepository.findSessionIdsByUserId(user.getId()).get(0);
+
+        // Act
+        assertThrows(InvalidRefreshTokenException.class, () -> sessionService.refreshSession(started.getRefreshToken()));
+
+        // Assert
+        assertThrows(InvalidRefreshTokenException.class, () -> sessionService.refreshSession(rotated.getRefreshToken()));
+        assertTrue(refreshTokenRepository.findSessionIdsByUserId(user.getId()).isEmpty());
+        assertTrue(revokedSessionRepository.findByExpiresOnAfter(LocalDateTime.now())
+                .stream()
+                .anyMatch(revokedSession -> revokedSession.getSessionId().equals(sessionId)));
+    }
+}
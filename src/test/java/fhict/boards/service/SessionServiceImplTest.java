@@ -0,0 +1,257 @@
+package fhict.boards.service;
+
+import fhict.boards.domain.dto.AccessTokenResponse;
+import fhict.boards.domain.enums.AccessRole;
+import fhict.boards.domain.enums.MemberRole;
+import fhict.boards.exception.InvalidRefreshTokenException;
+import fhict.boards.repository.MemberRepository;
+import fhict.boards.repository.RefreshTokenRepository;
+import fhict.boards.repository.RevokedSessionRepository;
+import fhict.boards.repository.UserMembershipProjection;
+import fhict.boards.repository.entity.RefreshToken;
+import fhict.boards.repository.entity.RevokedSession;
+import fhict.boards.repository.entity.User;
+import fhict.boards.security.token.AccessToken;
+import fhict.boards.security.token.AccessTokenSerializer;
+import fhict.boards.security.token.ProjectMembershipClaim;
+import fhict.boards.security.token.RevokedSessions;
+import fhict.boards.security.token.TokenDigest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SessionServiceImplTest {
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+    @Mock
+    private RevokedSessionRepository revokedSessionRepository;
+    @Mock
+    private AccessTokenSerializer accessTokenSerializer;
+    @Mock
+    private MemberRepository memberRepository;
+    @Mock
+    private MembershipVersions membershipVersions;
+
+    private RevokedSessions revokedSessions;
+    private SessionServiceImpl sessionService;
+
+    private final User user = User.builder()
+            .id(1L)
+            .email("john@example.com")
+            .accessRole(AccessRole.USER)
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        revokedSessions = new RevokedSessions();
+        sessionService = new SessionServiceImpl(refreshTokenRepository, revokedSessionRepository,
+                accessTokenSerializer, revokedSessions, memberRepository, membershipVersions, Duration.ofDays(30), false);
+    }
+
+    @Test
+    void startSession_WhenCalled_ShouldStoreRefreshTokenDigestAndReturnTokens() {
+        // Arrange
+        ArgumentCaptor<AccessToken> accessTokenCaptor = ArgumentCaptor.forClass(AccessToken.class);
+        ArgumentCaptor<RefreshToken> refreshTokenCaptor = ArgumentCaptor.forClass(RefreshToken.class);
+        when(accessTokenSerializer.encode(accessTokenCaptor.capture())).thenReturn("encoded_token");
+
+        // Act
+        AccessTokenResponse response = sessionService.startSession(user);
+
+        // Assert
+        verify(refreshTokenRepository).save(refreshTokenCaptor.capture());
+        RefreshToken savedToken = refreshTokenCaptor.getValue();
+        AccessToken accessToken = accessTokenCaptor.getValue();
+
+        assertEquals("encoded_token", response.getAccessToken());
+        assertNotNull(response.getRefreshToken());
+        assertEquals(TokenDigest.sha256(response.getRefreshToken()), savedToken.getTokenHash());
+        assertEquals(accessToken.getSessionId(), savedToken.getSessionId());
+        assertEquals(1L, accessToken.getUserId());
+        assertTrue(savedToken.getExpiresOn().isAfter(LocalDateTime.now().plusDays(29)));
+    }
+
+    @Test
+    void refreshSession_WhenTokenIsValid_ShouldRotateTokenWithinSession() {
+        // Arrange
+        RefreshToken token = refreshToken("session", LocalDateTime.now().plusDays(1), null);
+        ArgumentCaptor<RefreshToken> refreshTokenCaptor = ArgumentCaptor.forClass(RefreshToken.class);
+
+        when(refreshTokenRepository.findByTokenHash(TokenDigest.sha256("refresh_token"))).thenReturn(Optional.of(token));
+        when(refreshTokenRepository.markUsed(eq(5L), any(LocalDateTime.class))).thenReturn(1);
+        when(accessTokenSerializer.encode(any(AccessToken.class))).thenReturn("encoded_token");
+
+        // Act
+        AccessTokenResponse response = sessionService.refreshSession("refresh_token");
+
+        // Assert
+        verify(refreshTokenRepository).save(refreshTokenCaptor.capture());
+        assertEquals("session", refreshTokenCaptor.getValue().getSessionId());
+        assertNotEquals("refresh_token", response.getRefreshToken());
+        assertFalse(revokedSessions.isRevoked("session"));
+    }
+
+    @Test
+    void refreshSession_WhenTokenWasAlreadyUsed_ShouldRevokeSession() {
+        // Arrange
+        RefreshToken token = refreshToken("session", LocalDateTime.now().plusDays(1), LocalDateTime.now().minusMinutes(1));
+
+        when(refreshTokenRepository.findByTokenHash(TokenDigest.sha256("refresh_token"))).thenReturn(Optional.of(token));
+
+        // Act & Assert
+        assertThrows(InvalidRefreshTokenException.class, () -> sessionService.refreshSession("refresh_token"));
+        verify(refreshTokenRepository).deleteBySessionId("session");
+        verify(revokedSessionRepository).save(any(RevokedSession.class));
+        assertTrue(revokedSessions.isRevoked("session"));
+        verifyNoInteractions(accessTokenSerializer);
+    }
+
+    @Test
+    void refreshSession_WhenTokenIsUsedConcurrently_ShouldRevokeSession() {
+        // Arrange
+        RefreshToken token = refreshToken("session", LocalDateTime.now().plusDays(1), null);
+
+        when(refreshTokenRepository.findByTokenHash(TokenDigest.sha256("refresh_token"))).thenReturn(Optional.of(token));
+        when(refreshTokenRepository.markUsed(eq(5L), any(LocalDateTime.class))).thenReturn(0);
+
+        // Act & Assert
+        assertThrows(InvalidRefreshTokenException.class, () -> sessionService.refreshSession("refresh_token"));
+        assertTrue(revokedSessions.isRevoked("session"));
+    }
+
+    @Test
+    void refreshSession_WhenTokenExpired_ShouldThrowInvalidRefreshTokenException() {
+        // Arrange
+        RefreshToken token = refreshToken("session", LocalDateTime.now().minusMinutes(1), null);
+
+        when(refreshTokenRepository.findByTokenHash(TokenDigest.sha256("refresh_token"))).thenReturn(Optional.of(token));
+
+        // Act & Assert
+        assertThrows(InvalidRefreshTokenException.class, () -> sessionService.refreshSession("refresh_token"));
+        verify(refreshTokenRepository, never()).markUsed(any(), any());
+        assertFalse(revokedSessions.isRevoked("session"));
+    }
+
+    @Test
+    void refreshSession_WhenSessionIsRevoked_ShouldThrowWithoutIssuingTokens() {
+        // Arrange
+        RefreshToken token = refreshToken("session", LocalDateTime.now().plusDays(1), null);
+        revokedSessions.revoke("session", Instant.now().plusSeconds(60));
+
+        when(refreshTokenRepository.findByTokenHash(TokenDigest.sha256("refresh_token"))).thenReturn(Optional.of(token));
+
+        // Act & Assert
+        assertThrows(InvalidRefreshTokenException.class, () -> sessionService.refreshSession("refresh_token"));
+        verify(refreshTokenRepository, never()).markUsed(any(), any());
+        verify(refreshTokenRepository, never()).save(any());
+        verifyNoInteractions(accessTokenSerializer);
+    }
+
+    @Test
+    void refreshSession_WhenTokenIsUnknown_ShouldThrowInvalidRefreshTokenException() {
+        // Arrange
+        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(InvalidRefreshTokenException.class, () -> sessionService.refreshSession("unknown"));
+    }
+
+    @Test
+    void endSession_WhenTokenExists_ShouldRevokeSession() {
+        // Arrange
+        RefreshToken token = refreshToken("session", LocalDateTime.now().plusDays(1), null);
+
+        when(refreshTokenRepository.findByTokenHash(TokenDigest.sha256("refresh_token"))).thenReturn(Optional.of(token));
+
+        // Act
+        sessionService.endSession("refresh_token");
+
+        // Assert
+        verify(refreshTokenRepository).deleteBySessionId("session");
+        assertTrue(revokedSessions.isRevoked("session"));
+    }
+
+    @Test
+    void revokeSessions_WhenSessionIsKept_ShouldRevokeOtherSessionsOnly() {
+        // Arrange
+        when(refreshTokenRepository.findSessionIdsByUserId(1L)).thenReturn(List.of("current", "other"));
+
+        // Act
+        sessionService.revokeSessions(1L, "current");
+
+        // Assert
+        verify(refreshTokenRepository).deleteBySessionId("other");
+        verify(refreshTokenRepository, never()).deleteBySessionId("current");
+        assertTrue(revokedSessions.isRevoked("other"));
+        assertFalse(revokedSessions.isRevoked("current"));
+    }
+
+    @Test
+    void issueAccessToken_WhenRoleClaimsAreEnabled_ShouldEmbedMembershipsAndVersion() {
+        // Arrange
+        SessionServiceImpl claimsSessionService = new SessionServiceImpl(refreshTokenRepository, revokedSessionRepository,
+                accessTokenSerializer, revokedSessions, memberRepository, membershipVersions, Duration.ofDays(30), true);
+        ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+        UserMembershipProjection membership = projectionFactory.createProjection(UserMembershipProjection.class,
+                Map.of("projectId", 10L, "id", 7L, "role", MemberRole.ADMIN));
+        ArgumentCaptor<AccessToken> accessTokenCaptor = ArgumentCaptor.forClass(AccessToken.class);
+
+        when(membershipVersions.load(1L)).thenReturn(Optional.of(4L));
+        when(memberRepository.findMembershipsByUserId(1L)).thenReturn(List.of(membership));
+        when(accessTokenSerializer.encode(accessTokenCaptor.capture())).thenReturn("encoded_token");
+
+        // Act
+        String result = claimsSessionService.issueAccessToken(user, "session");
+
+        // Assert
+        AccessToken accessToken = accessTokenCaptor.getValue();
+        assertEquals("encoded_token", result);
+        assertEquals(4L, accessToken.getMembershipVersion());
+        assertEquals(Map.of(10L, new ProjectMembershipClaim(7L, MemberRole.ADMIN)), accessToken.getProjectMemberships());
+    }
+
+    @Test
+    void issueAccessToken_WhenRoleClaimsAreDisabled_ShouldNotLoadMemberships() {
+        // Arrange
+        ArgumentCaptor<AccessToken> accessTokenCaptor = ArgumentCaptor.forClass(AccessToken.class);
+        when(accessTokenSerializer.encode(accessTokenCaptor.capture())).thenReturn("encoded_token");
+
+        // Act
+        sessionService.issueAccessToken(user, "session");
+
+        // Assert
+        assertNull(accessTokenCaptor.getValue().getProjectMemberships());
+        verifyNoInteractions(memberRepository, membershipVersions);
+    }
+
+    private RefreshToken refreshToken(String sessionId, LocalDateTime expiresOn, LocalDateTime usedOn) {
+        return RefreshToken.builder()
+                .id(5L)
+                .tokenHash(TokenDigest.sha256("refresh_token"))
+                .sessionId(sessionId)
+                .user(user)
+                .issuedOn(LocalDateTime.now().minusDays(1))
+                .expiresOn(expiresOn)
+                .usedOn(usedOn)
+                .build();
+    }
+}
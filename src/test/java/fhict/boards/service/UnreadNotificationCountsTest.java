@@ -0,0 +1,115 @@
+package fhict.boards.service;
+
+import fhict.boards.domain.dto.UnreadNotificationCountResponse;
+import fhict.boards.repository.UnreadNotificationCountProjection;
+import fhict.boards.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UnreadNotificationCountsTest {
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+    @InjectMocks
+    private UnreadNotificationCounts unreadNotificationCounts;
+
+    private final SpelAwareProxyProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
+    @Test
+    void get_WhenCountIsStored_ShouldReadItWithoutCounting() {
+        // Arrange
+        when(userRepository.findUnreadNotificationCountById(1L)).thenReturn(Optional.of(4L));
+
+        // Act
+        long count = unreadNotificationCounts.get(1L);
+
+        // Assert
+        assertEquals(4L, count);
+        verify(userRepository, never()).countUnreadNotifications(anyLong());
+    }
+
+    @Test
+    void get_WhenCountWasNeverStored_ShouldCountOnceAndReadAgain() {
+        // Arrange
+        when(userRepository.findUnreadNotificationCountById(1L))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(2L));
+
+        // Act
+        long count = unreadNotificationCounts.get(1L);
+
+        // Assert
+        assertEquals(2L, count);
+        verify(userRepository).countUnreadNotifications(1L);
+    }
+
+    @Test
+    void add_WhenUsersChangeByDifferentAmounts_ShouldUpdateOncePerAmountAndPushAfterCommit() {
+        // Arrange
+        when(userRepository.findUnreadNotificationCounts(Set.of(1L, 2L, 3L)))
+                .thenReturn(List.of(count(1L, 5L), count(2L, 1L), count(3L, 7L)));
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            // Act
+            unreadNotificationCounts.add(Map.of(1L, 1L, 2L, 1L, 3L, 2L));
+
+            // Assert
+            verify(userRepository).addToUnreadNotificationCounts(argThat(ids -> Set.copyOf(ids).equals(Set.of(1L, 2L))), eq(1L));
+            verify(userRepository).addToUnreadNotificationCounts(List.of(3L), 2L);
+            verifyNoInteractions(messagingTemplate);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(messagingTemplate).convertAndSendToUser("1", UnreadNotificationCounts.DESTINATION, new UnreadNotificationCountResponse(5L));
+            verify(messagingTemplate).convertAndSendToUser("2", UnreadNotificationCounts.DESTINATION, new UnreadNotificationCountResponse(1L));
+            verify(messagingTemplate).convertAndSendToUser("3", UnreadNotificationCounts.DESTINATION, new UnreadNotificationCountResponse(7L));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void subtract_WhenNothingWasRemoved_ShouldDoNothing() {
+        // Act
+        unreadNotificationCounts.subtract(List.of());
+
+        // Assert
+        verifyNoInteractions(userRepository, messagingTemplate);
+    }
+
+    @Test
+    void reset_WhenNoTransactionIsActive_ShouldPushZeroRightAway() {
+        // Arrange
+        when(userRepository.findUnreadNotificationCounts(List.of(1L))).thenReturn(List.of(count(1L, 0L)));
+
+        // Act
+        unreadNotificationCounts.reset(1L);
+
+        // Assert
+        verify(userRepository).resetUnreadNotificationCount(1L);
+        verify(messagingTemplate).convertAndSendToUser("1", UnreadNotificationCounts.DESTINATION, new UnreadNotificationCountResponse(0L));
+    }
+
+    private UnreadNotificationCountProjection count(Long userId, Long count) {
+        return projectionFactory.createProjection(UnreadNotificationCountProjection.class,
+                Map.of("userId", userId, "count", count));
+    }
+}
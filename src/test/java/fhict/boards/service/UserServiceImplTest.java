@@ -9,16 +9,17 @@ import fhict.boards.exception.EmailAlreadyExistsException;
 import fhict.boards.exception.InvalidCredentialsException;
 import fhict.boards.exception.UnauthorizedAccessException;
 import fhict.boards.exception.UserNotFoundException;
+import fhict.boards.repository.CommentRepository;
 import fhict.boards.repository.IssueRepository;
 import fhict.boards.repository.MemberRepository;
 import fhict.boards.repository.NotificationRepository;
 import fhict.boards.repository.UserRepository;
+import fhict.boards.repository.entity.Member;
+import fhict.boards.repository.entity.Project;
 import fhict.boards.repository.entity.User;
 import fhict.boards.security.token.AccessToken;
-import fhict.boards.security.token.AccessTokenSerializer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -27,6 +28,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -42,8 +44,6 @@ class UserServiceImplTest {
     @Mock
     private AccessToken requestAccessToken;
     @Mock
-    private AccessTokenSerializer accessTokenSerializer;
-    @Mock
     private PasswordEncoder passwordEncoder;
     @InjectMocks
     private UserServiceImpl userService;
@@ -52,9 +52,21 @@ class UserServiceImplTest {
     @Mock
     private NotificationRepository notificationRepository;
     @Mock
+    private UnreadNotificationCounts unreadNotificationCounts;
+    @Mock
     private IssueRepository issueRepository;
     @Mock
     private MemberRepository memberRepository;
+    @Mock
+    private MemberRoleCache memberRoleCache;
+    @Mock
+    private SessionService sessionService;
+    @Mock
+    private MembershipVersions membershipVersions;
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private IssueChangeTracker issueChangeTracker;
 
     @Test
     void getAllUsers_WhenUsersExist_ShouldReturnListOfUsers() {
@@ -174,20 +186,25 @@ class UserServiceImplTest {
     void deleteUser_WhenUserExistsAndIsAuthorized_ShouldDeleteUser() {
         Long userId = 1L;
 
+        Member member = Member.builder().id(5L).project(Project.builder().id(7L).build()).build();
+
         when(requestAccessToken.getUserId()).thenReturn(userId);
         when(requestAccessToken.getRole()).thenReturn(AccessRole.USER);
-
-        doNothing().when(notificationRepository).deleteByUserId(userId);
-        doNothing().when(issueRepository).setAssigneeAndCreatedByToNull(userId);
-        doNothing().when(memberRepository).deleteAllByUserId(userId);
-        doNothing().when(userRepository).deleteById(userId);
+        when(memberRepository.findByUserId(userId)).thenReturn(List.of(member));
+        when(issueChangeTracker.nextChangeNumber(7L)).thenReturn(12L);
 
         userService.deleteUser(userId);
 
         verify(userRepository).deleteById(userId);
         verify(notificationRepository).deleteByUserId(userId);
-        verify(issueRepository).setAssigneeAndCreatedByToNull(userId);
+        verify(commentRepository).deleteByCreatedBy_Id(5L);
+        verify(issueRepository).markChangedByMember(eq(5L), eq(12L), any(LocalDateTime.class));
+        verify(issueRepository).setAssigneeAndCreatedByToNull(5L);
+        verify(issueRepository, never()).setAssigneeAndCreatedByToNull(userId);
         verify(memberRepository).deleteAllByUserId(userId);
+        verify(memberRoleCache).evictUser(userId);
+        verify(sessionService).revokeSessions(userId, null);
+        verify(membershipVersions).bump(List.of(userId));
     }
 
     @Test
@@ -287,6 +304,7 @@ class UserServiceImplTest {
         EmailUpdateRequest request = new EmailUpdateRequest(newEmail);
 
         when(requestAccessToken.getUserId()).thenReturn(userId);
+        when(requestAccessToken.getSessionId()).thenReturn("session");
 
         User user = User.builder()
                 .id(userId)
@@ -297,13 +315,14 @@ class UserServiceImplTest {
         when(userRepository.findById(userId)).thenReturn(Optional.of(user));
         when(userRepository.findByEmail(newEmail)).thenReturn(Optional.empty());
         when(userRepository.save(any(User.class))).thenReturn(user);
-        when(accessTokenSerializer.encode(ArgumentMatchers.any(AccessToken.class))).thenReturn("encoded_token");
+        when(sessionService.issueAccessToken(user, "session")).thenReturn("encoded_token");
 
         String result = userService.updateUserEmail(userId, request);
 
         verify(userRepository).findById(userId);
         verify(userRepository).findByEmail(newEmail);
         verify(userRepository).save(user);
+        verify(sessionService).revokeSessions(userId, "session");
 
         assertEquals("encoded_token", result);
         assertEquals(newEmail, user.getEmail());
@@ -323,7 +342,7 @@ class UserServiceImplTest {
         verify(userRepository, Mockito.never()).findById(userIdToChange);
         verify(userRepository, Mockito.never()).findByEmail(newEmail);
         verify(userRepository, Mockito.never()).save(any(User.class));
-        verify(accessTokenSerializer, Mockito.never()).encode(any(AccessToken.class));
+        verify(sessionService, Mockito.never()).issueAccessToken(any(User.class), any());
     }
 
     @Test
@@ -347,7 +366,7 @@ class UserServiceImplTest {
         verify(userRepository).findById(userId);
         verify(userRepository).findByEmail(newEmail);
         verify(userRepository, Mockito.never()).save(any(User.class));
-        verify(accessTokenSerializer, Mockito.never()).encode(any(AccessToken.class));
+        verify(sessionService, Mockito.never()).issueAccessToken(any(User.class), any());
     }
 
     @Test
@@ -376,7 +395,7 @@ class UserServiceImplTest {
         verify(userRepository).findById(userId);
         verify(userRepository).findByEmail(newEmail);
         verify(userRepository, never()).save(any(User.class));
-        verify(accessTokenSerializer, never()).encode(any(AccessToken.class));
+        verify(sessionService, never()).issueAccessToken(any(User.class), any());
     }
 
     @Test
@@ -402,6 +421,7 @@ class UserServiceImplTest {
 
         verify(userRepository).findById(userId);
         verify(userRepository).save(user);
+        verify(sessionService).revokeSessions(eq(userId), any());
 
         String updatedPassword = user.getPassword();
         String encodedNewPassword = passwordEncoder.encode(newPassword);